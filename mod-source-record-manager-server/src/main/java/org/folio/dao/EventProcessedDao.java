@@ -4,6 +4,8 @@ import io.vertx.core.Future;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 
+import java.util.Collection;
+
 public interface EventProcessedDao {
 
   /**
@@ -15,4 +17,32 @@ public interface EventProcessedDao {
    * @return future if the event not processed yet
    */
   Future<RowSet<Row>> save(String handlerId, String eventId, String tenantId);
+
+  /**
+   * Saves eventIds for handlerId to database by a single statement, skipping already existing combinations
+   *
+   * @param handlerId handler id
+   * @param eventIds  event ids
+   * @param tenantId  tenant id
+   * @return future with rows containing event_id of the events that were not processed yet
+   */
+  Future<RowSet<Row>> saveBatch(String handlerId, Collection<String> eventIds, String tenantId);
+
+  /**
+   * Creates daily partitions of the processed events table from the current date up to the specified number of days ahead
+   *
+   * @param daysAhead number of days ahead to create partitions for
+   * @param tenantId  tenant id
+   * @return future completed when partitions are created
+   */
+  Future<Void> createPartitions(int daysAhead, String tenantId);
+
+  /**
+   * Drops daily partitions of the processed events table that are older than the specified number of days
+   *
+   * @param retentionDays number of days processed events are kept for
+   * @param tenantId      tenant id
+   * @return future with number of dropped partitions
+   */
+  Future<Integer> dropExpiredPartitions(int retentionDays, String tenantId);
 }
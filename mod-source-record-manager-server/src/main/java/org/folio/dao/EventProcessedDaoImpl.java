@@ -9,8 +9,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.dao.util.PostgresClientFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.UUID;
+
 import static java.lang.String.format;
 import static org.folio.rest.persist.PostgresClient.convertToPsqlStandard;
 
@@ -21,10 +25,28 @@ public class EventProcessedDaoImpl implements EventProcessedDao {
 
   private static final String TABLE_NAME = "events_processed";
 
-  private static final String INSERT_SQL = "INSERT INTO %s.%s (handler_id, event_id) VALUES ($1, $2)";
+  /**
+   * Uniqueness is guaranteed by primary key within the partition of the current date only,
+   * so the event is also checked against the partitions of the previous dates kept by the retention period.
+   */
+  private static final String INSERT_SQL = "INSERT INTO %1$s.%2$s (handler_id, event_id) SELECT $1::uuid, $2::uuid " +
+    "WHERE NOT EXISTS (SELECT 1 FROM %1$s.%2$s WHERE handler_id = $1::uuid AND event_id = $2::uuid " +
+    "AND processed_date >= current_date - $3::integer AND processed_date < current_date)";
+
+  private static final String INSERT_BATCH_SQL = "INSERT INTO %1$s.%2$s (handler_id, event_id) SELECT $1::uuid, ids.id FROM unnest($2::uuid[]) AS ids(id) " +
+    "WHERE NOT EXISTS (SELECT 1 FROM %1$s.%2$s ep WHERE ep.handler_id = $1::uuid AND ep.event_id = ids.id " +
+    "AND ep.processed_date >= current_date - $3::integer AND ep.processed_date < current_date) " +
+    "ON CONFLICT DO NOTHING RETURNING event_id";
+
+  private static final String CREATE_PARTITIONS_SQL = "SELECT %s.create_events_processed_partitions($1)";
+
+  private static final String DROP_EXPIRED_PARTITIONS_SQL = "SELECT %s.drop_expired_events_processed_partitions($1) AS dropped_count";
 
   private PostgresClientFactory pgClientFactory;
 
+  @Value("${srm.events.processed.retention.days:3}")
+  private int retentionDays;
+
   @Autowired
   public EventProcessedDaoImpl(PostgresClientFactory pgClientFactory) {
     this.pgClientFactory = pgClientFactory;
@@ -35,11 +57,51 @@ public class EventProcessedDaoImpl implements EventProcessedDao {
     Promise<RowSet<Row>> promise = Promise.promise();
     try {
       String query = format(INSERT_SQL, convertToPsqlStandard(tenantId), TABLE_NAME);
-      pgClientFactory.createInstance(tenantId).execute(query, Tuple.of(handlerId, eventId), promise);
+      pgClientFactory.createInstance(tenantId).execute(query, Tuple.of(UUID.fromString(handlerId), UUID.fromString(eventId), retentionDays), promise);
     } catch (Exception e) {
       LOGGER.error("Failed to save handlerId {} and eventId {} combination to table {}", handlerId, eventId, TABLE_NAME, e);
       promise.fail(e);
     }
     return promise.future();
   }
+
+  @Override
+  public Future<RowSet<Row>> saveBatch(String handlerId, Collection<String> eventIds, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(INSERT_BATCH_SQL, convertToPsqlStandard(tenantId), TABLE_NAME);
+      UUID[] eventUuids = eventIds.stream().map(UUID::fromString).toArray(UUID[]::new);
+      pgClientFactory.createInstance(tenantId).execute(query, Tuple.of(UUID.fromString(handlerId), eventUuids, retentionDays), promise);
+    } catch (Exception e) {
+      LOGGER.error("Failed to save batch of {} eventIds for handlerId {} to table {}", eventIds.size(), handlerId, TABLE_NAME, e);
+      promise.fail(e);
+    }
+    return promise.future();
+  }
+
+  @Override
+  public Future<Void> createPartitions(int daysAhead, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(CREATE_PARTITIONS_SQL, convertToPsqlStandard(tenantId));
+      pgClientFactory.createInstance(tenantId).execute(query, Tuple.of(daysAhead), promise);
+    } catch (Exception e) {
+      LOGGER.error("Failed to create partitions of table {} for tenant {}", TABLE_NAME, tenantId, e);
+      promise.fail(e);
+    }
+    return promise.future().mapEmpty();
+  }
+
+  @Override
+  public Future<Integer> dropExpiredPartitions(int retentionDays, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String query = format(DROP_EXPIRED_PARTITIONS_SQL, convertToPsqlStandard(tenantId));
+      pgClientFactory.createInstance(tenantId).execute(query, Tuple.of(retentionDays), promise);
+    } catch (Exception e) {
+      LOGGER.error("Failed to drop expired partitions of table {} for tenant {}", TABLE_NAME, tenantId, e);
+      promise.fail(e);
+    }
+    return promise.future().map(rows -> rows.iterator().next().getInteger("dropped_count"));
+  }
 }
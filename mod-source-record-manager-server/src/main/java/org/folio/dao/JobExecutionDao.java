@@ -2,6 +2,7 @@ package org.folio.dao;
 
 import io.vertx.core.Future;
 import org.folio.dao.util.JobExecutionMutator;
+import org.folio.dao.util.JobExecutionStatusTransition;
 import org.folio.dao.util.SortField;
 import org.folio.rest.jaxrs.model.JobExecution;
 import org.folio.rest.jaxrs.model.JobExecutionDtoCollection;
@@ -28,6 +29,28 @@ public interface JobExecutionDao {
    */
   Future<JobExecutionDtoCollection> getJobExecutionsWithoutParentMultiple(JobExecutionFilter filter, List<SortField> sortFields, int offset, int limit, String tenantId);
 
+  /**
+   * Returns page of JobExecutions that are not PARENT_MULTIPLE without counting all the JobExecutions matching the filter.
+   * If afterId is specified, the JobExecutions following the JobExecution with that id in the specified sort order
+   * are returned (keyset pagination) and offset is ignored.
+   *
+   * @param filter     filter containing conditions by which jobExecutions should be filtered
+   * @param sortFields fields to sort jobExecutions
+   * @param afterId    id of the last JobExecution of the previous page, can be null
+   * @param offset     starting index in a list of results
+   * @param limit      maximum number of results to return
+   * @return future with collection of JobExecutionDto, totalRecords of the collection is not calculated
+   */
+  Future<JobExecutionDtoCollection> getJobExecutionsPageWithoutParentMultiple(JobExecutionFilter filter, List<SortField> sortFields, String afterId, int offset, int limit, String tenantId);
+
+  /**
+   * Counts JobExecutions that are not PARENT_MULTIPLE and match the filter
+   *
+   * @param filter filter containing conditions by which jobExecutions should be filtered
+   * @return future with number of JobExecutions
+   */
+  Future<Integer> countJobExecutionsWithoutParentMultiple(JobExecutionFilter filter, String tenantId);
+
   /**
    * Saves {@link JobExecution} to database
    *
@@ -71,4 +94,15 @@ public interface JobExecutionDao {
    */
   Future<JobExecution> updateBlocking(String jobExecutionId, JobExecutionMutator mutator, String tenantId);
 
+  /**
+   * Changes status of {@link JobExecution} by single statement if its current status is one of the expected ones,
+   * only the status related columns are updated
+   *
+   * @param jobExecutionId JobExecution id
+   * @param transition     status transition to apply
+   * @return future with updated JobExecution, or empty optional if there is no JobExecution
+   * with specified id in one of the expected statuses
+   */
+  Future<Optional<JobExecution>> updateStatus(String jobExecutionId, JobExecutionStatusTransition transition, String tenantId);
+
 }
@@ -10,6 +10,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.dao.util.JobExecutionMutator;
+import org.folio.dao.util.JobExecutionStatusTransition;
 import org.folio.dao.util.PostgresClientFactory;
 import org.folio.dao.util.SortField;
 import org.folio.rest.jaxrs.model.JobExecution;
@@ -24,24 +25,30 @@ import org.folio.rest.persist.SQLConnection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.NotFoundException;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.folio.dao.util.JobExecutionDBConstants.COMPLETED_DATE_FIELD;
+import static org.folio.dao.util.JobExecutionDBConstants.COUNT_JOBS_NOT_PARENT_SQL;
 import static org.folio.dao.util.JobExecutionDBConstants.CURRENTLY_PROCESSED_FIELD;
 import static org.folio.dao.util.JobExecutionDBConstants.ERROR_STATUS_FIELD;
 import static org.folio.dao.util.JobExecutionDBConstants.FILE_NAME_FIELD;
 import static org.folio.dao.util.JobExecutionDBConstants.GET_BY_ID_SQL;
 import static org.folio.dao.util.JobExecutionDBConstants.GET_CHILDREN_JOBS_BY_PARENT_ID_SQL;
+import static org.folio.dao.util.JobExecutionDBConstants.GET_JOBS_NOT_PARENT_PAGE_SQL;
 import static org.folio.dao.util.JobExecutionDBConstants.GET_JOBS_NOT_PARENT_SQL;
+import static org.folio.dao.util.JobExecutionDBConstants.GET_KEYSET_CURSOR_SQL;
 import static org.folio.dao.util.JobExecutionDBConstants.HRID_FIELD;
 import static org.folio.dao.util.JobExecutionDBConstants.ID_FIELD;
 import static org.folio.dao.util.JobExecutionDBConstants.INSERT_SQL;
@@ -62,6 +69,7 @@ import static org.folio.dao.util.JobExecutionDBConstants.TOTAL_COUNT_FIELD;
 import static org.folio.dao.util.JobExecutionDBConstants.TOTAL_FIELD;
 import static org.folio.dao.util.JobExecutionDBConstants.UI_STATUS_FIELD;
 import static org.folio.dao.util.JobExecutionDBConstants.UPDATE_SQL;
+import static org.folio.dao.util.JobExecutionDBConstants.UPDATE_STATUS_SQL;
 import static org.folio.dao.util.JobExecutionDBConstants.USER_ID_FIELD;
 import static org.folio.rest.persist.PostgresClient.convertToPsqlStandard;
 
@@ -88,12 +96,13 @@ public class JobExecutionDaoImpl implements JobExecutionDao {
   public Future<JobExecutionDtoCollection> getJobExecutionsWithoutParentMultiple(JobExecutionFilter filter, List<SortField> sortFields, int offset, int limit, String tenantId) {
     Promise<RowSet<Row>> promise = Promise.promise();
     try {
-      String filterCriteria = filter.buildCriteria();
+      Tuple queryParams = Tuple.of(limit, offset);
+      String filterCriteria = filter.buildCriteria(queryParams);
       String orderByClause = buildOrderByClause(sortFields);
       String jobTable = formatFullTableName(tenantId, TABLE_NAME);
       String progressTable = formatFullTableName(tenantId, PROGRESS_TABLE_NAME);
       String query = format(GET_JOBS_NOT_PARENT_SQL, jobTable, filterCriteria, jobTable, progressTable, filterCriteria,  orderByClause);
-      pgClientFactory.createInstance(tenantId).select(query, Tuple.of(limit, offset), promise);
+      pgClientFactory.createInstance(tenantId).select(query, queryParams, promise);
     } catch (Exception e) {
       LOGGER.error("Error while getting Logs", e);
       promise.fail(e);
@@ -101,6 +110,76 @@ public class JobExecutionDaoImpl implements JobExecutionDao {
     return promise.future().map(this::mapToJobExecutionDtoCollection);
   }
 
+  @Override
+  public Future<JobExecutionDtoCollection> getJobExecutionsPageWithoutParentMultiple(JobExecutionFilter filter, List<SortField> sortFields,
+                                                                                      String afterId, int offset, int limit, String tenantId) {
+    if (afterId == null) {
+      return getJobExecutionsPage(filter, sortFields, null, offset, limit, tenantId);
+    }
+    UUID afterJobExecutionId;
+    try {
+      afterJobExecutionId = UUID.fromString(afterId);
+    } catch (IllegalArgumentException e) {
+      return Future.failedFuture(new BadRequestException(format("Invalid afterId: '%s'", afterId)));
+    }
+    return getKeysetCursor(afterJobExecutionId, sortFields, tenantId)
+      .compose(cursor -> getJobExecutionsPage(filter, sortFields, cursor, 0, limit, tenantId));
+  }
+
+  private Future<JobExecutionDtoCollection> getJobExecutionsPage(JobExecutionFilter filter, List<SortField> sortFields,
+                                                                 Row cursor, int offset, int limit, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String jobTable = formatFullTableName(tenantId, TABLE_NAME);
+      String progressTable = formatFullTableName(tenantId, PROGRESS_TABLE_NAME);
+      String orderByClause = buildOrderByClauseWithTieBreaker(sortFields);
+      Tuple queryParams = Tuple.of(limit, offset);
+      String filterCriteria = filter.buildCriteria(queryParams);
+      String keysetCondition = cursor == null ? "TRUE" : buildKeysetCondition(sortFields, cursor, queryParams);
+      String query = format(GET_JOBS_NOT_PARENT_PAGE_SQL, jobTable, progressTable, filterCriteria, keysetCondition, orderByClause);
+      pgClientFactory.createInstance(tenantId).select(query, queryParams, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error while getting page of Logs", e);
+      promise.fail(e);
+    }
+    return promise.future().map(this::mapToJobExecutionDtoPage);
+  }
+
+  /**
+   * Selects values of the sort fields and id of the JobExecution after which the page starts
+   *
+   * @return future with the row of the values, failed with {@link NotFoundException} if the JobExecution does not exist
+   */
+  private Future<Row> getKeysetCursor(UUID afterJobExecutionId, List<SortField> sortFields, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String columns = Stream.concat(Stream.of(ID_FIELD), CollectionUtils.emptyIfNull(sortFields).stream().map(SortField::getField))
+        .collect(Collectors.joining(", "));
+      String query = format(GET_KEYSET_CURSOR_SQL, columns, formatFullTableName(tenantId, TABLE_NAME));
+      pgClientFactory.createInstance(tenantId).select(query, Tuple.of(afterJobExecutionId), promise);
+    } catch (Exception e) {
+      LOGGER.error("Error while getting jobExecution {} to start page after", afterJobExecutionId, e);
+      promise.fail(e);
+    }
+    return promise.future().compose(rowSet -> rowSet.rowCount() == 0
+      ? Future.failedFuture(new NotFoundException(format("JobExecution with id '%s' specified as afterId was not found", afterJobExecutionId)))
+      : Future.succeededFuture(rowSet.iterator().next()));
+  }
+
+  @Override
+  public Future<Integer> countJobExecutionsWithoutParentMultiple(JobExecutionFilter filter, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      Tuple queryParams = Tuple.tuple();
+      String query = format(COUNT_JOBS_NOT_PARENT_SQL, formatFullTableName(tenantId, TABLE_NAME), filter.buildCriteria(queryParams));
+      pgClientFactory.createInstance(tenantId).select(query, queryParams, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error while counting Logs", e);
+      promise.fail(e);
+    }
+    return promise.future().map(rowSet -> rowSet.iterator().next().getInteger(TOTAL_COUNT_FIELD));
+  }
+
   @Override
   public Future<JobExecutionDtoCollection> getChildrenJobExecutionsByParentId(String parentId, int offset, int limit, String tenantId) {
     Promise<RowSet<Row>> promise = Promise.promise();
@@ -204,6 +283,27 @@ public class JobExecutionDaoImpl implements JobExecutionDao {
     return promise.future();
   }
 
+  @Override
+  public Future<Optional<JobExecution>> updateStatus(String jobExecutionId, JobExecutionStatusTransition transition, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      String preparedQuery = format(UPDATE_STATUS_SQL, formatFullTableName(tenantId, TABLE_NAME));
+      Tuple queryParams = Tuple.of(UUID.fromString(jobExecutionId),
+        transition.getStatus().toString(),
+        transition.getUiStatus().toString(),
+        transition.getErrorStatus() == null ? null : transition.getErrorStatus().toString(),
+        transition.getCompletedDate() == null ? null : transition.getCompletedDate().toInstant().atOffset(ZoneOffset.UTC),
+        transition.getProgressTotal(),
+        transition.getExpectedStatuses().stream().map(JobExecution.Status::toString).toArray(String[]::new));
+      pgClientFactory.createInstance(tenantId).execute(preparedQuery, queryParams, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error updating status of jobExecution with id {}", jobExecutionId, e);
+      promise.fail(e);
+    }
+    return promise.future().map(rowSet -> rowSet.rowCount() == 0 ? Optional.empty()
+      : Optional.of(mapRowToJobExecution(rowSet.iterator().next())));
+  }
+
   private Tuple mapToTuple(JobExecution jobExecution) {
     return Tuple.of(UUID.fromString(jobExecution.getId()),
       jobExecution.getHrId(),
@@ -238,6 +338,14 @@ public class JobExecutionDaoImpl implements JobExecutionDao {
     return jobCollection;
   }
 
+  private JobExecutionDtoCollection mapToJobExecutionDtoPage(RowSet<Row> rowSet) {
+    JobExecutionDtoCollection jobCollection = new JobExecutionDtoCollection().withTotalRecords(0);
+    for (Row row : rowSet) {
+      jobCollection.getJobExecutions().add(mapRowToJobExecutionDto(row));
+    }
+    return jobCollection;
+  }
+
   private JobExecution mapRowToJobExecution(Row row) {
     return new JobExecution()
       .withId(row.getValue(ID_FIELD).toString())
@@ -333,4 +441,89 @@ public class JobExecutionDaoImpl implements JobExecutionDao {
       .collect(Collectors.joining(", ", "ORDER BY ", EMPTY));
   }
 
+  /**
+   * Builds ORDER BY clause which ends with id of JobExecution, so that the order is unambiguous for the keyset pagination.
+   * The id is sorted in the direction of the last sort field, so that a composite index on the sort fields and id can be used.
+   */
+  private String buildOrderByClauseWithTieBreaker(List<SortField> sortFields) {
+    String tieBreaker = format("j.id %s", getTieBreakerOrder(sortFields));
+    return CollectionUtils.isEmpty(sortFields)
+      ? "ORDER BY " + tieBreaker : buildOrderByClause(sortFields) + ", " + tieBreaker;
+  }
+
+  /**
+   * Builds condition selecting JobExecutions which follow the cursor in the order built by {@link #buildOrderByClauseWithTieBreaker},
+   * non-null values of the cursor are added to the query params.
+   * Nulls are taken into account the way postgres sorts them by default: last for ascending order and first for descending one.
+   * If all the fields are sorted in the same direction and the cursor has no null values, the condition is a row value comparison
+   * served by the composite sort index, otherwise the condition is built field by field.
+   */
+  private String buildKeysetCondition(List<SortField> sortFields, Row cursor, Tuple queryParams) {
+    List<SortField> keyFields = new ArrayList<>(CollectionUtils.emptyIfNull(sortFields));
+    keyFields.add(new SortField(ID_FIELD, getTieBreakerOrder(sortFields)));
+    List<String> columns = new ArrayList<>();
+    List<String> cursorParams = new ArrayList<>();
+    for (SortField keyField : keyFields) {
+      Object cursorValue = cursor.getValue(keyField.getField());
+      columns.add("j." + keyField.getField());
+      if (cursorValue == null) {
+        cursorParams.add(null);
+      } else {
+        queryParams.addValue(cursorValue);
+        cursorParams.add("$" + queryParams.size());
+      }
+    }
+
+    boolean uniformOrder = keyFields.stream().allMatch(keyField -> isAscending(keyField) == isAscending(keyFields.get(0)));
+    if (uniformOrder && !cursorParams.contains(null)) {
+      return buildRowValueKeysetCondition(columns, cursorParams, isAscending(keyFields.get(0)));
+    }
+    String condition = "FALSE";
+    for (int i = keyFields.size() - 1; i >= 0; i--) {
+      String column = columns.get(i);
+      String cursorParam = cursorParams.get(i);
+      String followingCondition;
+      String equalCondition;
+      if (cursorParam == null) {
+        followingCondition = isAscending(keyFields.get(i)) ? "FALSE" : format("%s IS NOT NULL", column);
+        equalCondition = format("%s IS NULL", column);
+      } else {
+        followingCondition = isAscending(keyFields.get(i))
+          ? format("%s > %s OR %s IS NULL", column, cursorParam, column) : format("%s < %s", column, cursorParam);
+        equalCondition = format("%s = %s", column, cursorParam);
+      }
+      condition = format("%s OR (%s AND (%s))", followingCondition, equalCondition, condition);
+    }
+    return condition;
+  }
+
+  /**
+   * Builds row value comparison of the columns with the cursor values. Row comparison is not true for rows having null
+   * in the column which decides the order, in ascending order such rows follow the cursor, so they are selected explicitly.
+   */
+  private String buildRowValueKeysetCondition(List<String> columns, List<String> cursorParams, boolean ascending) {
+    StringBuilder condition = new StringBuilder(format("(%s) %s (%s)",
+      String.join(", ", columns), ascending ? ">" : "<", String.join(", ", cursorParams)));
+    if (ascending) {
+      // the last column is id which is never null
+      for (int i = 0; i < columns.size() - 1; i++) {
+        StringBuilder nullAfterEqualValues = new StringBuilder();
+        for (int j = 0; j < i; j++) {
+          nullAfterEqualValues.append(format("%s = %s AND ", columns.get(j), cursorParams.get(j)));
+        }
+        nullAfterEqualValues.append(format("%s IS NULL", columns.get(i)));
+        condition.append(" OR (").append(nullAfterEqualValues).append(")");
+      }
+    }
+    return condition.toString();
+  }
+
+  private boolean isAscending(SortField sortField) {
+    return "asc".equalsIgnoreCase(sortField.getOrder());
+  }
+
+  private String getTieBreakerOrder(List<SortField> sortFields) {
+    return CollectionUtils.isEmpty(sortFields) ? "asc" : sortFields.get(sortFields.size() - 1).getOrder();
+  }
+
 }
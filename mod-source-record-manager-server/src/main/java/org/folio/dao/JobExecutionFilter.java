@@ -1,10 +1,14 @@
 package org.folio.dao;
 
+import io.vertx.sqlclient.Tuple;
+import lombok.EqualsAndHashCode;
 import org.folio.rest.jaxrs.model.JobExecution;
 
-import java.text.SimpleDateFormat;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
@@ -17,9 +21,9 @@ import static org.folio.dao.util.JobExecutionDBConstants.STATUS_FIELD;
 import static org.folio.dao.util.JobExecutionDBConstants.UI_STATUS_FIELD;
 import static org.folio.dao.util.JobExecutionDBConstants.USER_ID_FIELD;
 
+@EqualsAndHashCode
 public class JobExecutionFilter {
 
-  private SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
   private List<JobExecution.Status> statusAny;
   private List<String> profileIdNotAny;
   private JobExecution.Status statusNot;
@@ -81,50 +85,58 @@ public class JobExecutionFilter {
     return this;
   }
 
-  public String buildCriteria() {
+  /**
+   * Builds conditions of WHERE clause with positional parameters instead of the filter values.
+   * Values of the parameters are added to the specified tuple, so numbers of the parameters
+   * continue numbering of the parameters which are already added to the tuple.
+   *
+   * @param params tuple to add values of the parameters to
+   * @return conditions of WHERE clause
+   */
+  public String buildCriteria(Tuple params) {
     StringBuilder conditionBuilder = new StringBuilder("TRUE");
     if (isNotEmpty(statusAny)) {
       List<String> statuses = statusAny.stream()
         .map(JobExecution.Status::toString)
         .collect(Collectors.toList());
 
-      addCondition(conditionBuilder, buildInCondition(STATUS_FIELD, statuses));
+      addCondition(conditionBuilder, buildInCondition(STATUS_FIELD, statuses, params));
     }
     if (isNotEmpty(profileIdNotAny)) {
-      addCondition(conditionBuilder, buildNotInCondition(JOB_PROFILE_ID_FIELD, profileIdNotAny));
+      addCondition(conditionBuilder, buildNotInCondition(JOB_PROFILE_ID_FIELD, toUuids(profileIdNotAny), params));
     }
     if (statusNot != null) {
-      addCondition(conditionBuilder, buildNotEqualCondition(STATUS_FIELD, statusNot.toString()));
+      addCondition(conditionBuilder, buildNotEqualCondition(STATUS_FIELD, statusNot.toString(), params));
     }
     if (isNotEmpty(uiStatusAny)) {
       List<String> uiStatuses = uiStatusAny.stream()
         .map(JobExecution.UiStatus::toString)
         .collect(Collectors.toList());
 
-      addCondition(conditionBuilder, buildInCondition(UI_STATUS_FIELD, uiStatuses));
+      addCondition(conditionBuilder, buildInCondition(UI_STATUS_FIELD, uiStatuses, params));
     }
     if (isNotEmpty(hrIdPattern) && isNotEmpty(fileNamePattern)) {
-      conditionBuilder.append(String.format(" AND (%s OR %s)", buildLikeCondition(HRID_FIELD, hrIdPattern),
-        buildLikeCondition(FILE_NAME_FIELD, fileNamePattern)));
+      conditionBuilder.append(String.format(" AND (%s OR %s)", buildLikeCondition(HRID_FIELD, hrIdPattern, params),
+        buildLikeCondition(FILE_NAME_FIELD, fileNamePattern, params)));
     } else {
       if (isNotEmpty(hrIdPattern)) {
-        addCondition(conditionBuilder, buildLikeCondition(HRID_FIELD, hrIdPattern));
+        addCondition(conditionBuilder, buildLikeCondition(HRID_FIELD, hrIdPattern, params));
       }
       if (isNotEmpty(fileNamePattern)) {
-        addCondition(conditionBuilder, buildLikeCondition(FILE_NAME_FIELD, fileNamePattern));
+        addCondition(conditionBuilder, buildLikeCondition(FILE_NAME_FIELD, fileNamePattern, params));
       }
     }
     if (isNotEmpty(profileIdAny)) {
-      addCondition(conditionBuilder, buildInCondition(JOB_PROFILE_ID_FIELD, profileIdAny));
+      addCondition(conditionBuilder, buildInCondition(JOB_PROFILE_ID_FIELD, toUuids(profileIdAny), params));
     }
     if (isNotEmpty(userId)) {
-      addCondition(conditionBuilder, buildEqualCondition(USER_ID_FIELD, userId));
+      addCondition(conditionBuilder, buildEqualCondition(USER_ID_FIELD, UUID.fromString(userId), params));
     }
     if (completedAfter != null) {
-      addCondition(conditionBuilder, buildGreaterThanOrEqualCondition(COMPLETED_DATE_FIELD, formatter.format(completedAfter)));
+      addCondition(conditionBuilder, buildGreaterThanOrEqualCondition(COMPLETED_DATE_FIELD, toOffsetDateTime(completedAfter), params));
     }
     if (completedBefore != null) {
-      addCondition(conditionBuilder, buildLessThanOrEqualCondition(COMPLETED_DATE_FIELD, formatter.format(completedBefore)));
+      addCondition(conditionBuilder, buildLessThanOrEqualCondition(COMPLETED_DATE_FIELD, toOffsetDateTime(completedBefore), params));
     }
 
     return conditionBuilder.toString();
@@ -134,41 +146,57 @@ public class JobExecutionFilter {
     conditionBuilder.append(" AND ").append(condition);
   }
 
-  private String buildInCondition(String columnName, List<String> values) {
-    String preparedValues = values.stream()
-      .map(s -> String.format("'%s'", s))
-      .collect(Collectors.joining(", "));
+  private String buildInCondition(String columnName, List<?> values, Tuple params) {
+    return String.format("%s IN (%s)", columnName, addParams(values, params));
+  }
 
-    return String.format("%s IN (%s)", columnName, preparedValues);
+  private String buildNotInCondition(String columnName, List<?> values, Tuple params) {
+    return String.format("%s NOT IN (%s)", columnName, addParams(values, params));
   }
 
-  private String buildNotInCondition(String columnName, List<String> values) {
-    String preparedValues = values.stream()
-      .map(s -> String.format("'%s'", s))
-      .collect(Collectors.joining(", "));
+  private String buildEqualCondition(String columnName, Object value, Tuple params) {
+    return String.format("%s = %s", columnName, addParam(value, params));
+  }
 
-    return String.format("%s NOT IN (%s)", columnName, preparedValues);
+  private String buildNotEqualCondition(String columnName, Object value, Tuple params) {
+    return String.format("%s <> %s", columnName, addParam(value, params));
   }
 
-  private String buildEqualCondition(String columnName, String value) {
-    return String.format("%s = '%s'", columnName, value);
+  private String buildGreaterThanOrEqualCondition(String columnName, Object value, Tuple params) {
+    return String.format("%s >= %s", columnName, addParam(value, params));
   }
 
-  private String buildNotEqualCondition(String columnName, String value) {
-    return String.format("%s <> '%s'", columnName, value);
+  private String buildLessThanOrEqualCondition(String columnName, Object value, Tuple params) {
+    return String.format("%s <= %s", columnName, addParam(value, params));
   }
 
-  private String buildGreaterThanOrEqualCondition(String columnName, String value) {
-    return String.format("%s >= '%s'", columnName, value);
+  private String buildLikeCondition(String columnName, String pattern, Tuple params) {
+    String preparedLikePattern = pattern.replace("*", "%");
+    return String.format("%s::text LIKE %s", columnName, addParam(preparedLikePattern, params));
   }
 
-  private String buildLessThanOrEqualCondition(String columnName, String value) {
-    return String.format("%s <= '%s'", columnName, value);
+  /**
+   * Adds parameter per each value, so that the SQL text depends only on the number of values
+   */
+  private String addParams(List<?> values, Tuple params) {
+    return values.stream()
+      .map(value -> addParam(value, params))
+      .collect(Collectors.joining(", "));
   }
 
-  private String buildLikeCondition(String columnName, String pattern) {
-    String preparedLikePattern = pattern.replace("*", "%");
-    return String.format("%s::text LIKE '%s'", columnName, preparedLikePattern);
+  private String addParam(Object value, Tuple params) {
+    params.addValue(value);
+    return "$" + params.size();
+  }
+
+  private List<UUID> toUuids(List<String> ids) {
+    return ids.stream()
+      .map(UUID::fromString)
+      .collect(Collectors.toList());
+  }
+
+  private OffsetDateTime toOffsetDateTime(Date date) {
+    return date.toInstant().atOffset(ZoneOffset.UTC);
   }
 
 }
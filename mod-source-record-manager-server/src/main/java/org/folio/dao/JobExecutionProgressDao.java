@@ -51,4 +51,16 @@ public interface JobExecutionProgressDao {
    * @return future with updated jobExecutionProgress
    */
   Future<JobExecutionProgress> updateByJobExecutionId(String jobExecutionId, UnaryOperator<JobExecutionProgress> progressMutator, String tenantId);
+
+  /**
+   * Atomically increments succeeded and failed records counters of jobExecutionProgress by jobExecutionId
+   * with a single update statement, without locking and re-reading the row in a transaction
+   *
+   * @param jobExecutionId jobExecution id
+   * @param succeededDelta number to add to succeeded records counter
+   * @param failedDelta    number to add to failed records counter
+   * @param tenantId       tenant id
+   * @return future with jobExecutionProgress state right after the increment
+   */
+  Future<JobExecutionProgress> updateCountersByJobExecutionId(String jobExecutionId, int succeededDelta, int failedDelta, String tenantId);
 }
@@ -37,6 +37,7 @@ public class JobExecutionProgressDaoImpl implements JobExecutionProgressDao {
   private static final String TABLE_NAME = "job_execution_progress";
   private static final String INSERT_SQL = "INSERT INTO %s.%s (job_execution_id, total_records_count, succeeded_records_count, error_records_count) VALUES ($1, $2, $3, $4)";
   private static final String UPDATE_SQL = "UPDATE %s.%s SET job_execution_id = $1, total_records_count = $2, succeeded_records_count = $3, error_records_count = $4 WHERE job_execution_id = $1";
+  private static final String UPDATE_COUNTERS_SQL = "UPDATE %s.%s SET succeeded_records_count = succeeded_records_count + $2, error_records_count = error_records_count + $3 WHERE job_execution_id = $1 RETURNING *";
   private static final String SELECT_BY_JOB_EXECUTION_ID = "SELECT * FROM %s.%s WHERE job_execution_id = $1";
   private static final String SELECT_BY_JOB_EXECUTION_ID_FOR_UPDATE = "SELECT * FROM %s.%s WHERE job_execution_id = $1 LIMIT 1 FOR UPDATE";
   private static final String ROLLBACK_MESSAGE = "Rollback transaction. Failed to update jobExecutionProgress with job_execution_id: %s";
@@ -111,6 +112,16 @@ public class JobExecutionProgressDaoImpl implements JobExecutionProgressDao {
     return promise.future();
   }
 
+  @Override
+  public Future<JobExecutionProgress> updateCountersByJobExecutionId(String jobExecutionId, int succeededDelta, int failedDelta, String tenantId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    String query = String.format(UPDATE_COUNTERS_SQL, convertToPsqlStandard(tenantId), TABLE_NAME);
+    Tuple queryParams = Tuple.of(jobExecutionId, succeededDelta, failedDelta);
+    pgClientFactory.createInstance(tenantId).execute(query, queryParams, promise);
+    return promise.future().map(rows -> mapResultSetToOptionalJobExecutionProgress(rows)
+      .orElseThrow(() -> new NotFoundException(String.format(ROLLBACK_MESSAGE, jobExecutionId))));
+  }
+
   private Future<JobExecutionProgress> updateProgressByJobExecutionId(AsyncResult<SQLConnection> tx, JobExecutionProgress progress, String tenantId) {
     Promise<RowSet<Row>> promise = Promise.promise();
     String query = String.format(UPDATE_SQL, convertToPsqlStandard(tenantId), TABLE_NAME);
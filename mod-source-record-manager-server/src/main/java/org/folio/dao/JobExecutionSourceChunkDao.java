@@ -3,7 +3,6 @@ package org.folio.dao;
 import io.vertx.core.Future;
 import org.folio.rest.jaxrs.model.JobExecutionSourceChunk;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,16 +20,6 @@ public interface JobExecutionSourceChunkDao {
    */
   Future<String> save(JobExecutionSourceChunk jobExecutionChunk, String tenantId);
 
-  /**
-   * Searches for {@link JobExecutionSourceChunk} in database by {@code query}
-   *
-   * @param query  query from URL
-   * @param offset starting index in a list of results
-   * @param limit  limit of records for pagination
-   * @return future with list of {@link JobExecutionSourceChunk}
-   */
-  Future<List<JobExecutionSourceChunk>> get(String query, int offset, int limit, String tenantId);
-
   /**
    * Searches JobExecutionSourceChunk by id
    *
@@ -47,6 +36,18 @@ public interface JobExecutionSourceChunkDao {
    */
   Future<JobExecutionSourceChunk> update(JobExecutionSourceChunk jobExecutionChunk, String tenantId);
 
+  /**
+   * Increments processed amount of JobExecutionSourceChunk and optionally changes its state by a single statement,
+   * so that concurrent progress updates of the same chunk are not lost
+   *
+   * @param id                   id of the JobExecutionSourceChunk
+   * @param processedAmountDelta number of records processed since the previous progress update
+   * @param state                new state of the JobExecutionSourceChunk, null to keep the current state
+   * @param tenantId             tenant id
+   * @return future, failed with {@link javax.ws.rs.NotFoundException} if the JobExecutionSourceChunk was not found
+   */
+  Future<Void> updateProgress(String id, int processedAmountDelta, JobExecutionSourceChunk.State state, String tenantId);
+
   /**
    * Deletes JobExecutionSourceChunk from DB
    *
@@ -75,6 +76,16 @@ public interface JobExecutionSourceChunkDao {
    */
   Future<Boolean> containsErrorChunks(String jobExecutionId, String tenantId);
 
+  /**
+   * Checks whether the last chunk of job execution has been received and all the received chunks are processed.
+   * Each chunk is considered being processed if it has ERROR or COMPLETED state.
+   *
+   * @param jobExecutionId - UUID of related JobExecution
+   * @param tenantId       - tenantId
+   * @return - returns a boolean value, which indicates whether processing of all the chunks of job execution is completed
+   */
+  Future<Boolean> isLastChunkReceivedAndAllChunksProcessed(String jobExecutionId, String tenantId);
+
   /**
    * Deletes all JobExecutionSourceChunks associated with specified jobExecution
    *
@@ -8,27 +8,29 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
 
-import java.util.List;
+import java.time.ZoneOffset;
+import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
 
 import javax.ws.rs.NotFoundException;
 
 import org.folio.dao.util.PostgresClientFactory;
 import org.folio.rest.jaxrs.model.JobExecutionSourceChunk;
-import org.folio.rest.persist.Criteria.Criteria;
-import org.folio.rest.persist.Criteria.Criterion;
-import org.folio.rest.persist.cql.CQLWrapper;
-import org.folio.rest.persist.interfaces.Results;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
-import static org.folio.dataimport.util.DaoUtil.constructCriteria;
-import static org.folio.dataimport.util.DaoUtil.getCQLWrapper;
+import static java.lang.String.format;
+import static org.folio.rest.persist.PostgresClient.convertToPsqlStandard;
 
 /**
  * Implementation for the JobExecutionSourceChunkDao, works with PostgresClient to access data.
+ * Per job execution counters of the chunks are maintained by the database triggers of the chunks table,
+ * so that checks of chunks processing completion do not need to scan the chunks of job execution.
  *
  * @see JobExecutionSourceChunk
  * @see JobExecutionSourceChunkDao
@@ -39,129 +41,203 @@ public class JobExecutionSourceChunkDaoImpl implements JobExecutionSourceChunkDa
 
   public static final Logger LOGGER = LogManager.getLogger();
   private static final String TABLE_NAME = "job_execution_source_chunks";
+  private static final String SUMMARY_TABLE_NAME = "job_execution_source_chunks_summary";
   private static final String ID_FIELD = "id";
-  private static final String JOB_EXECUTION_ID_FIELD = "'jobExecutionId'";
-  private static final String IS_PROCESSING_COMPLETED_QUERY = "SELECT is_processing_completed('%s');";
-  private static final String ARE_THERE_ANY_ERRORS_DURING_PROCESSING_QUERY = "SELECT processing_contains_error_chunks('%s');";
+  private static final String JOB_EXECUTION_ID_FIELD = "job_execution_id";
+  private static final String LAST_FIELD = "last";
+  private static final String STATE_FIELD = "state";
+  private static final String CHUNK_SIZE_FIELD = "chunk_size";
+  private static final String PROCESSED_AMOUNT_FIELD = "processed_amount";
+  private static final String CREATED_DATE_FIELD = "created_date";
+  private static final String COMPLETED_DATE_FIELD = "completed_date";
+  private static final String ERROR_FIELD = "error";
+  private static final String INSERT_SQL = "INSERT INTO %s.%s (id, job_execution_id, last, state, chunk_size, processed_amount, " +
+    "created_date, completed_date, error) VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9)";
+  private static final String SELECT_BY_ID_SQL = "SELECT * FROM %s.%s WHERE id = $1";
+  private static final String UPDATE_SQL = "UPDATE %s.%s SET job_execution_id = $2, last = $3, state = $4, chunk_size = $5, " +
+    "processed_amount = $6, created_date = $7, completed_date = $8, error = $9 WHERE id = $1";
+  private static final String UPDATE_PROGRESS_SQL = "UPDATE %s.%s SET processed_amount = COALESCE(processed_amount, 0) + $2, " +
+    "state = COALESCE($3, state) WHERE id = $1";
+  private static final String DELETE_BY_ID_SQL = "DELETE FROM %s.%s WHERE id = $1";
+  private static final String DELETE_BY_JOB_EXECUTION_ID_SQL = "DELETE FROM %s.%s WHERE job_execution_id = $1";
+  private static final String IS_PROCESSING_COMPLETED_SQL = "SELECT completed_chunks + error_chunks = total_chunks FROM %s.%s WHERE job_execution_id = $1";
+  private static final String CONTAINS_ERROR_CHUNKS_SQL = "SELECT error_chunks > 0 FROM %s.%s WHERE job_execution_id = $1";
+  private static final String IS_LAST_CHUNK_RECEIVED_AND_PROCESSING_COMPLETED_SQL =
+    "SELECT last_chunks > 0 AND completed_chunks + error_chunks = total_chunks FROM %s.%s WHERE job_execution_id = $1";
 
   @Autowired
   private PostgresClientFactory pgClientFactory;
 
   @Override
   public Future<String> save(JobExecutionSourceChunk jobExecutionChunk, String tenantId) {
-    Promise<String> promise = Promise.promise();
+    Promise<RowSet<Row>> promise = Promise.promise();
     try {
-      pgClientFactory.createInstance(tenantId).save(TABLE_NAME, jobExecutionChunk.getId(), jobExecutionChunk, promise);
+      if (jobExecutionChunk.getId() == null) {
+        jobExecutionChunk.setId(UUID.randomUUID().toString());
+      }
+      String query = format(INSERT_SQL, convertToPsqlStandard(tenantId), TABLE_NAME);
+      pgClientFactory.createInstance(tenantId).execute(query, mapToTuple(jobExecutionChunk), promise);
     } catch (Exception e) {
       LOGGER.error("Failed to save JobExecutionSourceChunk with id: {}", jobExecutionChunk.getId(), e);
       promise.fail(e);
     }
-    return promise.future();
-  }
-
-  @Override
-  public Future<List<JobExecutionSourceChunk>> get(String query, int offset, int limit, String tenantId) {
-    Promise<Results<JobExecutionSourceChunk>> promise = Promise.promise();
-    try {
-      String[] fieldList = {"*"};
-      CQLWrapper cql = getCQLWrapper(TABLE_NAME, query, limit, offset);
-      pgClientFactory.createInstance(tenantId)
-        .get(TABLE_NAME, JobExecutionSourceChunk.class, fieldList, cql, true, false, promise);
-    } catch (Exception e) {
-      LOGGER.error("Error while searching for JobExecutionSourceChunks", e);
-      promise.fail(e);
-    }
-    return promise.future().map(Results::getResults);
+    return promise.future().map(jobExecutionChunk.getId());
   }
 
   @Override
   public Future<Optional<JobExecutionSourceChunk>> getById(String id, String tenantId) {
-    Promise<Results<JobExecutionSourceChunk>> promise = Promise.promise();
+    Promise<RowSet<Row>> promise = Promise.promise();
     try {
       if (StringUtils.isBlank(id)) {
         LOGGER.warn("Can't retrieve JobExecutionSourceChunk by empty id.");
-        return promise.future().map(Optional.empty());
+        return Future.succeededFuture(Optional.empty());
       }
-      Criteria idCrit = constructCriteria(ID_FIELD, id).setJSONB(false);
-      pgClientFactory.createInstance(tenantId)
-        .get(TABLE_NAME, JobExecutionSourceChunk.class, new Criterion(idCrit), true, false, promise);
+      String query = format(SELECT_BY_ID_SQL, convertToPsqlStandard(tenantId), TABLE_NAME);
+      pgClientFactory.createInstance(tenantId).execute(query, Tuple.of(UUID.fromString(id)), promise);
     } catch (Exception e) {
       LOGGER.error("Error querying JobExecutionSourceChunk by id {}", id, e);
       promise.fail(e);
     }
-    return promise.future()
-      .map(Results::getResults)
-      .map(jobExecutionSourceChunks -> jobExecutionSourceChunks.isEmpty() ? Optional.empty() : Optional.of(jobExecutionSourceChunks.get(0)));
+    return promise.future().map(rowSet -> {
+      RowIterator<Row> iterator = rowSet.iterator();
+      return iterator.hasNext() ? Optional.of(mapRowToJobExecutionSourceChunk(iterator.next())) : Optional.empty();
+    });
   }
 
   @Override
   public Future<JobExecutionSourceChunk> update(JobExecutionSourceChunk jobExecutionChunk, String tenantId) {
-    Promise<JobExecutionSourceChunk> promise = Promise.promise();
+    Promise<RowSet<Row>> promise = Promise.promise();
     try {
-      Criteria idCrit = constructCriteria(ID_FIELD, jobExecutionChunk.getId()).setJSONB(false);
-      pgClientFactory.createInstance(tenantId)
-        .update(TABLE_NAME, jobExecutionChunk, new Criterion(idCrit), true, updateResult -> {
-          if (updateResult.failed()) {
-            LOGGER.error("Could not update jobExecutionSourceChunk with id {}", jobExecutionChunk.getId(), updateResult.cause());
-            promise.fail(updateResult.cause());
-          } else if (updateResult.result().rowCount() != 1) {
-            String errorMessage = String.format("JobExecutionSourceChunk with id '%s' was not found", jobExecutionChunk.getId());
-            LOGGER.error(errorMessage);
-            promise.fail(new NotFoundException(errorMessage));
-          } else {
-            promise.complete(jobExecutionChunk);
-          }
-        });
+      String query = format(UPDATE_SQL, convertToPsqlStandard(tenantId), TABLE_NAME);
+      pgClientFactory.createInstance(tenantId).execute(query, mapToTuple(jobExecutionChunk), promise);
     } catch (Exception e) {
       LOGGER.error("Error updating jobExecutionSourceChunk", e);
       promise.fail(e);
     }
-    return promise.future();
+    return promise.future().compose(updateResult -> {
+      if (updateResult.rowCount() != 1) {
+        String errorMessage = format("JobExecutionSourceChunk with id '%s' was not found", jobExecutionChunk.getId());
+        LOGGER.error(errorMessage);
+        return Future.failedFuture(new NotFoundException(errorMessage));
+      }
+      return Future.succeededFuture(jobExecutionChunk);
+    }).onFailure(e -> LOGGER.error("Could not update jobExecutionSourceChunk with id {}", jobExecutionChunk.getId(), e));
   }
 
   @Override
-  public Future<Boolean> delete(String id, String tenantId) {
+  public Future<Void> updateProgress(String id, int processedAmountDelta, JobExecutionSourceChunk.State state, String tenantId) {
     Promise<RowSet<Row>> promise = Promise.promise();
-    pgClientFactory.createInstance(tenantId).delete(TABLE_NAME, id, promise);
-    return promise.future().map(updateResult -> updateResult.rowCount() == 1);
+    try {
+      String query = format(UPDATE_PROGRESS_SQL, convertToPsqlStandard(tenantId), TABLE_NAME);
+      Tuple queryParams = Tuple.of(UUID.fromString(id), processedAmountDelta, state != null ? state.value() : null);
+      pgClientFactory.createInstance(tenantId).execute(query, queryParams, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error updating progress of jobExecutionSourceChunk with id {}", id, e);
+      promise.fail(e);
+    }
+    return promise.future().compose(updateResult -> {
+      if (updateResult.rowCount() != 1) {
+        String errorMessage = format("JobExecutionSourceChunk with id '%s' was not found", id);
+        LOGGER.error(errorMessage);
+        return Future.failedFuture(new NotFoundException(errorMessage));
+      }
+      return Future.<Void>succeededFuture();
+    });
   }
 
   @Override
-  public Future<Boolean> isAllChunksProcessed(String jobExecutionId, String tenantId) {
+  public Future<Boolean> delete(String id, String tenantId) {
     Promise<RowSet<Row>> promise = Promise.promise();
     try {
-      String query = String.format(IS_PROCESSING_COMPLETED_QUERY, jobExecutionId);
-      pgClientFactory.createInstance(tenantId).select(query, promise);
+      String query = format(DELETE_BY_ID_SQL, convertToPsqlStandard(tenantId), TABLE_NAME);
+      pgClientFactory.createInstance(tenantId).execute(query, Tuple.of(UUID.fromString(id)), promise);
     } catch (Exception e) {
-      LOGGER.error("Error while checking if processing is completed for JobExecution {}", e, jobExecutionId);
+      LOGGER.error("Error deleting JobExecutionSourceChunk with id {}", id, e);
       promise.fail(e);
     }
-    return promise.future().map(resultSet -> resultSet.iterator().next().getBoolean(0));
+    return promise.future().map(updateResult -> updateResult.rowCount() == 1);
+  }
+
+  @Override
+  public Future<Boolean> isAllChunksProcessed(String jobExecutionId, String tenantId) {
+    return selectChunksSummaryFlag(IS_PROCESSING_COMPLETED_SQL, jobExecutionId, true, tenantId)
+      .onFailure(e -> LOGGER.error("Error while checking if processing is completed for JobExecution {}", jobExecutionId, e));
   }
 
   @Override
   public Future<Boolean> containsErrorChunks(String jobExecutionId, String tenantId) {
+    return selectChunksSummaryFlag(CONTAINS_ERROR_CHUNKS_SQL, jobExecutionId, false, tenantId)
+      .onFailure(e -> LOGGER.error("Error while checking if any errors occurred for JobExecution {}", jobExecutionId, e));
+  }
+
+  @Override
+  public Future<Boolean> isLastChunkReceivedAndAllChunksProcessed(String jobExecutionId, String tenantId) {
+    return selectChunksSummaryFlag(IS_LAST_CHUNK_RECEIVED_AND_PROCESSING_COMPLETED_SQL, jobExecutionId, false, tenantId)
+      .onFailure(e -> LOGGER.error("Error while checking if all chunks are received and processed for JobExecution {}", jobExecutionId, e));
+  }
+
+  @Override
+  public Future<Boolean> deleteByJobExecutionId(String jobExecutionId, String tenantId) {
     Promise<RowSet<Row>> promise = Promise.promise();
     try {
-      String query = String.format(ARE_THERE_ANY_ERRORS_DURING_PROCESSING_QUERY, jobExecutionId);
-      pgClientFactory.createInstance(tenantId).select(query, promise);
+      String query = format(DELETE_BY_JOB_EXECUTION_ID_SQL, convertToPsqlStandard(tenantId), TABLE_NAME);
+      pgClientFactory.createInstance(tenantId).execute(query, Tuple.of(UUID.fromString(jobExecutionId)), promise);
     } catch (Exception e) {
-      LOGGER.error("Error while checking if any errors occurred for JobExecution {}", e, jobExecutionId);
+      LOGGER.error("Error deleting JobExecutionSourceChunks by JobExecution id {}", jobExecutionId, e);
       promise.fail(e);
     }
-    return promise.future().map(resultSet -> resultSet.iterator().next().getBoolean(0));
+    return promise.future().map(updateResult -> updateResult.rowCount() != 0);
   }
 
-  @Override
-  public Future<Boolean> deleteByJobExecutionId(String jobExecutionId, String tenantId) {
+  /**
+   * Selects boolean value computed from the chunks counters of the job execution
+   *
+   * @param sqlTemplate    - query template selecting single boolean value by job execution id
+   * @param jobExecutionId - job execution id
+   * @param defaultValue   - value to return if no chunks of the job execution have been saved
+   * @param tenantId       - tenant id
+   * @return future with selected value
+   */
+  private Future<Boolean> selectChunksSummaryFlag(String sqlTemplate, String jobExecutionId, boolean defaultValue, String tenantId) {
     Promise<RowSet<Row>> promise = Promise.promise();
     try {
-      Criteria idCrit = constructCriteria(JOB_EXECUTION_ID_FIELD, jobExecutionId);
-      pgClientFactory.createInstance(tenantId).delete(TABLE_NAME, new Criterion(idCrit), promise);
+      String query = format(sqlTemplate, convertToPsqlStandard(tenantId), SUMMARY_TABLE_NAME);
+      pgClientFactory.createInstance(tenantId).select(query, Tuple.of(UUID.fromString(jobExecutionId)), promise);
     } catch (Exception e) {
-      LOGGER.error("Error deleting JobExecutionSourceChunks by JobExecution id {}", jobExecutionId, e);
       promise.fail(e);
     }
-    return promise.future().map(updateResult -> updateResult.rowCount() != 0);
+    return promise.future().map(rowSet -> {
+      RowIterator<Row> iterator = rowSet.iterator();
+      return iterator.hasNext() ? iterator.next().getBoolean(0) : defaultValue;
+    });
+  }
+
+  private Tuple mapToTuple(JobExecutionSourceChunk jobExecutionChunk) {
+    return Tuple.of(UUID.fromString(jobExecutionChunk.getId()),
+      jobExecutionChunk.getJobExecutionId() == null ? null : UUID.fromString(jobExecutionChunk.getJobExecutionId()),
+      jobExecutionChunk.getLast(),
+      jobExecutionChunk.getState() == null ? null : jobExecutionChunk.getState().value(),
+      jobExecutionChunk.getChunkSize(),
+      jobExecutionChunk.getProcessedAmount(),
+      jobExecutionChunk.getCreatedDate() == null ? null : jobExecutionChunk.getCreatedDate().toInstant().atOffset(ZoneOffset.UTC),
+      jobExecutionChunk.getCompletedDate() == null ? null : jobExecutionChunk.getCompletedDate().toInstant().atOffset(ZoneOffset.UTC),
+      jobExecutionChunk.getError());
+  }
+
+  private JobExecutionSourceChunk mapRowToJobExecutionSourceChunk(Row row) {
+    return new JobExecutionSourceChunk()
+      .withId(row.getValue(ID_FIELD).toString())
+      .withJobExecutionId(row.getValue(JOB_EXECUTION_ID_FIELD) == null ? null : row.getValue(JOB_EXECUTION_ID_FIELD).toString())
+      .withLast(row.getBoolean(LAST_FIELD))
+      .withState(row.getString(STATE_FIELD) == null ? null : row.get(JobExecutionSourceChunk.State.class, STATE_FIELD))
+      .withChunkSize(row.getInteger(CHUNK_SIZE_FIELD))
+      .withProcessedAmount(row.getInteger(PROCESSED_AMOUNT_FIELD))
+      .withCreatedDate(mapRowToDate(row, CREATED_DATE_FIELD))
+      .withCompletedDate(mapRowToDate(row, COMPLETED_DATE_FIELD))
+      .withError(row.getString(ERROR_FIELD));
+  }
+
+  private Date mapRowToDate(Row row, String field) {
+    return row.getValue(field) == null ? null : Date.from(row.getOffsetDateTime(field).toInstant());
   }
 }
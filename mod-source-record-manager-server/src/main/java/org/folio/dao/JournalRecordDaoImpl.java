@@ -6,8 +6,10 @@ import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Tuple;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.dao.util.DbUtil;
 import org.folio.dao.util.PostgresClientFactory;
 import org.folio.rest.jaxrs.model.ActionLog;
 import org.folio.rest.jaxrs.model.JobExecutionLogDto;
@@ -20,6 +22,7 @@ import org.folio.rest.jaxrs.model.JournalRecord.EntityType;
 import org.folio.rest.jaxrs.model.ProcessedEntityInfo;
 import org.folio.rest.jaxrs.model.RecordProcessingLogDto;
 import org.folio.rest.jaxrs.model.RelatedInvoiceLineInfo;
+import org.folio.rest.persist.PostgresClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
@@ -35,7 +38,10 @@ import java.util.Arrays;
 import java.util.UUID;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.Comparator;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -102,16 +108,37 @@ public class JournalRecordDaoImpl implements JournalRecordDao {
     "instance_action_status", "holdings_action_status", "item_action_status", "order_action_status", "invoice_action_status", "error");
 
   private static final String JOURNAL_RECORDS_TABLE = "journal_records";
-  private static final String INSERT_SQL = "INSERT INTO %s.%s (id, job_execution_id, source_id, source_record_order, entity_type, entity_id, entity_hrid, action_type, action_status, error, action_date, title, instance_id, holdings_id) VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11, $12, $13, $14)";
+  private static final String JOB_LOG_ENTRIES_TABLE = "job_log_entries";
+  private static final String JOB_EXECUTION_ACTION_COUNTERS_TABLE = "job_execution_action_counters";
+  private static final String INSERT_SQL = "WITH journal_record AS (" +
+    "INSERT INTO %1$s.%2$s (id, job_execution_id, source_id, source_record_order, entity_type, entity_id, entity_hrid, action_type, action_status, error, action_date, title, instance_id, holdings_id) " +
+    "VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11, $12, $13, $14) " +
+    "RETURNING id, job_execution_id, source_id, source_record_order, entity_type, entity_hrid, action_type, action_date, title, error) " +
+    "SELECT %1$s.upsert_job_log_entry(job_execution_id, id, source_id, source_record_order, entity_type, entity_hrid, action_type, action_date, title, error) " +
+    "FROM journal_record";
+  private static final String UPSERT_ACTION_COUNTERS_SQL = "INSERT INTO %1$s.%2$s AS counters (job_execution_id, entity_type, action_type, total_completed, total_failed) " +
+    "VALUES ($1, $2, $3, $4, $5) " +
+    "ON CONFLICT (job_execution_id, entity_type, action_type) DO UPDATE " +
+    "SET total_completed = counters.total_completed + EXCLUDED.total_completed, total_failed = counters.total_failed + EXCLUDED.total_failed";
   private static final String SELECT_BY_JOB_EXECUTION_ID_QUERY = "SELECT * FROM %s.%s WHERE job_execution_id = $1";
   private static final String ORDER_BY_PATTERN = " ORDER BY %s %s";
-  private static final String DELETE_BY_JOB_EXECUTION_ID_QUERY = "DELETE FROM %s.%s WHERE job_execution_id = $1";
-  private static final String GET_JOB_LOG_ENTRIES_BY_JOB_EXECUTION_ID_QUERY = "SELECT * FROM get_job_log_entries('%s', '%s', '%s', %s, %s)";
-  private static final String GET_JOB_LOG_BY_JOB_EXECUTION_ID_QUERY = "SELECT job_execution_id, entity_type, action_type, " +
-    "COUNT(*) FILTER (WHERE action_status = 'COMPLETED') AS total_completed, " +
-    "COUNT(*) FILTER (WHERE action_status = 'ERROR') AS total_failed " +
-    "FROM %s.%s WHERE job_execution_id = $1 AND action_type != 'ERROR' " +
-    "GROUP BY (job_execution_id, entity_type, action_type)";
+  private static final String DELETE_BY_JOB_EXECUTION_ID_QUERY = "WITH deleted_job_log_entries AS (DELETE FROM %1$s.%3$s WHERE job_execution_id = $1), " +
+    "deleted_action_counters AS (DELETE FROM %1$s.%4$s WHERE job_execution_id = $1) " +
+    "DELETE FROM %1$s.%2$s WHERE job_execution_id = $1";
+  private static final String GET_JOB_LOG_ENTRIES_BY_JOB_EXECUTION_ID_QUERY = "SELECT job_execution_id, source_id, source_record_order, invoiceline_number, title, " +
+    "source_record_action_status, instance_action_status, holdings_action_status, item_action_status, authority_action_status, " +
+    "order_action_status, invoice_action_status, error, invoice_line_journal_record_id, source_record_entity_type, holdings_entity_hrid, " +
+    "(SELECT count(*) FROM %1$s.%2$s WHERE job_execution_id = $1) AS total_count " +
+    "FROM %1$s.%2$s WHERE job_execution_id = $1 " +
+    "ORDER BY %3$s %4$s, entry_id %4$s " +
+    "LIMIT $2 OFFSET $3";
+  private static final String SOURCE_RECORD_ORDER_ARRAY = "source_record_order_array";
+  private static final String ERROR_ACTION_TYPE = "ERROR";
+  private static final Comparator<JournalRecord> JOURNAL_RECORDS_INSERT_ORDER =
+    Comparator.comparing(JournalRecord::getJobExecutionId, Comparator.nullsFirst(Comparator.naturalOrder()))
+      .thenComparing(JournalRecord::getSourceId, Comparator.nullsFirst(Comparator.naturalOrder()));
+  private static final String GET_JOB_LOG_BY_JOB_EXECUTION_ID_QUERY = "SELECT job_execution_id, entity_type, action_type, total_completed, total_failed " +
+    "FROM %s.%s WHERE job_execution_id = $1";
   private static final String GET_JOB_LOG_RECORD_PROCESSING_ENTRIES_BY_JOB_EXECUTION_AND_RECORD_ID_QUERY = "SELECT * FROM get_record_processing_log('%s', '%s')";
 
   @Autowired
@@ -120,34 +147,86 @@ public class JournalRecordDaoImpl implements JournalRecordDao {
   @Override
   public Future<String> save(JournalRecord journalRecord, String tenantId) {
     LOGGER.info("Trying to save JournalRecord entity to the {} table", JOURNAL_RECORDS_TABLE);
-    Promise<RowSet<Row>> promise = Promise.promise();
+    Future<List<RowSet<Row>>> future;
     try {
       journalRecord.withId(UUID.randomUUID().toString());
-      String query = format(INSERT_SQL, convertToPsqlStandard(tenantId), JOURNAL_RECORDS_TABLE);
-      LOGGER.trace("JournalRecordDaoImpl::save query = {};", query);
-      pgClientFactory.createInstance(tenantId).execute(query, prepareInsertQueryParameters(journalRecord), promise);
+      future = insertJournalRecords(List.of(journalRecord), tenantId);
     } catch (Exception e) {
       LOGGER.error("Error saving JournalRecord entity", e);
-      promise.fail(e);
+      future = Future.failedFuture(e);
     }
-    return promise.future().map(journalRecord.getId())
+    return future.map(journalRecord.getId())
       .onFailure(e -> LOGGER.error("Error saving JournalRecord entity", e));
   }
 
   @Override
   public Future<List<RowSet<Row>>> saveBatch(List<JournalRecord> journalRecords, String tenantId) {
     LOGGER.info("Trying to save list of JournalRecord entities to the {} table", JOURNAL_RECORDS_TABLE);
-    Promise<List<RowSet<Row>>> promise = Promise.promise();
+    Future<List<RowSet<Row>>> future;
     try {
-      List<Tuple> tupleList = journalRecords.stream().map(this::prepareInsertQueryParameters).collect(Collectors.toList());
-      String query = format(INSERT_SQL, convertToPsqlStandard(tenantId), JOURNAL_RECORDS_TABLE);
-      LOGGER.trace("JournalRecordDaoImpl::saveBatch query = {}; tuples = {}", query, tupleList);
-      pgClientFactory.createInstance(tenantId).execute(query, tupleList, promise);
+      future = insertJournalRecords(journalRecords, tenantId);
     } catch (Exception e) {
       LOGGER.error("Error saving JournalRecord entities", e);
-      promise.fail(e);
+      future = Future.failedFuture(e);
     }
-    return promise.future().onFailure(e -> LOGGER.error("Error saving JournalRecord entities", e));
+    return future.onFailure(e -> LOGGER.error("Error saving JournalRecord entities", e));
+  }
+
+  /**
+   * Inserts journal records and increments job execution action counters in a single transaction.
+   * Journal records are inserted in the order of job execution and source record ids, and counters are updated
+   * after the journal records in the order of their keys. Concurrent batches thus take locks in the same order,
+   * which makes deadlocks between them unlikely, though not impossible, e.g. with other writers of the same rows.
+   *
+   * @param journalRecords journal records to save
+   * @param tenantId       tenant id
+   * @return future with results of the journal records insertion
+   */
+  private Future<List<RowSet<Row>>> insertJournalRecords(List<JournalRecord> journalRecords, String tenantId) {
+    PostgresClient pgClient = pgClientFactory.createInstance(tenantId);
+    String insertQuery = format(INSERT_SQL, convertToPsqlStandard(tenantId), JOURNAL_RECORDS_TABLE);
+    String countersQuery = format(UPSERT_ACTION_COUNTERS_SQL, convertToPsqlStandard(tenantId), JOB_EXECUTION_ACTION_COUNTERS_TABLE);
+    List<Tuple> journalRecordsParams = journalRecords.stream()
+      .sorted(JOURNAL_RECORDS_INSERT_ORDER)
+      .map(this::prepareInsertQueryParameters)
+      .collect(Collectors.toList());
+    List<Tuple> countersParams = prepareActionCountersParameters(journalRecords);
+    LOGGER.trace("JournalRecordDaoImpl::insertJournalRecords query = {}; tuples = {}", insertQuery, journalRecordsParams);
+
+    return DbUtil.executeInTransaction(pgClient, tx -> {
+      Promise<List<RowSet<Row>>> insertPromise = Promise.promise();
+      pgClient.execute(tx, insertQuery, journalRecordsParams, insertPromise);
+      return insertPromise.future().compose(insertResult -> {
+        if (countersParams.isEmpty()) {
+          return Future.succeededFuture(insertResult);
+        }
+        LOGGER.trace("JournalRecordDaoImpl::insertJournalRecords query = {}; tuples = {}", countersQuery, countersParams);
+        Promise<List<RowSet<Row>>> countersPromise = Promise.promise();
+        pgClient.execute(tx, countersQuery, countersParams, countersPromise);
+        return countersPromise.future().map(insertResult);
+      });
+    });
+  }
+
+  private List<Tuple> prepareActionCountersParameters(List<JournalRecord> journalRecords) {
+    // sorted map provides the same order of counters updates for all transactions
+    Map<Triple<String, String, String>, int[]> counters = new TreeMap<>();
+    journalRecords.stream()
+      .filter(journalRecord -> !ERROR_ACTION_TYPE.equals(journalRecord.getActionType().toString()))
+      .forEach(journalRecord -> {
+        int[] totals = counters.computeIfAbsent(Triple.of(journalRecord.getJobExecutionId(),
+          journalRecord.getEntityType().toString(), journalRecord.getActionType().toString()), key -> new int[2]);
+        if (journalRecord.getActionStatus() == ActionStatus.COMPLETED) {
+          totals[0]++;
+        } else if (journalRecord.getActionStatus() == ActionStatus.ERROR) {
+          totals[1]++;
+        }
+      });
+
+    return counters.entrySet().stream()
+      .map(entry -> Tuple.of(UUID.fromString(entry.getKey().getLeft()), entry.getKey().getMiddle(),
+        entry.getKey().getRight(), entry.getValue()[0], entry.getValue()[1]))
+      .collect(Collectors.toList());
   }
 
   private Tuple prepareInsertQueryParameters(JournalRecord journalRecord) {
@@ -191,7 +270,8 @@ public class JournalRecordDaoImpl implements JournalRecordDao {
   public Future<Boolean> deleteByJobExecutionId(String jobExecutionId, String tenantId) {
     LOGGER.debug("Trying to delete row from the {} table by jobExecutionId = {}", JOURNAL_RECORDS_TABLE, jobExecutionId);
     Promise<RowSet<Row>> promise = Promise.promise();
-    String query = format(DELETE_BY_JOB_EXECUTION_ID_QUERY, convertToPsqlStandard(tenantId), JOURNAL_RECORDS_TABLE);
+    String query = format(DELETE_BY_JOB_EXECUTION_ID_QUERY, convertToPsqlStandard(tenantId), JOURNAL_RECORDS_TABLE,
+      JOB_LOG_ENTRIES_TABLE, JOB_EXECUTION_ACTION_COUNTERS_TABLE);
     Tuple queryParams = Tuple.of(UUID.fromString(jobExecutionId));
     LOGGER.trace("JournalRecordDaoImpl::deleteByJobExecutionId query = {}; tuple = {}", query, queryParams);
     pgClientFactory.createInstance(tenantId).execute(query, queryParams, promise);
@@ -200,9 +280,9 @@ public class JournalRecordDaoImpl implements JournalRecordDao {
 
   @Override
   public Future<JobExecutionLogDto> getJobExecutionLogDto(String jobExecutionId, String tenantId) {
-    LOGGER.trace("Trying to get JobExecutionLogDto entity by jobExecutionId = {} from the {} table", jobExecutionId, JOURNAL_RECORDS_TABLE);
+    LOGGER.trace("Trying to get JobExecutionLogDto entity by jobExecutionId = {} from the {} table", jobExecutionId, JOB_EXECUTION_ACTION_COUNTERS_TABLE);
     Promise<RowSet<Row>> promise = Promise.promise();
-    String query = format(GET_JOB_LOG_BY_JOB_EXECUTION_ID_QUERY, convertToPsqlStandard(tenantId), JOURNAL_RECORDS_TABLE);
+    String query = format(GET_JOB_LOG_BY_JOB_EXECUTION_ID_QUERY, convertToPsqlStandard(tenantId), JOB_EXECUTION_ACTION_COUNTERS_TABLE);
     Tuple queryParams = Tuple.of(UUID.fromString(jobExecutionId));
     LOGGER.trace("JournalRecordDaoImpl::getJobExecutionLogDto query = {}; tuple = {}", query, queryParams);
     pgClientFactory.createInstance(tenantId).select(query, queryParams, promise);
@@ -216,9 +296,17 @@ public class JournalRecordDaoImpl implements JournalRecordDao {
       return Future.failedFuture(new BadRequestException(format("The specified field for sorting job log entries is invalid: '%s'", sortBy)));
     }
     Promise<RowSet<Row>> promise = Promise.promise();
-    String query = format(GET_JOB_LOG_ENTRIES_BY_JOB_EXECUTION_ID_QUERY, jobExecutionId, sortBy, order, limit, offset);
-    LOGGER.trace("JournalRecordDaoImpl::getJobLogEntryDtoCollection query = {};", query);
-    pgClientFactory.createInstance(tenantId).select(query, promise);
+    try {
+      // source record order of invoice lines is taken from the invoice line number
+      String sortingField = SOURCE_RECORD_ORDER.equals(sortBy) ? SOURCE_RECORD_ORDER_ARRAY : sortBy;
+      String query = format(GET_JOB_LOG_ENTRIES_BY_JOB_EXECUTION_ID_QUERY, convertToPsqlStandard(tenantId), JOB_LOG_ENTRIES_TABLE, sortingField, order);
+      Tuple queryParams = Tuple.of(UUID.fromString(jobExecutionId), limit, offset);
+      LOGGER.trace("JournalRecordDaoImpl::getJobLogEntryDtoCollection query = {}; tuple = {}", query, queryParams);
+      pgClientFactory.createInstance(tenantId).select(query, queryParams, promise);
+    } catch (Exception e) {
+      LOGGER.error("Error getting JobLogEntryDtoCollection by jobExecutionId = {}", jobExecutionId, e);
+      promise.fail(e);
+    }
     return promise.future().map(this::mapRowSetToJobLogDtoCollection);
   }
 
@@ -43,6 +43,13 @@ public final class JobExecutionDBConstants {
     "job_profile_snapshot_wrapper = $20 " +
     "WHERE id = $1";
 
+  public static final String UPDATE_STATUS_SQL =
+    "UPDATE %s " +
+    "SET status = $2, ui_status = $3, error_status = COALESCE($4, error_status), " +
+    "completed_date = COALESCE($5, completed_date), progress_total = COALESCE($6, progress_total) " +
+    "WHERE id = $1 AND status::text = ANY($7) " +
+    "RETURNING *";
+
   public static final String GET_CHILDREN_JOBS_BY_PARENT_ID_SQL =
     "WITH cte AS (SELECT count(*) AS total_count FROM %s " +
     "WHERE parent_job_id = $1 AND subordination_type = 'CHILD') " +
@@ -66,6 +73,21 @@ public final class JobExecutionDBConstants {
     "%s " +
     "LIMIT $1 OFFSET $2";
 
+  public static final String GET_JOBS_NOT_PARENT_PAGE_SQL =
+    "SELECT j.*, p.total_records_count total, " +
+    "p.succeeded_records_count + p.error_records_count currently_processed " +
+    "FROM %s j " +
+    "LEFT JOIN %s p ON  j.id = p.job_execution_id " +
+    "WHERE subordination_type <> 'PARENT_MULTIPLE' AND %s AND (%s) " +
+    "%s " +
+    "LIMIT $1 OFFSET $2";
+
+  public static final String GET_KEYSET_CURSOR_SQL = "SELECT %s FROM %s WHERE id = $1";
+
+  public static final String COUNT_JOBS_NOT_PARENT_SQL =
+    "SELECT count(*) AS total_count FROM %s " +
+    "WHERE subordination_type <> 'PARENT_MULTIPLE' AND %s";
+
   private JobExecutionDBConstants() {
   }
 }
@@ -0,0 +1,68 @@
+package org.folio.dao.util;
+
+import org.folio.rest.jaxrs.model.JobExecution;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Describes change of JobExecution status which is applied only if the JobExecution is in one of the expected statuses.
+ * Error status, completed date and progress total are changed only if they are specified.
+ */
+public class JobExecutionStatusTransition {
+
+  private final JobExecution.Status status;
+  private final JobExecution.UiStatus uiStatus;
+  private final Set<JobExecution.Status> expectedStatuses;
+  private JobExecution.ErrorStatus errorStatus;
+  private Date completedDate;
+  private Integer progressTotal;
+
+  public JobExecutionStatusTransition(JobExecution.Status status, JobExecution.UiStatus uiStatus,
+                                      Collection<JobExecution.Status> expectedStatuses) {
+    this.status = status;
+    this.uiStatus = uiStatus;
+    this.expectedStatuses = EnumSet.copyOf(expectedStatuses);
+  }
+
+  public JobExecutionStatusTransition withErrorStatus(JobExecution.ErrorStatus errorStatus) {
+    this.errorStatus = errorStatus;
+    return this;
+  }
+
+  public JobExecutionStatusTransition withCompletedDate(Date completedDate) {
+    this.completedDate = completedDate;
+    return this;
+  }
+
+  public JobExecutionStatusTransition withProgressTotal(Integer progressTotal) {
+    this.progressTotal = progressTotal;
+    return this;
+  }
+
+  public JobExecution.Status getStatus() {
+    return status;
+  }
+
+  public JobExecution.UiStatus getUiStatus() {
+    return uiStatus;
+  }
+
+  public Set<JobExecution.Status> getExpectedStatuses() {
+    return expectedStatuses;
+  }
+
+  public JobExecution.ErrorStatus getErrorStatus() {
+    return errorStatus;
+  }
+
+  public Date getCompletedDate() {
+    return completedDate;
+  }
+
+  public Integer getProgressTotal() {
+    return progressTotal;
+  }
+}
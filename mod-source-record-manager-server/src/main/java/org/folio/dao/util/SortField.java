@@ -1,5 +1,8 @@
 package org.folio.dao.util;
 
+import lombok.EqualsAndHashCode;
+
+@EqualsAndHashCode
 public class SortField {
 
   private String field;
@@ -10,6 +13,14 @@ public class SortField {
     this.order = order;
   }
 
+  public String getField() {
+    return field;
+  }
+
+  public String getOrder() {
+    return order;
+  }
+
   @Override
   public String toString() {
     return String.format("%s %s", field, order);
@@ -19,6 +19,7 @@ import org.folio.services.journal.JournalService;
 import org.folio.spring.SpringContextUtil;
 import org.folio.verticle.DataImportConsumersVerticle;
 import org.folio.verticle.DataImportJournalConsumersVerticle;
+import org.folio.verticle.EventsProcessedRetentionVerticle;
 import org.folio.verticle.JobMonitoringWatchdogVerticle;
 import org.folio.verticle.QuickMarcUpdateConsumersVerticle;
 import org.folio.verticle.RawMarcChunkConsumersVerticle;
@@ -50,6 +51,9 @@ public class InitAPIImpl implements InitAPI {
   @Value("${srm.kafka.JobMonitoringWatchdogVerticle.instancesNumber:1}")
   private int jobExecutionWatchdogInstanceNumber;
 
+  @Value("${srm.EventsProcessedRetentionVerticle.instancesNumber:1}")
+  private int eventsProcessedRetentionInstanceNumber;
+
   @Autowired
   @Qualifier("journalService")
   private JournalService journalService;
@@ -90,6 +94,7 @@ public class InitAPIImpl implements InitAPI {
     DataImportJournalConsumersVerticle.setSpringGlobalContext(vertx.getOrCreateContext().get("springContext"));
     QuickMarcUpdateConsumersVerticle.setSpringGlobalContext(vertx.getOrCreateContext().get("springContext"));
     JobMonitoringWatchdogVerticle.setSpringContext(vertx.getOrCreateContext().get("springContext"));
+    EventsProcessedRetentionVerticle.setSpringContext(vertx.getOrCreateContext().get("springContext"));
 
     Promise<String> deployRawMarcChunkConsumer = Promise.promise();
     Promise<String> deployStoredMarcChunkConsumer = Promise.promise();
@@ -97,6 +102,7 @@ public class InitAPIImpl implements InitAPI {
     Promise<String> deployDataImportJournalConsumer = Promise.promise();
     Promise<String> deployQuickMarcUpdateConsumer = Promise.promise();
     Promise<String> deployJobExecutionWatchdog = Promise.promise();
+    Promise<String> deployEventsProcessedRetention = Promise.promise();
 
     vertx.deployVerticle("org.folio.verticle.RawMarcChunkConsumersVerticle",
       new DeploymentOptions()
@@ -128,11 +134,17 @@ public class InitAPIImpl implements InitAPI {
         .setWorker(true)
         .setInstances(jobExecutionWatchdogInstanceNumber), deployJobExecutionWatchdog);
 
+    vertx.deployVerticle("org.folio.verticle.EventsProcessedRetentionVerticle",
+      new DeploymentOptions()
+        .setWorker(true)
+        .setInstances(eventsProcessedRetentionInstanceNumber), deployEventsProcessedRetention);
+
     return GenericCompositeFuture.all(Arrays.asList(deployRawMarcChunkConsumer.future(),
       deployStoredMarcChunkConsumer.future(),
       deployDataImportConsumer.future(),
       deployDataImportJournalConsumer.future(),
       deployQuickMarcUpdateConsumer.future(),
-      deployJobExecutionWatchdog.future()));
+      deployJobExecutionWatchdog.future(),
+      deployEventsProcessedRetention.future()));
   }
 }
@@ -37,6 +37,7 @@ public class MetadataProviderImpl implements MetadataProvider {
   private static final Logger LOGGER = LogManager.getLogger();
   private static final String INVALID_SORT_PARAMS_MSG = "The specified parameter for sorting jobExecutions is invalid: '%s'. Valid sortable fields are: %s. Valid sorting order values are: asc, desc.";
   public static final Set<String> SORT_ORDER_VALUES = Set.of("asc", "desc");
+  private static final String ESTIMATED_TOTAL_RECORDS = "estimated";
   private static final Set<String> JOB_EXECUTION_SORTABLE_FIELDS =
     Set.of("completed_date", "progress_total", "status", "hrid", "file_name", "job_profile_name", "job_user_first_name", "job_user_last_name");
 
@@ -57,13 +58,13 @@ public class MetadataProviderImpl implements MetadataProvider {
   public void getMetadataProviderJobExecutions(List<String> statusAny, List<String> profileIdNotAny, String statusNot,
                                                List<String> uiStatusAny, String hrId, String fileName,
                                                List<String> profileIdAny, String userId, Date completedAfter, Date completedBefore,
-                                               List<String> sortBy, int offset, int limit, Map<String, String> okapiHeaders,
+                                               List<String> sortBy, String afterId, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders,
                                                Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     vertxContext.runOnContext(v -> {
       try {
         List<SortField> sortFields = mapSortQueryToSortFields(sortBy);
         JobExecutionFilter filter = buildJobExecutionFilter(statusAny, profileIdNotAny, statusNot, uiStatusAny, hrId, fileName, profileIdAny, userId, completedAfter, completedBefore);
-        jobExecutionsCache.get(tenantId, filter, sortFields, offset, limit)
+        jobExecutionsCache.get(tenantId, filter, sortFields, afterId, offset, limit, ESTIMATED_TOTAL_RECORDS.equals(totalRecords))
           .map(GetMetadataProviderJobExecutionsResponse::respond200WithApplicationJson)
           .map(Response.class::cast)
           .otherwise(ExceptionHelper::mapExceptionToResponse)
@@ -0,0 +1,36 @@
+package org.folio.rest.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.resource.interfaces.ShutdownAPI;
+import org.folio.services.util.KafkaProducerRegistry;
+import org.folio.spring.SpringContextUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class ShutdownAPIImpl implements ShutdownAPI {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  @Autowired
+  private KafkaProducerRegistry kafkaProducerRegistry;
+
+  @Override
+  public void shutdown(Vertx vertx, Handler<AsyncResult<Void>> handler) {
+    LOGGER.info("ShutdownAPI starting...");
+    try {
+      SpringContextUtil.autowireDependencies(this, vertx.getOrCreateContext());
+      kafkaProducerRegistry.closeAll()
+        .onComplete(ar -> {
+          LOGGER.info("Kafka producers were closed");
+          handler.handle(Future.succeededFuture());
+        });
+    } catch (Exception e) {
+      LOGGER.error("Error during module shutdown", e);
+      handler.handle(Future.failedFuture(e));
+    }
+  }
+}
@@ -35,7 +35,7 @@ public abstract class AbstractChunkProcessingService implements ChunkProcessingS
   public Future<Boolean> processChunk(RawRecordsDto incomingChunk, String jobExecutionId, OkapiConnectionParams params) {
     LOGGER.debug("AbstractChunkProcessingService:: processChunk for jobExecutionId: {}", jobExecutionId);
     prepareChunk(incomingChunk);
-    return jobExecutionService.getJobExecutionById(jobExecutionId, params.getTenantId())
+    return jobExecutionService.getCachedJobExecutionById(jobExecutionId, params.getTenantId())
       .compose(optionalJobExecution -> optionalJobExecution
         .map(jobExecution -> {
           JobExecutionSourceChunk sourceChunk = new JobExecutionSourceChunk()
@@ -47,7 +47,7 @@ public abstract class AbstractChunkProcessingService implements ChunkProcessingS
             .withCreatedDate(new Date());
 
           return jobExecutionSourceChunkDao.save(sourceChunk, params.getTenantId())
-            .compose(ar -> processRawRecordsChunk(incomingChunk, sourceChunk, jobExecution.getId(), params))
+            .compose(ar -> processRawRecordsChunk(incomingChunk, sourceChunk, jobExecution, params))
             .map(true)
             .recover(throwable -> throwable instanceof PgException && ((PgException) throwable).getCode().equals(UNIQUE_CONSTRAINT_VIOLATION_CODE) ?
               Future.failedFuture(new DuplicateEventException(String.format("Source chunk with %s id for %s jobExecution is already exists", incomingChunk.getId(), jobExecutionId))) :
@@ -71,38 +71,34 @@ public abstract class AbstractChunkProcessingService implements ChunkProcessingS
   /**
    * Process chunk of RawRecords
    *
-   * @param incomingChunk  - chunk with raw records
-   * @param sourceChunk    - source chunk job execution
-   * @param jobExecutionId - JobExecution id
-   * @param params         - okapi connection params
+   * @param incomingChunk - chunk with raw records
+   * @param sourceChunk   - source chunk job execution
+   * @param jobExecution  - JobExecution loaded for the chunk, it is shared and must not be modified
+   * @param params        - okapi connection params
    * @return future with boolean
    */
-  protected abstract Future<Boolean> processRawRecordsChunk(RawRecordsDto incomingChunk, JobExecutionSourceChunk sourceChunk, String jobExecutionId, OkapiConnectionParams params);
+  protected abstract Future<Boolean> processRawRecordsChunk(RawRecordsDto incomingChunk, JobExecutionSourceChunk sourceChunk, JobExecution jobExecution, OkapiConnectionParams params);
 
   /**
    * Checks JobExecution current status and updates it if needed
    *
-   * @param jobExecutionId - JobExecution id
-   * @param status         - required statusDto of JobExecution
-   * @param params         - okapi connection params
+   * @param jobExecution - JobExecution loaded for the chunk
+   * @param status       - required statusDto of JobExecution
+   * @param params       - okapi connection params
    * @return future
    */
-  protected Future<JobExecution> checkAndUpdateJobExecutionStatusIfNecessary(String jobExecutionId, StatusDto status, OkapiConnectionParams params) {
-    return jobExecutionService.getJobExecutionById(jobExecutionId, params.getTenantId())
-      .compose(optionalJobExecution -> optionalJobExecution
-        .map(jobExecution -> {
-          if (jobExecution.getStatus() == JobExecution.Status.ERROR) {
-            LOGGER.error(JOB_EXECUTION_MARKED_AS_ERROR_MSG);
-            return Future.<JobExecution>failedFuture(JOB_EXECUTION_MARKED_AS_ERROR_MSG);
-          }
-          if (jobExecution.getStatus() == JobExecution.Status.COMMITTED) {
-            return Future.succeededFuture(jobExecution);
-          }
-          if (!status.getStatus().value().equals(jobExecution.getStatus().value())) {
-            return jobExecutionService.updateJobExecutionStatus(jobExecutionId, status, params);
-          }
-          return Future.succeededFuture(jobExecution);
-        }).orElse(Future.failedFuture(new NotFoundException(String.format("Couldn't find JobExecution with id %s", jobExecutionId)))));
+  protected Future<JobExecution> checkAndUpdateJobExecutionStatusIfNecessary(JobExecution jobExecution, StatusDto status, OkapiConnectionParams params) {
+    if (jobExecution.getStatus() == JobExecution.Status.ERROR) {
+      LOGGER.error(JOB_EXECUTION_MARKED_AS_ERROR_MSG);
+      return Future.failedFuture(JOB_EXECUTION_MARKED_AS_ERROR_MSG);
+    }
+    if (jobExecution.getStatus() == JobExecution.Status.COMMITTED) {
+      return Future.succeededFuture(jobExecution);
+    }
+    if (!status.getStatus().value().equals(jobExecution.getStatus().value())) {
+      return jobExecutionService.updateJobExecutionStatus(jobExecution.getId(), status, params);
+    }
+    return Future.succeededFuture(jobExecution);
   }
 
 }
@@ -1,11 +1,9 @@
 package org.folio.services;
 
-import static java.lang.String.format;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import static org.folio.rest.RestVerticle.MODULE_SPECIFIC_ARGS;
-import org.folio.rest.jaxrs.model.ActionProfile;
 import org.folio.rest.jaxrs.model.DataImportEventPayload;
 import org.folio.rest.jaxrs.model.EntityType;
 import org.folio.rest.jaxrs.model.ErrorRecord;
@@ -14,7 +12,6 @@ import org.folio.rest.jaxrs.model.InitialRecord;
 import org.folio.rest.jaxrs.model.JobExecution;
 import org.folio.rest.jaxrs.model.JobExecutionSourceChunk;
 import org.folio.rest.jaxrs.model.ParsedRecord;
-import org.folio.rest.jaxrs.model.ProfileSnapshotWrapper;
 import org.folio.rest.jaxrs.model.RawRecord;
 import org.folio.rest.jaxrs.model.RawRecordsDto;
 import org.folio.rest.jaxrs.model.Record;
@@ -29,10 +26,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -40,9 +40,9 @@ import java.util.stream.Collectors;
 import javax.ws.rs.NotFoundException;
 
 import com.google.common.collect.Lists;
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import io.vertx.kafka.client.producer.KafkaHeader;
@@ -50,9 +50,11 @@ import io.vertx.kafka.client.producer.impl.KafkaHeaderImpl;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.lang.StringUtils;
-import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.services.util.MarcRecordTypeClassifier;
+import org.folio.services.util.KafkaProducerRegistry;
+import org.folio.services.util.RawJsonContent;
 import org.folio.services.util.RecordConversionUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -60,24 +62,24 @@ import org.springframework.stereotype.Service;
 
 import org.folio.dao.JobExecutionSourceChunkDao;
 import org.folio.dataimport.util.OkapiConnectionParams;
-import org.folio.dataimport.util.marc.MarcRecordAnalyzer;
 import org.folio.dataimport.util.marc.MarcRecordType;
-import org.folio.dataimport.util.marc.RecordAnalyzer;
 import org.folio.kafka.KafkaConfig;
 import org.folio.kafka.KafkaHeaderUtils;
+import org.folio.okapi.common.GenericCompositeFuture;
 import org.folio.rest.client.SourceStorageBatchClient;
-import org.folio.rest.jaxrs.model.ActionProfile.Action;
-import org.folio.rest.jaxrs.model.ActionProfile.FolioRecord;
 import org.folio.rest.jaxrs.model.JobProfileInfo.DataType;
 import org.folio.rest.jaxrs.model.Record.RecordType;
 import org.folio.services.afterprocessing.HrIdFieldService;
 import org.folio.services.parsers.ParsedResult;
+import org.folio.services.parsers.RecordParser;
 import org.folio.services.parsers.RecordParserBuilder;
 
 import static org.folio.services.afterprocessing.AdditionalFieldsUtil.TAG_999;
 import static org.folio.services.afterprocessing.AdditionalFieldsUtil.addFieldToMarcRecord;
 import static org.folio.services.afterprocessing.AdditionalFieldsUtil.getControlFieldValue;
 import static org.folio.services.afterprocessing.AdditionalFieldsUtil.getValue;
+import static org.folio.services.afterprocessing.AdditionalFieldsUtil.readMarcRecord;
+import static org.folio.services.afterprocessing.AdditionalFieldsUtil.writeMarcRecord;
 import static org.folio.services.util.EventHandlingUtil.sendEventToKafka;
 import static org.folio.rest.jaxrs.model.DataImportEventTypes.DI_ERROR;
 import static org.folio.rest.jaxrs.model.DataImportEventTypes.DI_MARC_FOR_UPDATE_RECEIVED;
@@ -101,7 +103,6 @@ public class ChangeEngineServiceImpl implements ChangeEngineService {
 
   private JobExecutionSourceChunkDao jobExecutionSourceChunkDao;
   private JobExecutionService jobExecutionService;
-  private RecordAnalyzer marcRecordAnalyzer;
   private HrIdFieldService hrIdFieldService;
   private RecordsPublishingService recordsPublishingService;
   private MappingMetadataService mappingMetadataService;
@@ -113,16 +114,32 @@ public class ChangeEngineServiceImpl implements ChangeEngineService {
   @Value("${marc.holdings.batch.size:100}")
   private int batchSize;
 
+  @Value("${srm.chunk.parsing.parallel.enabled:false}")
+  private boolean parallelParsingEnabled;
+
+  @Value("${srm.chunk.parsing.partitions.number:4}")
+  private int parsingPartitionsNumber;
+
+  @Value("${srm.parsedRecord.content.writeAsJsonObject:false}")
+  private boolean writeParsedContentAsJsonObject;
+
+  @Autowired
+  private JobProfileSnapshotCache jobProfileSnapshotCache;
+
+  @Autowired
+  private VerifiedMarcBibIdsCache verifiedMarcBibIdsCache;
+
+  @Autowired
+  private KafkaProducerRegistry kafkaProducerRegistry;
+
   public ChangeEngineServiceImpl(@Autowired JobExecutionSourceChunkDao jobExecutionSourceChunkDao,
                                  @Autowired JobExecutionService jobExecutionService,
-                                 @Autowired MarcRecordAnalyzer marcRecordAnalyzer,
                                  @Autowired HrIdFieldService hrIdFieldService,
                                  @Autowired RecordsPublishingService recordsPublishingService,
                                  @Autowired MappingMetadataService mappingMetadataService,
                                  @Autowired KafkaConfig kafkaConfig) {
     this.jobExecutionSourceChunkDao = jobExecutionSourceChunkDao;
     this.jobExecutionService = jobExecutionService;
-    this.marcRecordAnalyzer = marcRecordAnalyzer;
     this.hrIdFieldService = hrIdFieldService;
     this.recordsPublishingService = recordsPublishingService;
     this.mappingMetadataService = mappingMetadataService;
@@ -133,15 +150,17 @@ public class ChangeEngineServiceImpl implements ChangeEngineService {
   public Future<List<Record>> parseRawRecordsChunkForJobExecution(RawRecordsDto chunk, JobExecution jobExecution,
                                                                   String sourceChunkId, OkapiConnectionParams params) {
     Promise<List<Record>> promise = Promise.promise();
+    // marc records read once while parsing are reused by the following processing of the chunk
+    Map<String, org.marc4j.marc.Record> marcRecords = new ConcurrentHashMap<>();
     Future<List<Record>> futureParsedRecords =
       parseRecords(chunk.getInitialRecords(), chunk.getRecordsMetadata().getContentType(), jobExecution, sourceChunkId,
-        params.getTenantId(), params);
+        params.getTenantId(), params, marcRecords);
     futureParsedRecords
       .compose(parsedRecords -> ensureMappingMetaDataSnapshot(jobExecution.getId(), parsedRecords, params)
         .map(parsedRecords))
       .onSuccess(parsedRecords -> {
-        fillParsedRecordsWithAdditionalFields(parsedRecords);
-        boolean updateMarcActionExists = containsUpdateMarcActionProfile(jobExecution.getJobProfileSnapshotWrapper());
+        fillParsedRecordsWithAdditionalFields(parsedRecords, marcRecords);
+        boolean updateMarcActionExists = jobProfileSnapshotCache.get(jobExecution).isUpdateMarcActionExists();
 
         if (updateMarcActionExists) {
           updateRecords(parsedRecords, jobExecution, params)
@@ -160,13 +179,9 @@ public class ChangeEngineServiceImpl implements ChangeEngineService {
                       LOGGER.error("Error during update jobExecution and snapshot status", r.cause());
                     }
                   });
-                jobExecutionSourceChunkDao.getById(sourceChunkId, params.getTenantId())
-                  .compose(optional -> optional
-                    .map(sourceChunk -> jobExecutionSourceChunkDao
-                      .update(sourceChunk.withState(JobExecutionSourceChunk.State.ERROR), params.getTenantId()))
-                    .orElseThrow(() -> new NotFoundException(String.format(
-                      "Couldn't update failed jobExecutionSourceChunk status to ERROR, jobExecutionSourceChunk with id %s was not found",
-                      sourceChunkId))))
+                jobExecutionSourceChunkDao.updateProgress(sourceChunkId, 0, JobExecutionSourceChunk.State.ERROR, params.getTenantId())
+                  .onFailure(e -> LOGGER.error(
+                    "Couldn't update failed jobExecutionSourceChunk status to ERROR, jobExecutionSourceChunk id: {}", sourceChunkId, e))
                   .onComplete(ar -> promise.fail(postAr.cause()));
               } else {
                 promise.complete(parsedRecords);
@@ -209,26 +224,6 @@ public class ChangeEngineServiceImpl implements ChangeEngineService {
     return promise.future();
   }
 
-  private boolean containsUpdateMarcActionProfile(ProfileSnapshotWrapper profileSnapshot) {
-    List<ProfileSnapshotWrapper> childWrappers = profileSnapshot.getChildSnapshotWrappers();
-    for (ProfileSnapshotWrapper childWrapper : childWrappers) {
-      if (childWrapper.getContentType() == ProfileSnapshotWrapper.ContentType.ACTION_PROFILE
-        && actionProfileMatches(childWrapper)) {
-        return true;
-      } else if (containsUpdateMarcActionProfile(childWrapper)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
-  private boolean actionProfileMatches(ProfileSnapshotWrapper actionProfileWrapper) {
-    ActionProfile actionProfile = new JsonObject((Map) actionProfileWrapper.getContent()).mapTo(ActionProfile.class);
-    return (actionProfile.getFolioRecord() == FolioRecord.MARC_BIBLIOGRAPHIC
-      || actionProfile.getFolioRecord() == FolioRecord.MARC_AUTHORITY)
-      && actionProfile.getAction() == Action.UPDATE;
-  }
-
   /**
    * Parse list of source records
    *
@@ -236,137 +231,232 @@ public class ChangeEngineServiceImpl implements ChangeEngineService {
    * @param jobExecution  - job execution of record's parsing
    * @param sourceChunkId - id of the JobExecutionSourceChunk
    * @param tenantId      - tenant id
+   * @param marcRecords   - map to collect marc records read from parsed content by record id
    * @return - list of records with parsed or error data
    */
   private Future<List<Record>> parseRecords(List<InitialRecord> rawRecords, RecordsMetadata.ContentType recordContentType,
                                             JobExecution jobExecution, String sourceChunkId, String tenantId,
-                                            OkapiConnectionParams okapiParams) {
+                                            OkapiConnectionParams okapiParams, Map<String, org.marc4j.marc.Record> marcRecords) {
     if (CollectionUtils.isEmpty(rawRecords)) {
       return Future.succeededFuture(Collections.emptyList());
     }
     var parser = RecordParserBuilder.buildParser(recordContentType);
-    var counter = new MutableInt();
+    var counter = new AtomicInteger();
+    var reportedCounter = new AtomicInteger();
+    List<Future<Void>> progressUpdates = Collections.synchronizedList(new ArrayList<>());
+    boolean parseOnWorkerPool = parallelParsingEnabled && rawRecords.size() > 1;
+    var context = okapiParams.getVertx().getOrCreateContext();
     // if number of records is more than THRESHOLD_CHUNK_SIZE update the progress every 20% of processed records,
     // otherwise update it once after all the records are processed
     int partition = rawRecords.size() > THRESHOLD_CHUNK_SIZE ? rawRecords.size() / 5 : rawRecords.size();
-    var records = rawRecords.stream()
-      .map(rawRecord -> {
-        var parsedResult = parser.parseRecord(rawRecord.getRecord());
-        var recordId = UUID.randomUUID().toString();
-        var record = new Record()
-          .withId(recordId)
-          .withMatchedId(recordId)
-          .withRecordType(inferRecordType(jobExecution, parsedResult, recordId, sourceChunkId))
-          .withSnapshotId(jobExecution.getId())
-          .withOrder(rawRecord.getOrder())
-          .withGeneration(0)
-          .withState(Record.State.ACTUAL)
-          .withRawRecord(new RawRecord().withContent(rawRecord.getRecord()));
-        if (parsedResult.isHasError()) {
-          record.setErrorRecord(new ErrorRecord()
-            .withContent(rawRecord)
-            .withDescription(parsedResult.getErrors().encode()));
+    Function<InitialRecord, Record> recordParser = rawRecord -> {
+      var record = parseRecord(parser, rawRecord, jobExecution, sourceChunkId, marcRecords);
+      int processed = counter.incrementAndGet();
+      // the progress of the last records is updated once all the records are parsed
+      if (processed % partition == 0 && processed < rawRecords.size()) {
+        LOGGER.info("Parsed {} records out of {}", processed, rawRecords.size());
+        if (parseOnWorkerPool) {
+          // the progress is persisted from the caller context, not from the worker thread
+          context.runOnContext(v -> progressUpdates.add(updateSourceChunkProgress(sourceChunkId, processed, reportedCounter, tenantId)));
         } else {
-          record.setParsedRecord(new ParsedRecord().withId(recordId).withContent(parsedResult.getParsedRecord().encode()));
-          if (jobExecution.getJobProfileInfo().getDataType().equals(DataType.MARC)) {
-            postProcessMarcRecord(record, rawRecord);
-          }
-        }
-        return record;
-      })
-      .peek(stat -> { //NOSONAR
-        if (counter.incrementAndGet() % partition == 0) {
-          LOGGER.info("Parsed {} records out of {}", counter.intValue(), rawRecords.size());
-          jobExecutionSourceChunkDao.getById(sourceChunkId, tenantId)
-            .compose(optional -> optional
-              .map(sourceChunk -> jobExecutionSourceChunkDao
-                .update(sourceChunk.withProcessedAmount(sourceChunk.getProcessedAmount() + counter.intValue()), tenantId))
-              .orElseThrow(() -> new NotFoundException(format(
-                "Couldn't update jobExecutionSourceChunk progress, jobExecutionSourceChunk with id %s was not found",
-                sourceChunkId))));
+          progressUpdates.add(updateSourceChunkProgress(sourceChunkId, processed, reportedCounter, tenantId));
         }
-      }).collect(Collectors.toList());
+      }
+      return record;
+    };
+
+    Future<List<Record>> recordsFuture = parseOnWorkerPool
+      ? parseRecordsOnWorkerPool(rawRecords, recordParser, okapiParams.getVertx())
+      : Future.succeededFuture(rawRecords.stream().map(recordParser).collect(Collectors.toList()));
+
+    recordsFuture = recordsFuture.compose(records -> {
+      LOGGER.info("Parsed {} records out of {}", records.size(), rawRecords.size());
+      progressUpdates.add(updateSourceChunkProgress(sourceChunkId, records.size(), reportedCounter, tenantId));
+      Promise<List<Record>> promise = Promise.promise();
+      GenericCompositeFuture.join(new ArrayList<>(progressUpdates)).onComplete(ar -> promise.complete(records));
+      return promise.future();
+    });
+
+    return recordsFuture.compose(records -> filterMarcHoldingsBy004Field(records, marcRecords, okapiParams, jobExecution));
+  }
 
-    Promise<List<Record>> promise = Promise.promise();
+  private Record parseRecord(RecordParser parser, InitialRecord rawRecord, JobExecution jobExecution, String sourceChunkId,
+                             Map<String, org.marc4j.marc.Record> marcRecords) {
+    var parsedResult = parser.parseRecord(rawRecord.getRecord());
+    var recordId = UUID.randomUUID().toString();
+    var record = new Record()
+      .withId(recordId)
+      .withMatchedId(recordId)
+      .withRecordType(inferRecordType(jobExecution, parsedResult, recordId, sourceChunkId))
+      .withSnapshotId(jobExecution.getId())
+      .withOrder(rawRecord.getOrder())
+      .withGeneration(0)
+      .withState(Record.State.ACTUAL)
+      .withRawRecord(new RawRecord().withContent(rawRecord.getRecord()));
+    if (parsedResult.isHasError()) {
+      record.setErrorRecord(new ErrorRecord()
+        .withContent(rawRecord)
+        .withDescription(parsedResult.getErrors().encode()));
+    } else {
+      record.setParsedRecord(new ParsedRecord().withId(recordId).withContent(new RawJsonContent(parsedResult.getEncodedParsedRecord(), writeParsedContentAsJsonObject)));
+      if (jobExecution.getJobProfileInfo().getDataType().equals(DataType.MARC)) {
+        postProcessMarcRecord(record, rawRecord, marcRecords);
+      }
+    }
+    return record;
+  }
 
-    List<Future> listFuture = executeInBatches(records, batch -> verifyMarcHoldings004Field(batch, okapiParams));
-    filterMarcHoldingsBy004Field(records, listFuture, okapiParams, jobExecution, promise);
+  /**
+   * Splits raw records into the configured number of partitions and parses them concurrently on the vertx worker pool.
+   * Parsed records are returned in the same order as the raw records.
+   *
+   * @param rawRecords   - list of raw records for parsing
+   * @param recordParser - function parsing a single raw record
+   * @param vertx        - vertx instance
+   * @return future with list of parsed records
+   */
+  private Future<List<Record>> parseRecordsOnWorkerPool(List<InitialRecord> rawRecords,
+                                                        Function<InitialRecord, Record> recordParser, Vertx vertx) {
+    int partitionSize = (rawRecords.size() + parsingPartitionsNumber - 1) / parsingPartitionsNumber;
+    List<Future<List<Record>>> futures = Lists.partition(rawRecords, partitionSize).stream()
+      .map(partition -> vertx.<List<Record>>executeBlocking(promise ->
+        promise.complete(partition.stream().map(recordParser).collect(Collectors.toList())), false))
+      .collect(Collectors.toList());
 
-    return promise.future();
+    return GenericCompositeFuture.all(futures)
+      .map(ar -> futures.stream()
+        .map(Future::result)
+        .flatMap(List::stream)
+        .collect(Collectors.toList()));
   }
 
-  private List<Future> executeInBatches(List<Record> recordList,
-                                        Function<List<String>, Future<List<String>>> batchOperation) {
-    // filter list on MARC_HOLDINGS
-    var marcHoldingsIdsToVerify = recordList.stream()
-      .filter(recordItem -> recordItem.getRecordType() == MARC_HOLDING)
-      .map(recordItem -> getControlFieldValue(recordItem, TAG_004))
-      .filter(StringUtils::isNotBlank)
-      .collect(Collectors.toList());
-    // split on batches and create list of Futures
-    List<List<String>> batches = Lists.partition(marcHoldingsIdsToVerify, batchSize);
-    List<Future> futureList = new ArrayList<>();
-    for (List<String> batch : batches) {
-      futureList.add(batchOperation.apply(batch));
+  /**
+   * Increments processed amount of the JobExecutionSourceChunk by the number of records parsed since the previous update.
+   * Failed progress update does not affect records processing.
+   *
+   * @param sourceChunkId   - id of the JobExecutionSourceChunk
+   * @param processed       - number of records parsed so far
+   * @param reportedCounter - number of parsed records already added to processed amount
+   * @param tenantId        - tenant id
+   * @return future completed when the progress is updated
+   */
+  private Future<Void> updateSourceChunkProgress(String sourceChunkId, int processed, AtomicInteger reportedCounter,
+                                                 String tenantId) {
+    int processedDelta = processed - reportedCounter.getAndAccumulate(processed, Math::max);
+    if (processedDelta <= 0) {
+      return Future.succeededFuture();
     }
-    return futureList;
+    return jobExecutionSourceChunkDao.updateProgress(sourceChunkId, processedDelta, null, tenantId)
+      .onFailure(e -> LOGGER.warn("Couldn't update jobExecutionSourceChunk progress, jobExecutionSourceChunk id: {}",
+        sourceChunkId, e));
   }
 
-  private void filterMarcHoldingsBy004Field(List<Record> records, List<Future> batchList, OkapiConnectionParams okapiParams,
-                                            JobExecution jobExecution, Promise<List<Record>> promise) {
-
-    CompositeFuture.all(batchList)
-      .onComplete(as -> {
-        if (IterableUtils.matchesAll(records, record -> record.getRecordType() == MARC_HOLDING)) {
-          var invalidMarcBibIds = batchList
-            .stream()
-            .map(Future<List<String>>::result)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
-          LOGGER.info("MARC_BIB invalid list ids: {}", invalidMarcBibIds);
-          var validMarcBibRecords = records.stream()
-            .filter(record -> {
-              var controlFieldValue = getControlFieldValue(record, TAG_004);
-              return isValidMarcHoldings(jobExecution, okapiParams, invalidMarcBibIds, record, controlFieldValue);
-            }).collect(Collectors.toList());
-          LOGGER.info("Total marc holdings records: {}, invalid marc bib ids: {}, valid marc bib records: {}",
-            records.size(), invalidMarcBibIds.size(), validMarcBibRecords.size());
-          promise.complete(validMarcBibRecords);
-        } else {
-          promise.complete(records);
+  /**
+   * Filters out MARC holdings records whose 004 field does not refer to an existing MARC bib record.
+   * Filtering is applied only to chunks that consist of MARC holdings records.
+   *
+   * @param records      - parsed records
+   * @param marcRecords  - marc records read from parsed content by record id
+   * @param okapiParams  - okapi connection params
+   * @param jobExecution - job execution of record's parsing
+   * @return future with MARC holdings records having valid 004 field or with the same records if filtering is not applied
+   */
+  private Future<List<Record>> filterMarcHoldingsBy004Field(List<Record> records, Map<String, org.marc4j.marc.Record> marcRecords,
+                                                            OkapiConnectionParams okapiParams, JobExecution jobExecution) {
+    if (!IterableUtils.matchesAll(records, record -> record.getRecordType() == MARC_HOLDING)) {
+      return Future.succeededFuture(records);
+    }
+    Map<String, String> marcBibIds = new HashMap<>();
+    records.forEach(record -> {
+      org.marc4j.marc.Record marcRecord = marcRecords.get(record.getId());
+      if (record.getParsedRecord() != null && marcRecord != null) {
+        marcBibIds.put(record.getId(), getControlFieldValue(marcRecord, TAG_004));
+      }
+    });
+    return getInvalidMarcBibIds(marcBibIds.values(), okapiParams)
+      .map(invalidMarcBibIds -> {
+        var validMarcBibRecords = records.stream()
+          .filter(record -> {
+            var controlFieldValue = marcBibIds.get(record.getId());
+            return isValidMarcHoldings(jobExecution, okapiParams, invalidMarcBibIds, record, controlFieldValue);
+          }).collect(Collectors.toList());
+        LOGGER.info("Total marc holdings records: {}, invalid marc bib ids: {}, valid marc bib records: {}",
+          records.size(), invalidMarcBibIds.size(), validMarcBibRecords.size());
+        return validMarcBibRecords;
+      });
+  }
+
+  /**
+   * Determines MARC bib ids referenced by 004 field of MARC holdings records that do not exist in SRS.
+   * Ids which have been verified recently are taken from the cache, the rest are verified in SRS
+   * by batches of {@code batchSize} ids sent concurrently.
+   * Ids of the batches which could not be verified are considered valid and are not cached.
+   *
+   * @param marcBibIds  - MARC bib ids referenced by 004 field of MARC holdings records
+   * @param okapiParams - okapi connection params
+   * @return future with set of invalid MARC bib ids
+   */
+  private Future<Set<String>> getInvalidMarcBibIds(Collection<String> marcBibIds, OkapiConnectionParams okapiParams) {
+    var tenantId = okapiParams.getTenantId();
+    Set<String> invalidMarcBibIds = new HashSet<>();
+    List<String> marcBibIdsToVerify = new ArrayList<>();
+    marcBibIds.stream()
+      .filter(StringUtils::isNotBlank)
+      .distinct()
+      .forEach(marcBibId -> {
+        Boolean valid = verifiedMarcBibIdsCache.isValid(tenantId, marcBibId);
+        if (valid == null) {
+          marcBibIdsToVerify.add(marcBibId);
+        } else if (!valid) {
+          invalidMarcBibIds.add(marcBibId);
         }
       });
+    if (marcBibIdsToVerify.isEmpty()) {
+      return Future.succeededFuture(invalidMarcBibIds);
+    }
+
+    var sourceStorageBatchClient = getSourceStorageBatchClient(okapiParams);
+    List<Future<List<String>>> futures = Lists.partition(marcBibIdsToVerify, batchSize).stream()
+      .map(batch -> verifyMarcBibIds(sourceStorageBatchClient, batch, tenantId))
+      .collect(Collectors.toList());
+
+    Promise<Set<String>> promise = Promise.promise();
+    GenericCompositeFuture.join(futures).onComplete(ar -> {
+      futures.stream()
+        .filter(Future::succeeded)
+        .forEach(future -> invalidMarcBibIds.addAll(future.result()));
+      promise.complete(invalidMarcBibIds);
+    });
+    return promise.future();
   }
 
-  private Future<List<String>> verifyMarcHoldings004Field(List<String> marcBibIds, OkapiConnectionParams okapiParams) {
+  private Future<List<String>> verifyMarcBibIds(SourceStorageBatchClient sourceStorageBatchClient, List<String> marcBibIds,
+                                                String tenantId) {
     Promise<List<String>> promise = Promise.promise();
-    var sourceStorageBatchClient = getSourceStorageBatchClient(okapiParams);
     try {
       sourceStorageBatchClient.postSourceStorageBatchVerifiedRecords(marcBibIds, asyncResult -> {
-        LOGGER.info("Verify list of marc bib ids: {} ", marcBibIds);
-        List<String> invalidMarcBibIds = new ArrayList<>();
         if (asyncResult.succeeded() && asyncResult.result().statusCode() == 200) {
-          var body = asyncResult.result().body();
-          LOGGER.info("Response from SRS with invalid MARC Bib ids: {}", body);
-          var object = new JsonObject(body);
-          var ids = object.getJsonArray("invalidMarcBibIds");
-          invalidMarcBibIds = ids.getList();
-          LOGGER.info("List of marc bib ids: {}", invalidMarcBibIds);
+          var ids = new JsonObject(asyncResult.result().body()).getJsonArray("invalidMarcBibIds");
+          List<String> invalidMarcBibIds = ids == null ? Collections.emptyList() : ids.getList();
+          LOGGER.debug("Verified {} marc bib ids, invalid marc bib ids: {}", marcBibIds.size(), invalidMarcBibIds);
+          verifiedMarcBibIdsCache.putVerificationResult(tenantId, marcBibIds, new HashSet<>(invalidMarcBibIds));
+          promise.complete(invalidMarcBibIds);
         } else {
-          LOGGER.info("The marc holdings not found in the SRS: {} and status code: {}", asyncResult.result(),
-            asyncResult.result().statusCode());
+          String cause = asyncResult.failed()
+            ? asyncResult.cause().getMessage() : "status code: " + asyncResult.result().statusCode();
+          LOGGER.warn("Failed to verify marc bib ids in SRS, {}", cause);
+          promise.fail(cause);
         }
-        promise.complete(invalidMarcBibIds);
       });
     } catch (Exception e) {
       LOGGER.error("Error during call post request to SRS: {}", e.getMessage());
-      promise.complete(Collections.emptyList());
+      promise.fail(e);
     }
     return promise.future();
   }
 
   private boolean isValidMarcHoldings(JobExecution jobExecution, OkapiConnectionParams okapiParams,
-                                      List<String> invalidMarcBibIds, Record record, String controlFieldValue) {
+                                      Set<String> invalidMarcBibIds, Record record, String controlFieldValue) {
     if (isBlank(controlFieldValue) || invalidMarcBibIds.contains(controlFieldValue)) {
       populateError(record, jobExecution, okapiParams);
       return false;
@@ -387,7 +477,7 @@ public class ChangeEngineServiceImpl implements ChangeEngineService {
     var kafkaHeaders = KafkaHeaderUtils.kafkaHeadersFromMultiMap(okapiParams.getHeaders());
     kafkaHeaders.add(new KafkaHeaderImpl(RECORD_ID, record.getId()));
 
-    sendEventToKafka(okapiParams.getTenantId(), Json.encode(eventPayload), DI_ERROR.value(), kafkaHeaders, kafkaConfig, key)
+    sendEventToKafka(okapiParams.getTenantId(), Json.encode(eventPayload), DI_ERROR.value(), kafkaHeaders, kafkaConfig, key, kafkaProducerRegistry)
       .onFailure(
         th -> LOGGER.error("Error publishing DI_ERROR event for MARC Holdings record with id {}", record.getId(), th));
   }
@@ -415,34 +505,38 @@ public class ChangeEngineServiceImpl implements ChangeEngineService {
     return new SourceStorageBatchClient(okapiUrl, tenantId, token);
   }
 
-  private void postProcessMarcRecord(Record record, InitialRecord rawRecord) {
-    String matchedId = getValue(record, TAG_999, 's');
+  private void postProcessMarcRecord(Record record, InitialRecord rawRecord, Map<String, org.marc4j.marc.Record> marcRecords) {
+    org.marc4j.marc.Record marcRecord = readMarcRecord(record);
+    String matchedId = marcRecord != null ? getValue(marcRecord, TAG_999, 's') : null;
     if (StringUtils.isNotBlank(matchedId)) {
       record.setMatchedId(matchedId);
       record.setGeneration(null); // in case the same record is re-imported, generation should be calculated on SRS side
     }
 
     var recordType = record.getRecordType();
-    if (recordType == MARC_BIB) {
-      postProcessMarcBibRecord(record);
+    if (recordType == MARC_BIB && marcRecord != null) {
+      postProcessMarcBibRecord(record, marcRecord);
     } else if (recordType == MARC_HOLDING) {
-      postProcessMarcHoldingsRecord(record, rawRecord);
+      postProcessMarcHoldingsRecord(record, marcRecord, rawRecord);
+    }
+    if (marcRecord != null && record.getParsedRecord() != null) {
+      marcRecords.put(record.getId(), marcRecord);
     }
   }
 
-  private void postProcessMarcBibRecord(Record record) {
-    String instanceId = getValue(record, TAG_999, 'i');
+  private void postProcessMarcBibRecord(Record record, org.marc4j.marc.Record marcRecord) {
+    String instanceId = getValue(marcRecord, TAG_999, 'i');
     if (isNotBlank(instanceId)) {
       record.setExternalIdsHolder(new ExternalIdsHolder().withInstanceId(instanceId));
-      String instanceHrid = getControlFieldValue(record, TAG_001);
+      String instanceHrid = getControlFieldValue(marcRecord, TAG_001);
       if (isNotBlank(instanceHrid)) {
         record.getExternalIdsHolder().setInstanceHrid(instanceHrid);
       }
     }
   }
 
-  private void postProcessMarcHoldingsRecord(Record record, InitialRecord rawRecord) {
-    if (isBlank(getControlFieldValue(record, TAG_004))) {
+  private void postProcessMarcHoldingsRecord(Record record, org.marc4j.marc.Record marcRecord, InitialRecord rawRecord) {
+    if (marcRecord == null || isBlank(getControlFieldValue(marcRecord, TAG_004))) {
       LOGGER.error(HOLDINGS_004_TAG_ERROR_MESSAGE);
       record.setParsedRecord(null);
       record.setErrorRecord(new ErrorRecord()
@@ -455,42 +549,60 @@ public class ChangeEngineServiceImpl implements ChangeEngineService {
   private RecordType inferRecordType(JobExecution jobExecution, ParsedResult recordParsedResult, String recordId,
                                      String chunkId) {
     if (DataType.MARC.equals(jobExecution.getJobProfileInfo().getDataType())) {
-      MarcRecordType marcRecordType = marcRecordAnalyzer.process(recordParsedResult.getParsedRecord());
-      LOGGER.info(
-        "Marc record analyzer parsed record with id: {} and type: {} for jobExecutionId: {} from chunk with id: {} from file: {}",
-        recordId, marcRecordType, jobExecution.getId(), chunkId,
-        jobExecution.getFileName() == null ? "No file name" : jobExecution.getFileName());
-      return MarcRecordType.NA == marcRecordType ? null : RecordType.valueOf(MARC_FORMAT + marcRecordType.name());
+      MarcRecordType marcRecordType = MarcRecordTypeClassifier.classify(recordParsedResult.getLeader());
+      if (MarcRecordType.NA == marcRecordType) {
+        LOGGER.debug("Type of record with id: {} for jobExecutionId: {} from chunk with id: {} was not recognized",
+          recordId, jobExecution.getId(), chunkId);
+        return null;
+      }
+      return RecordType.valueOf(MARC_FORMAT + marcRecordType.name());
     }
 
     return RecordType.valueOf(jobExecution.getJobProfileInfo().getDataType().value());
   }
 
   /**
-   * Adds new additional fields into parsed records content to incoming records
+   * Adds new additional fields into parsed records content to incoming records.
+   * Marc records read while parsing are reused, the parsed content is read only for records missing in the map.
    *
-   * @param records list of records
+   * @param records     list of records
+   * @param marcRecords marc records read from parsed content by record id
    */
-  private void fillParsedRecordsWithAdditionalFields(List<Record> records) {
+  private void fillParsedRecordsWithAdditionalFields(List<Record> records, Map<String, org.marc4j.marc.Record> marcRecords) {
     if (!CollectionUtils.isEmpty(records)) {
       Record.RecordType recordType = records.get(0).getRecordType();
       if (MARC_BIB.equals(recordType) || MARC_HOLDING.equals(recordType)) {
-        hrIdFieldService.move001valueTo035Field(records);
-        for (Record record : records) {
-          addFieldToMarcRecord(record, TAG_999, 's', record.getMatchedId());
-        }
+        records.stream().parallel().forEach(record -> {
+          org.marc4j.marc.Record marcRecord = getMarcRecord(record, marcRecords);
+          if (marcRecord != null) {
+            hrIdFieldService.move001valueTo035Field(marcRecord);
+            addFieldToMarcRecord(marcRecord, TAG_999, 's', record.getMatchedId());
+            writeMarcRecord(record, marcRecord);
+          }
+        });
       } else if (MARC_AUTHORITY.equals(recordType)) {
-        for (Record record : records) {
-          addFieldToMarcRecord(record, TAG_999, 's', record.getMatchedId());
-          String inventoryId = UUID.randomUUID().toString();
-          addFieldToMarcRecord(record, TAG_999, 'i', inventoryId);
-          var hrid = getControlFieldValue(record, TAG_001).trim();
-          record.setExternalIdsHolder(new ExternalIdsHolder().withAuthorityId(inventoryId).withAuthorityHrid(hrid));
-        }
+        records.stream().parallel().forEach(record -> {
+          org.marc4j.marc.Record marcRecord = getMarcRecord(record, marcRecords);
+          if (marcRecord != null) {
+            String inventoryId = UUID.randomUUID().toString();
+            addFieldToMarcRecord(marcRecord, TAG_999, 's', record.getMatchedId());
+            addFieldToMarcRecord(marcRecord, TAG_999, 'i', inventoryId);
+            writeMarcRecord(record, marcRecord);
+            var hrid = StringUtils.trim(getControlFieldValue(marcRecord, TAG_001));
+            record.setExternalIdsHolder(new ExternalIdsHolder().withAuthorityId(inventoryId).withAuthorityHrid(hrid));
+          }
+        });
       }
     }
   }
 
+  private org.marc4j.marc.Record getMarcRecord(Record record, Map<String, org.marc4j.marc.Record> marcRecords) {
+    if (record.getParsedRecord() == null) {
+      return null;
+    }
+    return marcRecords.computeIfAbsent(record.getId(), id -> readMarcRecord(record));
+  }
+
   /**
    * Saves parsed records in mod-source-record-storage
    *
@@ -515,7 +627,7 @@ public class ChangeEngineServiceImpl implements ChangeEngineService {
     String key = String.valueOf(indexer.incrementAndGet() % maxDistributionNum);
 
     return sendEventToKafka(params.getTenantId(), Json.encode(recordCollection), DI_RAW_RECORDS_CHUNK_PARSED.value(),
-      kafkaHeaders, kafkaConfig, key)
+      kafkaHeaders, kafkaConfig, key, kafkaProducerRegistry)
       .map(parsedRecords);
   }
 }
@@ -1,21 +1,12 @@
 package org.folio.services;
 
 import io.vertx.core.json.Json;
-import io.vertx.core.json.JsonObject;
-import org.folio.dataimport.util.marc.MarcRecordAnalyzer;
-import org.folio.dataimport.util.marc.MarcRecordType;
 import org.folio.rest.jaxrs.model.EntityType;
 import org.folio.rest.jaxrs.model.Record;
 import org.springframework.stereotype.Component;
 
-import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.Map;
 
-import static java.util.Objects.requireNonNull;
-import static org.folio.dataimport.util.marc.MarcRecordType.AUTHORITY;
-import static org.folio.dataimport.util.marc.MarcRecordType.BIB;
-import static org.folio.dataimport.util.marc.MarcRecordType.HOLDING;
 import static org.folio.rest.jaxrs.model.EntityType.EDIFACT_INVOICE;
 import static org.folio.rest.jaxrs.model.EntityType.MARC_AUTHORITY;
 import static org.folio.rest.jaxrs.model.EntityType.MARC_BIBLIOGRAPHIC;
@@ -24,22 +15,6 @@ import static org.folio.rest.jaxrs.model.EntityType.MARC_HOLDINGS;
 @Component
 class DataImportPayloadContextBuilderImpl implements DataImportPayloadContextBuilder {
 
-  private static final Map<MarcRecordType, EntityType> MARC_TO_ENTITY_TYPE;
-
-  private final MarcRecordAnalyzer analyzer;
-
-  static {
-    MARC_TO_ENTITY_TYPE = new EnumMap<>(MarcRecordType.class);
-
-    MARC_TO_ENTITY_TYPE.put(BIB, MARC_BIBLIOGRAPHIC);
-    MARC_TO_ENTITY_TYPE.put(HOLDING, MARC_HOLDINGS);
-    MARC_TO_ENTITY_TYPE.put(AUTHORITY, MARC_AUTHORITY);
-  }
-
-  public DataImportPayloadContextBuilderImpl(MarcRecordAnalyzer analyzer) {
-    this.analyzer = analyzer;
-  }
-
   @Override
   public HashMap<String, String> buildFrom(Record initialRecord, String profileSnapshotWrapperId) {
     EntityType entityType = detectEntityType(initialRecord);
@@ -47,6 +22,11 @@ class DataImportPayloadContextBuilderImpl implements DataImportPayloadContextBui
     return createAndPopulateContext(entityType, initialRecord, profileSnapshotWrapperId);
   }
 
+  /**
+   * Puts the record encoded to json string into the context, since context values are strings.
+   * Parsed content written as json object (see {@link org.folio.services.util.RawJsonContent}) is escaped
+   * only once here, as part of the record, rather than as a string nested into the record string.
+   */
   private HashMap<String, String> createAndPopulateContext(EntityType entityType, Record initialRecord, String profileSnapshotWrapperId) {
     HashMap<String, String> context = new HashMap<>();
 
@@ -55,29 +35,24 @@ class DataImportPayloadContextBuilderImpl implements DataImportPayloadContextBui
     return context;
   }
 
+  /**
+   * Detects entity type by the record type, which is determined by the record leader when the record is parsed
+   */
   private EntityType detectEntityType(Record initialRecord) {
+    if (initialRecord.getRecordType() == null) {
+      throw new IllegalStateException("Unsupported Marc record type");
+    }
     switch (initialRecord.getRecordType()) {
       case EDIFACT:
         return EDIFACT_INVOICE;
       case MARC_BIB:
+        return MARC_BIBLIOGRAPHIC;
       case MARC_HOLDING:
+        return MARC_HOLDINGS;
       case MARC_AUTHORITY:
-        return getEntityType(initialRecord);
+        return MARC_AUTHORITY;
       default:
         throw new IllegalStateException("Unexpected record type: " + initialRecord.getRecordType());
     }
   }
-
-  private EntityType getEntityType(Record marcRecord) {
-    requireNonNull(marcRecord.getParsedRecord(), "Parsed record is null");
-    requireNonNull(marcRecord.getParsedRecord().getContent(), "Parsed record content is null");
-
-    MarcRecordType type = analyzer.process(new JsonObject(marcRecord.getParsedRecord().getContent().toString()));
-
-    EntityType entityType = MARC_TO_ENTITY_TYPE.get(type);
-    if (entityType == null) {
-      throw new IllegalStateException("Unsupported Marc record type");
-    }
-    return entityType;
-  }
 }
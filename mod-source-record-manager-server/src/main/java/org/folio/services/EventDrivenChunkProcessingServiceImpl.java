@@ -17,7 +17,6 @@ import org.springframework.stereotype.Service;
 
 import javax.ws.rs.NotFoundException;
 
-import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.folio.rest.jaxrs.model.StatusDto.Status.PARSING_IN_PROGRESS;
 
 @Service("eventDrivenChunkProcessingService")
@@ -36,32 +35,28 @@ public class EventDrivenChunkProcessingServiceImpl extends AbstractChunkProcessi
   }
 
   @Override
-  protected Future<Boolean> processRawRecordsChunk(RawRecordsDto incomingChunk, JobExecutionSourceChunk sourceChunk, String jobExecutionId, OkapiConnectionParams params) {
+  protected Future<Boolean> processRawRecordsChunk(RawRecordsDto incomingChunk, JobExecutionSourceChunk sourceChunk, JobExecution jobExecution, OkapiConnectionParams params) {
+    String jobExecutionId = jobExecution.getId();
     LOGGER.debug("Starting to process raw records chunk with id: {} for jobExecutionId: {}. Chunk size: {}.", sourceChunk.getId(), jobExecutionId, sourceChunk.getChunkSize());
     Promise<Boolean> promise = Promise.promise();
-    initializeJobExecutionProgressIfNecessary(jobExecutionId, incomingChunk, params.getTenantId())
-      .compose(ar -> checkAndUpdateJobExecutionStatusIfNecessary(jobExecutionId, new StatusDto().withStatus(StatusDto.Status.PARSING_IN_PROGRESS), params))
+    initializeJobExecutionProgressIfNecessary(jobExecution, incomingChunk, params.getTenantId())
+      .compose(ar -> checkAndUpdateJobExecutionStatusIfNecessary(jobExecution, new StatusDto().withStatus(StatusDto.Status.PARSING_IN_PROGRESS), params))
       .compose(jobExec -> changeEngineService.parseRawRecordsChunkForJobExecution(incomingChunk, jobExec, sourceChunk.getId(), params))
       .onComplete(sendEventsAr -> updateJobExecutionIfAllSourceChunksMarkedAsError(jobExecutionId, params)
         .onComplete(updateAr -> promise.handle(sendEventsAr.map(true))));
     return promise.future();
   }
 
-  private Future<Boolean> initializeJobExecutionProgressIfNecessary(String jobExecutionId, RawRecordsDto incomingChunk, String tenantId) {
-    return jobExecutionService.getJobExecutionById(jobExecutionId, tenantId)
-      .compose(optionalJobExecution -> optionalJobExecution
-        .map(jobExecution -> {
-          JobExecution.Status jobStatus = jobExecution.getStatus();
-          if (PARSING_IN_PROGRESS.value().equals(jobStatus.value()) || StatusDto.Status.ERROR.value().equals(jobStatus.value())) {
-            return Future.succeededFuture(true);
-          }
-          return jobExecutionProgressService.initializeJobExecutionProgress(jobExecution.getId(), incomingChunk.getRecordsMetadata().getTotal(), tenantId).map(true);
-        }).orElse(Future.failedFuture(new NotFoundException(String.format("Couldn't find JobExecution with id %s", jobExecutionId)))));
+  private Future<Boolean> initializeJobExecutionProgressIfNecessary(JobExecution jobExecution, RawRecordsDto incomingChunk, String tenantId) {
+    JobExecution.Status jobStatus = jobExecution.getStatus();
+    if (PARSING_IN_PROGRESS.value().equals(jobStatus.value()) || StatusDto.Status.ERROR.value().equals(jobStatus.value())) {
+      return Future.succeededFuture(true);
+    }
+    return jobExecutionProgressService.initializeJobExecutionProgress(jobExecution.getId(), incomingChunk.getRecordsMetadata().getTotal(), tenantId).map(true);
   }
 
   private Future<Boolean> updateJobExecutionIfAllSourceChunksMarkedAsError(String jobExecutionId, OkapiConnectionParams params) {
-    return jobExecutionSourceChunkDao.get("jobExecutionId==" + jobExecutionId + " AND last==true", 0, 1, params.getTenantId())
-      .compose(chunks -> isNotEmpty(chunks) ? jobExecutionSourceChunkDao.isAllChunksProcessed(jobExecutionId, params.getTenantId()) : Future.succeededFuture(false))
+    return jobExecutionSourceChunkDao.isLastChunkReceivedAndAllChunksProcessed(jobExecutionId, params.getTenantId())
       .compose(isAllChunksError -> {
         if (isAllChunksError) {
           StatusDto statusDto = new StatusDto().withStatus(StatusDto.Status.ERROR).withErrorStatus(StatusDto.ErrorStatus.RECORD_UPDATE_ERROR);
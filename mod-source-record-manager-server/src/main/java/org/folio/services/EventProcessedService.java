@@ -17,4 +17,14 @@ public interface EventProcessedService {
 
   Future<RowSet<Row>> collectData(String handlerId, String eventId, String tenantId);
 
+  /**
+   * Creates partitions of processed events for the upcoming days and drops the expired ones
+   *
+   * @param daysAhead     number of days ahead to create partitions for
+   * @param retentionDays number of days processed events are kept for
+   * @param tenantId      tenant id
+   * @return future with number of dropped partitions
+   */
+  Future<Integer> maintainPartitions(int daysAhead, int retentionDays, String tenantId);
+
 }
@@ -1,19 +1,52 @@
 package org.folio.services;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.pgclient.PgException;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.folio.dao.EventProcessedDao;
 import org.folio.kafka.exception.DuplicateEventException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.folio.services.AbstractChunkProcessingService.UNIQUE_CONSTRAINT_VIOLATION_CODE;
 
 @Service("eventProcessedService")
 public class EventProcessedServiceImpl implements EventProcessedService {
 
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final String EVENT_ID_FIELD = "event_id";
+  private static final String DUPLICATE_EVENT_MESSAGE = "Event with eventId=%s for handlerId=%s is already processed.";
+
   private EventProcessedDao eventProcessedDao;
+  private final Map<String, EventsBatch> pendingBatches = new ConcurrentHashMap<>();
+
+  @Autowired
+  private Vertx vertx;
+
+  @Value("${srm.events.processed.batch.size:50}")
+  private int batchSize;
+
+  @Value("${srm.events.processed.batch.window.ms:20}")
+  private long batchWindowMs;
+
+  @Value("${srm.kafka.DataImportConsumer.loadLimit:5}")
+  private int loadLimit;
 
   @Autowired
   public EventProcessedServiceImpl(EventProcessedDao eventProcessedDao) {
@@ -22,10 +55,123 @@ public class EventProcessedServiceImpl implements EventProcessedService {
 
   @Override
   public Future<RowSet<Row>> collectData(String handlerId, String eventId, String tenantId) {
-    return eventProcessedDao.save(handlerId, eventId, tenantId)
-      .recover(throwable ->
-        (throwable instanceof PgException && ((PgException) throwable).getCode().equals(UNIQUE_CONSTRAINT_VIOLATION_CODE)) ?
-          Future.failedFuture(new DuplicateEventException(String.format("Event with eventId=%s for handlerId=%s is already processed.", eventId, handlerId))) :
-          Future.failedFuture(throwable));
+    if (batchSize <= 1) {
+      return eventProcessedDao.save(handlerId, eventId, tenantId)
+        .compose(rows -> rows != null && rows.rowCount() == 0 ?
+          Future.failedFuture(new DuplicateEventException(String.format(DUPLICATE_EVENT_MESSAGE, eventId, handlerId))) :
+          Future.succeededFuture(rows))
+        .recover(throwable ->
+          (throwable instanceof PgException && ((PgException) throwable).getCode().equals(UNIQUE_CONSTRAINT_VIOLATION_CODE)) ?
+            Future.failedFuture(new DuplicateEventException(String.format(DUPLICATE_EVENT_MESSAGE, eventId, handlerId))) :
+            Future.failedFuture(throwable));
+    }
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    try {
+      addToBatch(handlerId, UUID.fromString(eventId).toString(), tenantId, promise);
+    } catch (IllegalArgumentException e) {
+      LOGGER.error("Failed to collect deduplication info for handlerId {} and eventId {}", handlerId, eventId, e);
+      promise.fail(e);
+    }
+    return promise.future();
+  }
+
+  @Override
+  public Future<Integer> maintainPartitions(int daysAhead, int retentionDays, String tenantId) {
+    return eventProcessedDao.createPartitions(daysAhead, tenantId)
+      .compose(v -> eventProcessedDao.dropExpiredPartitions(retentionDays, tenantId));
+  }
+
+  /**
+   * Adds eventId to the batch of the handler. The batch is saved by a single statement once it reaches
+   * the batch size or when the batch window elapses. The batch size is capped at the consumer load limit,
+   * since the consumer does not deliver more events until the pending ones are handled.
+   * The promise is completed when the batch is saved:
+   * successfully if the event was not processed yet, with {@link DuplicateEventException} otherwise.
+   */
+  private void addToBatch(String handlerId, String eventId, String tenantId, Promise<RowSet<Row>> promise) {
+    String key = tenantId + "_" + handlerId;
+    AtomicReference<EventsBatch> batchToSave = new AtomicReference<>();
+    AtomicReference<EventsBatch> createdBatch = new AtomicReference<>();
+    int maxBatchSize = Math.min(batchSize, loadLimit);
+    pendingBatches.compute(key, (k, batch) -> {
+      if (batch == null) {
+        batch = new EventsBatch(handlerId, tenantId);
+        createdBatch.set(batch);
+      }
+      batch.add(eventId, promise);
+      if (batch.size() >= maxBatchSize) {
+        batchToSave.set(batch);
+        return null;
+      }
+      return batch;
+    });
+
+    if (batchToSave.get() != null) {
+      saveBatch(batchToSave.get());
+    } else if (createdBatch.get() != null) {
+      EventsBatch batch = createdBatch.get();
+      vertx.setTimer(batchWindowMs, timerId -> {
+        // the batch may have been saved by size and replaced by a newer one, which has its own timer
+        if (pendingBatches.remove(key, batch)) {
+          saveBatch(batch);
+        }
+      });
+    }
+  }
+
+  private void saveBatch(EventsBatch batch) {
+    eventProcessedDao.saveBatch(batch.getHandlerId(), batch.getEventPromises().keySet(), batch.getTenantId())
+      .onSuccess(rows -> {
+        Set<String> savedEventIds = new HashSet<>();
+        rows.forEach(row -> savedEventIds.add(row.getValue(EVENT_ID_FIELD).toString()));
+        batch.getEventPromises().forEach((eventId, promises) -> {
+          for (int i = 0; i < promises.size(); i++) {
+            if (i == 0 && savedEventIds.contains(eventId)) {
+              promises.get(i).complete(rows);
+            } else {
+              promises.get(i).fail(new DuplicateEventException(String.format(DUPLICATE_EVENT_MESSAGE, eventId, batch.getHandlerId())));
+            }
+          }
+        });
+      })
+      .onFailure(e -> batch.getEventPromises().values()
+        .forEach(promises -> promises.forEach(promise -> promise.fail(e))));
+  }
+
+  /**
+   * EventIds of a single handler accumulated for saving by one statement
+   */
+  private static class EventsBatch {
+    private final String handlerId;
+    private final String tenantId;
+    private final Map<String, List<Promise<RowSet<Row>>>> eventPromises = new LinkedHashMap<>();
+    private int size;
+
+    EventsBatch(String handlerId, String tenantId) {
+      this.handlerId = handlerId;
+      this.tenantId = tenantId;
+    }
+
+    void add(String eventId, Promise<RowSet<Row>> promise) {
+      eventPromises.computeIfAbsent(eventId, id -> new ArrayList<>()).add(promise);
+      size++;
+    }
+
+    String getHandlerId() {
+      return handlerId;
+    }
+
+    String getTenantId() {
+      return tenantId;
+    }
+
+    Map<String, List<Promise<RowSet<Row>>>> getEventPromises() {
+      return eventPromises;
+    }
+
+    int size() {
+      return size;
+    }
   }
 }
@@ -0,0 +1,63 @@
+package org.folio.services;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import org.folio.rest.jaxrs.model.JobExecution;
+
+/**
+ * Short-lived in-memory cache of job executions loaded by id during chunks processing.
+ * Cached entities are shared between callers and must not be modified.
+ */
+@Component
+public class JobExecutionByIdCache {
+
+  // Pair of tenant id and job execution id
+  private final Cache<Pair<String, String>, JobExecution> cache;
+
+  @Autowired
+  public JobExecutionByIdCache(@Value("${srm.job.execution.by.id.cache.max.size:1000}") int maxSize,
+                               @Value("${srm.job.execution.by.id.cache.expire.seconds:5}") int expireInSeconds) {
+    cache = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(expireInSeconds, TimeUnit.SECONDS)
+      .build();
+  }
+
+  /**
+   * Returns cached job execution
+   *
+   * @param jobExecutionId job execution id
+   * @param tenantId       tenant id
+   * @return job execution or null if it is not cached
+   */
+  public JobExecution get(String jobExecutionId, String tenantId) {
+    return cache.getIfPresent(Pair.of(tenantId, jobExecutionId));
+  }
+
+  /**
+   * Puts job execution to this cache
+   *
+   * @param jobExecution job execution
+   * @param tenantId     tenant id
+   */
+  public void put(JobExecution jobExecution, String tenantId) {
+    cache.put(Pair.of(tenantId, jobExecution.getId()), jobExecution);
+  }
+
+  /**
+   * Removes job execution with the specified id from this cache
+   *
+   * @param jobExecutionId job execution id
+   * @param tenantId       tenant id
+   */
+  public void invalidate(String jobExecutionId, String tenantId) {
+    cache.invalidate(Pair.of(tenantId, jobExecutionId));
+  }
+}
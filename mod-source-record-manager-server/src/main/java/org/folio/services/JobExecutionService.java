@@ -73,6 +73,16 @@ public interface JobExecutionService {
    */
   Future<Optional<JobExecution>> getJobExecutionById(String id, String tenantId);
 
+  /**
+   * Searches for JobExecution by id, the found JobExecution is cached for a short time.
+   * Intended for chunks processing, the returned JobExecution may be a few seconds stale and must not be modified.
+   *
+   * @param id       JobExecution id
+   * @param tenantId tenant id
+   * @return future with optional JobExecution
+   */
+  Future<Optional<JobExecution>> getCachedJobExecutionById(String id, String tenantId);
+
   /**
    * Searches for children JobExecutions by parent id,
    * by default returns all existing children JobExecutions,
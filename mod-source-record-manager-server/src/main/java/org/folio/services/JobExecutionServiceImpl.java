@@ -13,6 +13,8 @@ import org.folio.HttpStatus;
 import org.folio.dao.JobExecutionDao;
 import org.folio.dao.JobExecutionFilter;
 import org.folio.dao.JobExecutionSourceChunkDao;
+import org.folio.dao.util.JobExecutionMutator;
+import org.folio.dao.util.JobExecutionStatusTransition;
 import org.folio.dao.util.SortField;
 import org.folio.dataimport.util.OkapiConnectionParams;
 import org.folio.dataimport.util.RestUtil;
@@ -43,10 +45,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
 import static org.folio.HttpStatus.HTTP_CREATED;
@@ -70,6 +75,7 @@ public class JobExecutionServiceImpl implements JobExecutionService {
   private static final String DEFAULT_LASTNAME = "SYSTEM";
   private static final String DEFAULT_JOB_PROFILE = "CLI Create MARC Bibs and Instances";
   private static final String DEFAULT_JOB_PROFILE_ID = "22fafcc3-f582-493d-88b0-3c538480cd83";
+  private static final Set<JobExecution.Status> NOT_PARENT_STATUSES = EnumSet.complementOf(EnumSet.of(JobExecution.Status.PARENT));
 
   @Autowired
   private JobExecutionDao jobExecutionDao;
@@ -77,6 +83,12 @@ public class JobExecutionServiceImpl implements JobExecutionService {
   private JobExecutionSourceChunkDao jobExecutionSourceChunkDao;
   @Autowired
   private JournalRecordService journalRecordService;
+  @Autowired
+  private JobProfileSnapshotCache jobProfileSnapshotCache;
+  @Autowired
+  private JobExecutionByIdCache jobExecutionByIdCache;
+  @Autowired
+  private JobExecutionsCache jobExecutionsCache;
 
   @Override
   public Future<JobExecutionDtoCollection> getJobExecutionsWithoutParentMultiple(JobExecutionFilter filter, List<SortField> sortFields, int offset, int limit, String tenantId) {
@@ -114,7 +126,7 @@ public class JobExecutionServiceImpl implements JobExecutionService {
 
   @Override
   public Future<JobExecution> updateJobExecution(JobExecution jobExecution, OkapiConnectionParams params) {
-    return jobExecutionDao.updateBlocking(jobExecution.getId(), currentJobExec -> {
+    return updateBlocking(jobExecution.getId(), currentJobExec -> {
       Promise<JobExecution> promise = Promise.promise();
       if (JobExecution.Status.PARENT.equals(jobExecution.getStatus()) ^ JobExecution.Status.PARENT.equals(currentJobExec.getStatus())) {
         String errorMessage = format("JobExecution %s current status is %s and cannot be updated to %s",
@@ -134,6 +146,17 @@ public class JobExecutionServiceImpl implements JobExecutionService {
     return jobExecutionDao.getJobExecutionById(id, tenantId);
   }
 
+  @Override
+  public Future<Optional<JobExecution>> getCachedJobExecutionById(String id, String tenantId) {
+    JobExecution cachedJobExecution = jobExecutionByIdCache.get(id, tenantId);
+    if (cachedJobExecution != null) {
+      return Future.succeededFuture(Optional.of(cachedJobExecution));
+    }
+    return jobExecutionDao.getJobExecutionById(id, tenantId)
+      .onSuccess(optionalJobExecution -> optionalJobExecution
+        .ifPresent(jobExecution -> jobExecutionByIdCache.put(jobExecution, tenantId)));
+  }
+
   @Override
   public Future<JobExecutionDtoCollection> getJobExecutionCollectionByParentId(String parentId, int offset, int limit, String tenantId) {
     return jobExecutionDao.getJobExecutionById(parentId, tenantId)
@@ -157,35 +180,55 @@ public class JobExecutionServiceImpl implements JobExecutionService {
       LOGGER.error(errorMessage);
       return Future.failedFuture(new BadRequestException(errorMessage));
     } else {
-      return jobExecutionDao.updateBlocking(jobExecutionId, jobExecution -> {
-        Promise<JobExecution> promise = Promise.promise();
-        try {
-          if (JobExecution.Status.PARENT.name().equals(jobExecution.getStatus().name())) {
-            String message = format("JobExecution %s current status is PARENT and cannot be updated", jobExecutionId);
-            LOGGER.error(message);
-            promise.fail(new BadRequestException(message));
-          } else {
-            jobExecution.setStatus(JobExecution.Status.fromValue(status.getStatus().name()));
-            jobExecution.setUiStatus(JobExecution.UiStatus.fromValue(Status.valueOf(status.getStatus().name()).getUiStatus()));
-            updateJobExecutionIfErrorExist(status, jobExecution);
-            promise.complete(jobExecution);
+      JobExecutionStatusTransition transition;
+      try {
+        transition = new JobExecutionStatusTransition(JobExecution.Status.fromValue(status.getStatus().name()),
+          JobExecution.UiStatus.fromValue(Status.valueOf(status.getStatus().name()).getUiStatus()), NOT_PARENT_STATUSES);
+        updateStatusTransitionIfErrorExist(status, transition);
+      } catch (Exception e) {
+        String errorMessage = "Error updating JobExecution with id " + jobExecutionId;
+        LOGGER.error(errorMessage, e);
+        return Future.failedFuture(errorMessage);
+      }
+      jobExecutionByIdCache.invalidate(jobExecutionId, params.getTenantId());
+      return jobExecutionDao.updateStatus(jobExecutionId, transition, params.getTenantId())
+        .onComplete(ar -> {
+          jobExecutionByIdCache.invalidate(jobExecutionId, params.getTenantId());
+          if (ar.succeeded() && ar.result().isPresent()) {
+            jobExecutionsCache.invalidate(params.getTenantId());
           }
-        } catch (Exception e) {
-          String errorMessage = "Error updating JobExecution with id " + jobExecutionId;
-          LOGGER.error(errorMessage, e);
-          promise.fail(errorMessage);
-        }
-        return promise.future();
-      }, params.getTenantId())
+        })
+        .compose(optionalJobExecution -> optionalJobExecution
+          .map(Future::succeededFuture)
+          .orElseGet(() -> failStatusTransition(jobExecutionId, params.getTenantId())))
         .compose(jobExecution -> updateSnapshotStatus(jobExecution, params));
     }
   }
 
+  /**
+   * Returns failed future with the reason the status of JobExecution could not be changed
+   *
+   * @param jobExecutionId JobExecution id
+   * @param tenantId       tenant id
+   * @return failed future
+   */
+  private Future<JobExecution> failStatusTransition(String jobExecutionId, String tenantId) {
+    return jobExecutionDao.getJobExecutionById(jobExecutionId, tenantId)
+      .compose(optionalJobExecution -> {
+        if (optionalJobExecution.isEmpty()) {
+          return Future.failedFuture(new NotFoundException(format("JobExecution with id '%s' was not found", jobExecutionId)));
+        }
+        String message = format("JobExecution %s current status is %s and cannot be updated", jobExecutionId, optionalJobExecution.get().getStatus());
+        LOGGER.error(message);
+        return Future.failedFuture(new BadRequestException(message));
+      });
+  }
+
   @Override
   public Future<JobExecution> setJobProfileToJobExecution(String jobExecutionId, JobProfileInfo jobProfile, OkapiConnectionParams params) {
     return loadJobProfileById(jobProfile.getId(), params)
       .map(profile-> jobProfile.withName(profile.getName()))
-      .compose(v-> jobExecutionDao.updateBlocking(jobExecutionId, jobExecution -> {
+      .compose(v-> updateBlocking(jobExecutionId, jobExecution -> {
         if (jobExecution.getJobProfileSnapshotWrapper() != null) {
           throw new BadRequestException(String.format("JobExecution already associated to JobProfile with id '%s'", jobProfile.getId()));
         }
@@ -441,7 +484,36 @@ public class JobExecutionServiceImpl implements JobExecutionService {
     return promise.future();
   }
 
+  /**
+   * Updates JobExecution using {@link JobExecutionDao#updateBlocking} and evicts it from the cache of JobExecutions by id.
+   * Cached pages of JobExecutions of the tenant are evicted if the status of JobExecution has been changed.
+   *
+   * @param jobExecutionId JobExecution id
+   * @param mutator        mutator to apply to the current JobExecution
+   * @param tenantId       tenant id
+   * @return future with updated JobExecution
+   */
+  private Future<JobExecution> updateBlocking(String jobExecutionId, JobExecutionMutator mutator, String tenantId) {
+    AtomicBoolean statusChanged = new AtomicBoolean();
+    JobExecutionMutator statusTrackingMutator = currentJobExec -> {
+      JobExecution.Status currentStatus = currentJobExec.getStatus();
+      return mutator.mutate(currentJobExec)
+        .onSuccess(jobExec -> statusChanged.set(currentStatus != jobExec.getStatus()));
+    };
+    jobExecutionByIdCache.invalidate(jobExecutionId, tenantId);
+    return jobExecutionDao.updateBlocking(jobExecutionId, statusTrackingMutator, tenantId)
+      .onComplete(ar -> {
+        jobExecutionByIdCache.invalidate(jobExecutionId, tenantId);
+        if (ar.succeeded() && statusChanged.get()) {
+          jobExecutionsCache.invalidate(tenantId);
+        }
+      });
+  }
+
   private Future<JobExecution> updateSnapshotStatus(JobExecution jobExecution, OkapiConnectionParams params) {
+    if (jobExecution.getStatus() == COMMITTED || jobExecution.getStatus() == JobExecution.Status.ERROR) {
+      jobProfileSnapshotCache.invalidate(jobExecution.getId());
+    }
     Promise<JobExecution> promise = Promise.promise();
     Snapshot snapshot = new Snapshot()
       .withJobExecutionId(jobExecution.getId())
@@ -453,7 +525,7 @@ public class JobExecutionServiceImpl implements JobExecutionService {
         if (response.result().statusCode() == HttpStatus.HTTP_OK.toInt()) {
           promise.complete(jobExecution);
         } else {
-          jobExecutionDao.updateBlocking(jobExecution.getId(), jobExec -> {
+          updateBlocking(jobExecution.getId(), jobExec -> {
             Promise<JobExecution> jobExecutionPromise = Promise.promise();
             jobExec.setErrorStatus(JobExecution.ErrorStatus.SNAPSHOT_UPDATE_ERROR);
             jobExec.setStatus(JobExecution.Status.ERROR);
@@ -520,17 +592,17 @@ public class JobExecutionServiceImpl implements JobExecutionService {
   }
 
   /**
-   * Updates jobExecution object, if Error exists.
+   * Adds error status and completion details to the status transition, if Error exists.
    *
-   * @param status       - DTO which contains new status
-   * @param jobExecution - specific JobExecution
+   * @param status     - DTO which contains new status
+   * @param transition - status transition to be applied to the JobExecution
    */
-  private void updateJobExecutionIfErrorExist(StatusDto status, JobExecution jobExecution) {
+  private void updateStatusTransitionIfErrorExist(StatusDto status, JobExecutionStatusTransition transition) {
     if (status.getStatus() == ERROR) {
-      jobExecution.setErrorStatus(JobExecution.ErrorStatus.fromValue(status.getErrorStatus().name()));
-      jobExecution.setCompletedDate(new Date());
-      if (jobExecution.getErrorStatus().equals(JobExecution.ErrorStatus.FILE_PROCESSING_ERROR)) {
-        jobExecution.setProgress(jobExecution.getProgress().withTotal(0));
+      JobExecution.ErrorStatus errorStatus = JobExecution.ErrorStatus.fromValue(status.getErrorStatus().name());
+      transition.withErrorStatus(errorStatus).withCompletedDate(new Date());
+      if (errorStatus == JobExecution.ErrorStatus.FILE_PROCESSING_ERROR) {
+        transition.withProgressTotal(0);
       }
     }
   }
@@ -1,27 +1,30 @@
 package org.folio.services;
 
 import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.dao.JobExecutionDao;
 import org.folio.dao.JobExecutionFilter;
 import org.folio.dao.util.SortField;
 import org.folio.rest.jaxrs.model.JobExecutionDtoCollection;
+import org.folio.services.entity.JobExecutionsCacheKey;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
- * In-memory cache for the job executions and DI landing page
+ * In-memory cache for the job executions and DI landing page.
+ * Concurrent requests of the same page are served by a single query to the db.
  */
 @Component
 public class JobExecutionsCache {
@@ -29,62 +32,103 @@ public class JobExecutionsCache {
   private static final Logger LOGGER = LogManager.getLogger();
 
   private Integer expireInSeconds;
-  private JobExecutionService jobExecutionService;
-  // Pair of tenant id and conditions from JobExecutionFilter
-  private AsyncLoadingCache<Pair<String, String>, Optional<JobExecutionDtoCollection>> cache;
+  private Integer totalExpireInSeconds;
+  private JobExecutionDao jobExecutionDao;
+  private AsyncLoadingCache<JobExecutionsCacheKey, JobExecutionDtoCollection> cache;
+  // Pair of tenant id and JobExecutionFilter
+  private Cache<Pair<String, JobExecutionFilter>, Integer> totalsCache;
   private Vertx vertx;
 
   @Autowired
-  public JobExecutionsCache(JobExecutionService jobExecutionService, Vertx vertx,
-                            @Value("${srm.job.execution.cache.expire.seconds:30}") Integer expireInSeconds) {
+  public JobExecutionsCache(JobExecutionDao jobExecutionDao, Vertx vertx,
+                            @Value("${srm.job.execution.cache.expire.seconds:30}") Integer expireInSeconds,
+                            @Value("${srm.job.execution.total.cache.expire.seconds:60}") Integer totalExpireInSeconds) {
     this.expireInSeconds = expireInSeconds;
-    this.jobExecutionService = jobExecutionService;
+    this.totalExpireInSeconds = totalExpireInSeconds;
+    this.jobExecutionDao = jobExecutionDao;
     this.vertx = vertx;
     cache = buildCache();
+    totalsCache = buildTotalsCache();
   }
 
-  public Future<JobExecutionDtoCollection> get(String tenantId, JobExecutionFilter filter, List<SortField> sortFields, int offset, int limit) {
+  /**
+   * Returns page of job executions which are not PARENT_MULTIPLE
+   *
+   * @param tenantId       tenant id
+   * @param filter         filter containing conditions by which jobExecutions should be filtered
+   * @param sortFields     fields to sort jobExecutions
+   * @param afterId        id of the last job execution of the previous page to use keyset pagination, can be null
+   * @param offset         starting index in a list of results, ignored if afterId is specified
+   * @param limit          maximum number of results to return
+   * @param estimatedTotal whether total number of job executions can be taken from the count cached for the same filter
+   * @return future with page of job executions
+   */
+  public Future<JobExecutionDtoCollection> get(String tenantId, JobExecutionFilter filter, List<SortField> sortFields,
+                                               String afterId, int offset, int limit, boolean estimatedTotal) {
     Promise<JobExecutionDtoCollection> promise = Promise.promise();
-    String uniqueQuery = appendSortAndPagingParams(filter, sortFields, offset, limit);
-    cache.get(Pair.of(tenantId, uniqueQuery)).whenComplete((jobExecutionOptional, e) -> {
+    JobExecutionsCacheKey key = new JobExecutionsCacheKey(tenantId, filter, sortFields, afterId, offset, limit, estimatedTotal);
+    cache.get(key).whenComplete((jobExecutionCollection, e) -> {
       if (e == null) {
-        if (jobExecutionOptional.isPresent()) {
-          promise.complete(jobExecutionOptional.get());
-        } else {
-          jobExecutionService.getJobExecutionsWithoutParentMultiple(filter, sortFields, offset, limit, tenantId)
-            .onSuccess(ar -> {
-              put(tenantId, uniqueQuery, ar);
-              promise.complete(ar);
-            })
-            .onFailure(cause -> {
-              LOGGER.error("Failure to get job executions without parent", cause);
-              promise.fail(cause);
-            });
-        }
+        promise.complete(jobExecutionCollection);
       } else {
+        LOGGER.error("Failure to get job executions without parent", e);
         promise.fail(e);
       }
     });
     return promise.future();
   }
 
+  /**
+   * Removes all cached pages and totals of job executions of the specified tenant.
+   * Pages which are being loaded at the moment are not cached after loading.
+   *
+   * @param tenantId tenant id
+   */
+  public void invalidate(String tenantId) {
+    // async map view contains pages which are being loaded, unlike the synchronous view
+    cache.asMap().keySet().removeIf(key -> key.getTenantId().equals(tenantId));
+    totalsCache.asMap().keySet().removeIf(key -> key.getLeft().equals(tenantId));
+  }
 
-  private String appendSortAndPagingParams(JobExecutionFilter filter, List<SortField> sortFields, int offset, int limit) {
-    return String.format("%s sortBy=%s LIMIT %d OFFSET %d", filter.buildCriteria(), sortFields, limit, offset);
+  private Future<JobExecutionDtoCollection> loadJobExecutions(JobExecutionsCacheKey key) {
+    if (key.getAfterId() == null && !key.isEstimatedTotal()) {
+      return jobExecutionDao.getJobExecutionsWithoutParentMultiple(key.getFilter(), key.getSortFields(),
+        key.getOffset(), key.getLimit(), key.getTenantId());
+    }
+    Future<JobExecutionDtoCollection> pageFuture = jobExecutionDao.getJobExecutionsPageWithoutParentMultiple(key.getFilter(),
+      key.getSortFields(), key.getAfterId(), key.getOffset(), key.getLimit(), key.getTenantId());
+    Future<Integer> totalFuture = key.isEstimatedTotal()
+      ? getEstimatedTotal(key.getTenantId(), key.getFilter())
+      : jobExecutionDao.countJobExecutionsWithoutParentMultiple(key.getFilter(), key.getTenantId());
+    return CompositeFuture.all(pageFuture, totalFuture)
+      .map(ar -> pageFuture.result().withTotalRecords(totalFuture.result()));
   }
 
-  private void put(String tenantId, String cqlQuery, JobExecutionDtoCollection jobExecutionCollection) {
-    cache.put(Pair.of(tenantId, cqlQuery), CompletableFuture.completedFuture(Optional.of(jobExecutionCollection)));
+  private Future<Integer> getEstimatedTotal(String tenantId, JobExecutionFilter filter) {
+    Pair<String, JobExecutionFilter> key = Pair.of(tenantId, filter);
+    Integer total = totalsCache.getIfPresent(key);
+    if (total != null) {
+      return Future.succeededFuture(total);
+    }
+    return jobExecutionDao.countJobExecutionsWithoutParentMultiple(filter, tenantId)
+      .onSuccess(count -> totalsCache.put(key, count));
   }
 
-  private AsyncLoadingCache<Pair<String, String>, Optional<JobExecutionDtoCollection>> buildCache() {
+  private AsyncLoadingCache<JobExecutionsCacheKey, JobExecutionDtoCollection> buildCache() {
     return Caffeine.newBuilder()
       .executor(task -> vertx.runOnContext(ar -> task.run()))
       .expireAfterWrite(expireInSeconds, TimeUnit.SECONDS)
-      .buildAsync((key, executor) -> CompletableFuture.completedFuture(Optional.empty()));
+      .buildAsync((key, executor) -> loadJobExecutions(key).toCompletionStage().toCompletableFuture());
+  }
+
+  private Cache<Pair<String, JobExecutionFilter>, Integer> buildTotalsCache() {
+    return Caffeine.newBuilder()
+      .expireAfterWrite(totalExpireInSeconds, TimeUnit.SECONDS)
+      .build();
   }
 
   public void evictCache() {
     cache = buildCache();
+    totalsCache = buildTotalsCache();
   }
 }
@@ -0,0 +1,52 @@
+package org.folio.services;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import org.folio.rest.jaxrs.model.JobExecution;
+import org.folio.services.entity.JobProfileSnapshotEntry;
+
+/**
+ * In-memory cache for the job profile snapshots of job executions which are in progress
+ */
+@Component
+public class JobProfileSnapshotCache {
+
+  private final Cache<String, JobProfileSnapshotEntry> cache;
+
+  @Autowired
+  public JobProfileSnapshotCache(@Value("${srm.job.profile.snapshot.cache.max.size:100}") int maxSize,
+                                 @Value("${srm.job.profile.snapshot.cache.expire.minutes:60}") int expireInMinutes) {
+    cache = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterAccess(expireInMinutes, TimeUnit.MINUTES)
+      .build();
+  }
+
+  /**
+   * Returns job profile snapshot of the specified job execution, the snapshot is converted and cached on first access
+   *
+   * @param jobExecution job execution
+   * @return job profile snapshot entry
+   */
+  public JobProfileSnapshotEntry get(JobExecution jobExecution) {
+    if (jobExecution.getJobProfileSnapshotWrapper() == null) {
+      return new JobProfileSnapshotEntry(null);
+    }
+    return cache.get(jobExecution.getId(), id -> new JobProfileSnapshotEntry(jobExecution.getJobProfileSnapshotWrapper()));
+  }
+
+  /**
+   * Removes job profile snapshot of the specified job execution from this cache
+   *
+   * @param jobExecutionId job execution id
+   */
+  public void invalidate(String jobExecutionId) {
+    cache.invalidate(jobExecutionId);
+  }
+}
@@ -20,6 +20,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
 
 import org.folio.kafka.KafkaConfig;
+import org.folio.services.util.KafkaProducerRegistry;
 
 @Service
 public class QuickMarcEventProducerServiceImpl implements QuickMarcEventProducerService {
@@ -28,10 +29,11 @@ public class QuickMarcEventProducerServiceImpl implements QuickMarcEventProducer
   private final KafkaConfig kafkaConfig;
   private final Map<String, KafkaProducer<String, String>> kafkaProducers = new HashMap<>();
 
-  public QuickMarcEventProducerServiceImpl(KafkaConfig kafkaConfig) {
+  public QuickMarcEventProducerServiceImpl(KafkaConfig kafkaConfig, KafkaProducerRegistry kafkaProducerRegistry) {
     this.kafkaConfig = kafkaConfig;
-    kafkaProducers.put(QM_RECORD_UPDATED.name(), createProducer(QM_RECORD_UPDATED.name(), kafkaConfig));
-    kafkaProducers.put(QM_COMPLETED.name(), createProducer(QM_COMPLETED.name(), kafkaConfig));
+    Map<String, String> producerProps = kafkaProducerRegistry.getProducerProps(kafkaConfig);
+    kafkaProducers.put(QM_RECORD_UPDATED.name(), createProducer(QM_RECORD_UPDATED.name(), producerProps));
+    kafkaProducers.put(QM_COMPLETED.name(), createProducer(QM_COMPLETED.name(), producerProps));
   }
 
   @Override
@@ -1,8 +1,8 @@
 package org.folio.services;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.json.DecodeException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.DataImportEventPayload;
@@ -14,12 +14,18 @@ import org.folio.rest.jaxrs.model.Progress;
 import org.folio.rest.jaxrs.model.StatusDto;
 import org.folio.services.journal.JournalService;
 import org.folio.services.progress.JobExecutionProgressService;
+import org.folio.services.util.EventCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.lang.String.format;
 import static org.folio.rest.jaxrs.model.JobExecution.Status.COMMITTED;
@@ -35,7 +41,16 @@ public class RecordProcessedEventHandlingServiceImpl implements EventHandlingSer
   private JobExecutionService jobExecutionService;
   private JournalService journalService;
   private JobMonitoringService jobMonitoringService;
+  private final Map<String, ProgressDelta> pendingProgressDeltas = new ConcurrentHashMap<>();
 
+  @Value("${srm.progress.flush.events.threshold:100}")
+  private int progressFlushThreshold;
+
+  @Value("${srm.progress.flush.interval.ms:500}")
+  private long progressFlushIntervalMs;
+
+  @Value("${srm.kafka.DataImportConsumer.loadLimit:5}")
+  private int loadLimit;
 
   public RecordProcessedEventHandlingServiceImpl(@Autowired JobExecutionProgressService jobExecutionProgressService,
                                                  @Autowired JobExecutionService jobExecutionService,
@@ -52,8 +67,8 @@ public class RecordProcessedEventHandlingServiceImpl implements EventHandlingSer
     Promise<Boolean> promise = Promise.promise();
     DataImportEventPayload dataImportEventPayload;
     try {
-      dataImportEventPayload = new ObjectMapper().readValue(eventContent, DataImportEventPayload.class);
-    } catch (IOException e) {
+      dataImportEventPayload = EventCodec.decodeDataImportEventPayload(eventContent);
+    } catch (DecodeException e) {
       LOGGER.error("Failed to read eventContent {}", eventContent, e);
       promise.fail(e);
       return promise.future();
@@ -62,16 +77,7 @@ public class RecordProcessedEventHandlingServiceImpl implements EventHandlingSer
     String jobExecutionId = dataImportEventPayload.getJobExecutionId();
     try {
       DataImportEventTypes eventType = DataImportEventTypes.valueOf(dataImportEventPayload.getEventType());
-      jobExecutionProgressService.updateJobExecutionProgress(jobExecutionId, progress -> changeProgressAccordingToEventType(progress, eventType), params.getTenantId())
-        .compose(updatedProgress -> updateJobExecutionIfAllRecordsProcessed(jobExecutionId, updatedProgress, params))
-        .onComplete(ar -> {
-          if (ar.failed()) {
-            LOGGER.error("Failed to handle {} event", eventType, ar.cause());
-            updateJobStatusToError(jobExecutionId, params).onComplete(statusAr -> promise.fail(ar.cause()));
-          } else {
-            promise.complete(true);
-          }
-        });
+      addProgressDelta(jobExecutionId, eventType, promise, params);
     } catch (Exception e) {
       LOGGER.error("Failed to handle event {}", eventContent, e);
       updateJobStatusToError(jobExecutionId, params);
@@ -80,24 +86,71 @@ public class RecordProcessedEventHandlingServiceImpl implements EventHandlingSer
     return promise.future();
   }
 
+  /**
+   * Accumulates progress change caused by the event in memory. Accumulated changes are flushed to the database
+   * by a single update once the number of accumulated events reaches flush threshold or after flush interval elapses.
+   * The flush threshold is capped at the consumer load limit, since the consumer does not deliver more events
+   * until the pending ones are handled. The promise is completed after the change it belongs to is persisted.
+   */
+  private void addProgressDelta(String jobExecutionId, DataImportEventTypes eventType, Promise<Boolean> promise,
+                                OkapiConnectionParams params) {
+    String key = params.getTenantId() + "_" + jobExecutionId;
+    AtomicReference<ProgressDelta> deltaToFlush = new AtomicReference<>();
+    AtomicReference<ProgressDelta> createdDelta = new AtomicReference<>();
+    int flushThreshold = Math.min(progressFlushThreshold, loadLimit);
+    pendingProgressDeltas.compute(key, (k, delta) -> {
+      if (delta == null) {
+        delta = new ProgressDelta(jobExecutionId, params);
+        createdDelta.set(delta);
+      }
+      delta.add(eventType, promise);
+      if (delta.getEventsCount() >= flushThreshold) {
+        deltaToFlush.set(delta);
+        return null;
+      }
+      return delta;
+    });
+
+    if (deltaToFlush.get() != null) {
+      flushProgressDelta(deltaToFlush.get());
+    } else if (createdDelta.get() != null) {
+      ProgressDelta delta = createdDelta.get();
+      params.getVertx().setTimer(progressFlushIntervalMs, timerId -> {
+        // the delta may have been flushed by threshold and replaced by a newer one, which has its own timer
+        if (pendingProgressDeltas.remove(key, delta)) {
+          flushProgressDelta(delta);
+        }
+      });
+    }
+  }
+
+  private void flushProgressDelta(ProgressDelta delta) {
+    String jobExecutionId = delta.getJobExecutionId();
+    OkapiConnectionParams params = delta.getParams();
+    if (delta.getSucceeded() == 0 && delta.getFailed() == 0) {
+      delta.getPromises().forEach(promise -> promise.complete(true));
+      return;
+    }
+
+    jobExecutionProgressService.updateJobExecutionProgressCounters(jobExecutionId, delta.getSucceeded(), delta.getFailed(), params.getTenantId())
+      .compose(updatedProgress -> updateJobExecutionIfAllRecordsProcessed(jobExecutionId, updatedProgress, params))
+      .onComplete(ar -> {
+        if (ar.failed()) {
+          LOGGER.error("Failed to update progress for jobExecution with id '{}' by {} events", jobExecutionId, delta.getEventsCount(), ar.cause());
+          updateJobStatusToError(jobExecutionId, params)
+            .onComplete(statusAr -> delta.getPromises().forEach(promise -> promise.fail(ar.cause())));
+        } else {
+          delta.getPromises().forEach(promise -> promise.complete(true));
+        }
+      });
+  }
+
   private Future<JobExecution> updateJobStatusToError(String jobExecutionId, OkapiConnectionParams params) {
     return jobExecutionService.updateJobExecutionStatus(jobExecutionId, new StatusDto()
       .withStatus(StatusDto.Status.ERROR)
       .withErrorStatus(StatusDto.ErrorStatus.FILE_PROCESSING_ERROR), params);
   }
 
-  private JobExecutionProgress changeProgressAccordingToEventType(JobExecutionProgress progress, DataImportEventTypes eventType) {
-    switch (eventType) {
-      case DI_COMPLETED:
-        return progress.withCurrentlySucceeded(progress.getCurrentlySucceeded() + 1);
-      case DI_ERROR:
-        return progress.withCurrentlyFailed(progress.getCurrentlyFailed() + 1);
-      default:
-        LOGGER.error("Illegal event type specified '{}' ", eventType);
-        return progress;
-    }
-  }
-
   private Future<Boolean> updateJobExecutionIfAllRecordsProcessed(String jobExecutionId, JobExecutionProgress progress, OkapiConnectionParams params) {
     if (progress.getTotal().equals(progress.getCurrentlySucceeded() + progress.getCurrentlyFailed())) {
       return jobExecutionService.getJobExecutionById(jobExecutionId, params.getTenantId())
@@ -120,4 +173,58 @@ public class RecordProcessedEventHandlingServiceImpl implements EventHandlingSer
     }
     return Future.succeededFuture(false);
   }
+
+  /**
+   * Progress changes of a single jobExecution accumulated between flushes
+   */
+  private static class ProgressDelta {
+    private final String jobExecutionId;
+    private final OkapiConnectionParams params;
+    private final List<Promise<Boolean>> promises = new ArrayList<>();
+    private int succeeded;
+    private int failed;
+
+    ProgressDelta(String jobExecutionId, OkapiConnectionParams params) {
+      this.jobExecutionId = jobExecutionId;
+      this.params = params;
+    }
+
+    void add(DataImportEventTypes eventType, Promise<Boolean> promise) {
+      switch (eventType) {
+        case DI_COMPLETED:
+          succeeded++;
+          break;
+        case DI_ERROR:
+          failed++;
+          break;
+        default:
+          LOGGER.error("Illegal event type specified '{}' ", eventType);
+      }
+      promises.add(promise);
+    }
+
+    String getJobExecutionId() {
+      return jobExecutionId;
+    }
+
+    OkapiConnectionParams getParams() {
+      return params;
+    }
+
+    List<Promise<Boolean>> getPromises() {
+      return promises;
+    }
+
+    int getSucceeded() {
+      return succeeded;
+    }
+
+    int getFailed() {
+      return failed;
+    }
+
+    int getEventsCount() {
+      return promises.size();
+    }
+  }
 }
@@ -1,6 +1,5 @@
 package org.folio.services;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.json.Json;
@@ -10,12 +9,13 @@ import org.apache.logging.log4j.Logger;
 import org.folio.dataimport.util.OkapiConnectionParams;
 import org.folio.kafka.KafkaConfig;
 import org.folio.kafka.KafkaHeaderUtils;
+import org.folio.services.util.KafkaProducerRegistry;
 import org.folio.okapi.common.GenericCompositeFuture;
 import org.folio.rest.jaxrs.model.DataImportEventPayload;
 import org.folio.rest.jaxrs.model.ErrorRecord;
 import org.folio.rest.jaxrs.model.JobExecution;
-import org.folio.rest.jaxrs.model.ProfileSnapshotWrapper;
 import org.folio.rest.jaxrs.model.Record;
+import org.folio.services.entity.JobProfileSnapshotEntry;
 import org.folio.services.exceptions.RecordsPublishingException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,7 +23,9 @@ import org.springframework.stereotype.Service;
 
 import javax.ws.rs.NotFoundException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -40,21 +42,30 @@ import static org.folio.services.util.EventHandlingUtil.sendEventToKafka;
   private JobExecutionService jobExecutionService;
   private DataImportPayloadContextBuilder payloadContextBuilder;
   private KafkaConfig kafkaConfig;
+  private JobProfileSnapshotCache jobProfileSnapshotCache;
+  private KafkaProducerRegistry kafkaProducerRegistry;
 
   @Value("${srm.kafka.CreatedRecordsKafkaHandler.maxDistributionNum:100}")
   private int maxDistributionNum;
 
+  @Value("${srm.kafka.RecordsPublishingService.maxInFlightEvents:100}")
+  private int maxInFlightEvents;
+
   public RecordsPublishingServiceImpl(@Autowired JobExecutionService jobExecutionService,
                                       @Autowired DataImportPayloadContextBuilder payloadContextBuilder,
-                                      @Autowired KafkaConfig kafkaConfig) {
+                                      @Autowired KafkaConfig kafkaConfig,
+                                      @Autowired JobProfileSnapshotCache jobProfileSnapshotCache,
+                                      @Autowired KafkaProducerRegistry kafkaProducerRegistry) {
     this.jobExecutionService = jobExecutionService;
     this.payloadContextBuilder = payloadContextBuilder;
     this.kafkaConfig = kafkaConfig;
+    this.jobProfileSnapshotCache = jobProfileSnapshotCache;
+    this.kafkaProducerRegistry = kafkaProducerRegistry;
   }
 
   @Override
   public Future<Boolean> sendEventsWithRecords(List<Record> records, String jobExecutionId, OkapiConnectionParams params, String eventType) {
-    return jobExecutionService.getJobExecutionById(jobExecutionId, params.getTenantId())
+    return jobExecutionService.getCachedJobExecutionById(jobExecutionId, params.getTenantId())
       .compose(jobExecutionOptional -> {
         if (jobExecutionOptional.isPresent()) {
           return sendRecords(records, jobExecutionOptional.get(), params, eventType);
@@ -66,34 +77,23 @@ import static org.folio.services.util.EventHandlingUtil.sendEventToKafka;
 
   private Future<Boolean> sendRecords(List<Record> createdRecords, JobExecution jobExecution, OkapiConnectionParams params, String eventType) {
     Promise<Boolean> promise = Promise.promise();
-    List<Future<Boolean>> futures = new ArrayList<>();
-    List<Record> failedRecords = new ArrayList<>();
-    ProfileSnapshotWrapper profileSnapshotWrapper = new ObjectMapper().convertValue(jobExecution.getJobProfileSnapshotWrapper(), ProfileSnapshotWrapper.class);
-
-    for (Record record : createdRecords) {
-      String key = String.valueOf(indexer.incrementAndGet() % maxDistributionNum);
-      try {
-        if (isRecordReadyToSend(record)) {
-          DataImportEventPayload payload = prepareEventPayload(record, profileSnapshotWrapper, params, eventType);
-          params.getHeaders().set(RECORD_ID_HEADER, record.getId());
-          futures.add(sendEventToKafka(params.getTenantId(), Json.encode(payload),
-            eventType, KafkaHeaderUtils.kafkaHeadersFromMultiMap(params.getHeaders()), kafkaConfig, key));
-        }
-      } catch (Exception e) {
-        LOGGER.error("Error publishing event with record id: {}",record.getId(), e);
-        record.setErrorRecord(new ErrorRecord().withContent(record.getRawRecord()).withDescription(e.getMessage()));
-        failedRecords.add(record);
-      }
-    }
-
-    if (CollectionUtils.isNotEmpty(failedRecords)) {
-      futures.add(Future.failedFuture(new RecordsPublishingException(String.format("Failed to process %s records", failedRecords.size()), failedRecords)));
+    List<Record> failedRecords = Collections.synchronizedList(new ArrayList<>());
+    JobProfileSnapshotEntry profileSnapshot = jobProfileSnapshotCache.get(jobExecution);
+    Iterator<Record> recordsIterator = createdRecords.iterator();
+
+    int inFlightWindow = maxInFlightEvents > 0 ? Math.min(maxInFlightEvents, createdRecords.size()) : createdRecords.size();
+    List<Future<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < inFlightWindow; i++) {
+      Promise<Void> sendingPromise = Promise.promise();
+      sendNextRecords(recordsIterator, profileSnapshot, params, eventType, failedRecords, sendingPromise);
+      futures.add(sendingPromise.future());
     }
 
     GenericCompositeFuture.join(futures).onComplete(ar -> {
-      if (ar.failed()) {
-        LOGGER.error("Error publishing events with records", ar.cause());
-        promise.fail(ar.cause());
+      if (CollectionUtils.isNotEmpty(failedRecords)) {
+        RecordsPublishingException e = new RecordsPublishingException(String.format("Failed to process %s records", failedRecords.size()), failedRecords);
+        LOGGER.error("Error publishing events with records", e);
+        promise.fail(e);
         return;
       }
       promise.complete(true);
@@ -101,6 +101,60 @@ import static org.folio.services.util.EventHandlingUtil.sendEventToKafka;
     return promise.future();
   }
 
+  /**
+   * Sends events with records taken one by one from the iterator, the next record is sent once the previous one
+   * is written to kafka. Failed records are collected with error description instead of failing the whole sending.
+   * Records whose sending completes immediately are handled in a loop, and sending continues from the completion
+   * callback otherwise, so the call stack does not grow with the number of records.
+   *
+   * @param sendingPromise promise completed when there are no more records to send
+   */
+  private void sendNextRecords(Iterator<Record> recordsIterator, JobProfileSnapshotEntry profileSnapshot,
+                               OkapiConnectionParams params, String eventType, List<Record> failedRecords,
+                               Promise<Void> sendingPromise) {
+    Record record;
+    while ((record = nextRecord(recordsIterator)) != null) {
+      Future<Void> sendingFuture = sendRecordCollectingFailure(record, profileSnapshot, params, eventType, failedRecords);
+      if (!sendingFuture.isComplete()) {
+        sendingFuture.onComplete(ar -> sendNextRecords(recordsIterator, profileSnapshot, params, eventType, failedRecords, sendingPromise));
+        return;
+      }
+    }
+    sendingPromise.complete();
+  }
+
+  private Future<Void> sendRecordCollectingFailure(Record record, JobProfileSnapshotEntry profileSnapshot,
+                                                   OkapiConnectionParams params, String eventType, List<Record> failedRecords) {
+    return sendRecord(record, profileSnapshot, params, eventType)
+      .recover(e -> {
+        LOGGER.error("Error publishing event with record id: {}", record.getId(), e);
+        record.setErrorRecord(new ErrorRecord().withContent(record.getRawRecord()).withDescription(e.getMessage()));
+        failedRecords.add(record);
+        return Future.succeededFuture();
+      });
+  }
+
+  private Record nextRecord(Iterator<Record> recordsIterator) {
+    synchronized (recordsIterator) {
+      return recordsIterator.hasNext() ? recordsIterator.next() : null;
+    }
+  }
+
+  private Future<Void> sendRecord(Record record, JobProfileSnapshotEntry profileSnapshot, OkapiConnectionParams params, String eventType) {
+    try {
+      if (!isRecordReadyToSend(record)) {
+        return Future.succeededFuture();
+      }
+      String key = String.valueOf(indexer.incrementAndGet() % maxDistributionNum);
+      DataImportEventPayload payload = prepareEventPayload(record, profileSnapshot, params, eventType);
+      params.getHeaders().set(RECORD_ID_HEADER, record.getId());
+      return sendEventToKafka(params.getTenantId(), Json.encode(payload),
+        eventType, KafkaHeaderUtils.kafkaHeadersFromMultiMap(params.getHeaders()), kafkaConfig, key, kafkaProducerRegistry).mapEmpty();
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
   /**
    * Checks whether the record contains parsed content for sending.
    *
@@ -116,20 +170,23 @@ import static org.folio.services.util.EventHandlingUtil.sendEventToKafka;
   }
 
   /**
-   * Prepares eventPayload with record and profileSnapshotWrapper
+   * Prepares eventPayload with record and job profile snapshot
    *
-   * @param record                 record to send
-   * @param profileSnapshotWrapper profileSnapshotWrapper to send
-   * @param params                 connection parameters
+   * @param record          record to send
+   * @param profileSnapshot job profile snapshot to send
+   * @param params          connection parameters
    * @return dataImportEventPayload
    */
-  private DataImportEventPayload prepareEventPayload(Record record, ProfileSnapshotWrapper profileSnapshotWrapper,
+  private DataImportEventPayload prepareEventPayload(Record record, JobProfileSnapshotEntry profileSnapshot,
                                                      OkapiConnectionParams params, String eventType) {
-    HashMap<String, String> context = payloadContextBuilder.buildFrom(record, profileSnapshotWrapper.getId());
+    if (profileSnapshot.getFirstChildSnapshotWrapper() == null) {
+      throw new IllegalStateException(format("Job profile snapshot of jobExecution with id '%s' has no child profiles", record.getSnapshotId()));
+    }
+    HashMap<String, String> context = payloadContextBuilder.buildFrom(record, profileSnapshot.getProfileSnapshotWrapper().getId());
 
     return new DataImportEventPayload()
       .withEventType(eventType)
-      .withCurrentNode(profileSnapshotWrapper.getChildSnapshotWrappers().get(0))
+      .withCurrentNode(profileSnapshot.getFirstChildSnapshotWrapper())
       .withJobExecutionId(record.getSnapshotId())
       .withContext(context)
       .withOkapiUrl(params.getOkapiUrl())
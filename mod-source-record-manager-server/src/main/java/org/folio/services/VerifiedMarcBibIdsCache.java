@@ -0,0 +1,74 @@
+package org.folio.services;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory cache of MARC bib ids referenced by 004 field of MARC holdings records which have been verified in SRS.
+ * Invalid ids are kept for a shorter time than valid ones, since the missing MARC bib records may be imported meanwhile.
+ */
+@Component
+public class VerifiedMarcBibIdsCache {
+
+  private final Cache<String, Boolean> validIdsCache;
+  private final Cache<String, Boolean> invalidIdsCache;
+
+  @Autowired
+  public VerifiedMarcBibIdsCache(@Value("${srm.marc.bib.ids.cache.max.size:100000}") int maxSize,
+                                 @Value("${srm.marc.bib.ids.cache.valid.expire.minutes:30}") int validExpireInMinutes,
+                                 @Value("${srm.marc.bib.ids.cache.invalid.expire.seconds:60}") int invalidExpireInSeconds) {
+    validIdsCache = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(validExpireInMinutes, TimeUnit.MINUTES)
+      .build();
+    invalidIdsCache = Caffeine.newBuilder()
+      .maximumSize(maxSize)
+      .expireAfterWrite(invalidExpireInSeconds, TimeUnit.SECONDS)
+      .build();
+  }
+
+  /**
+   * Returns verification result of the specified MARC bib id
+   *
+   * @param tenantId  tenant id
+   * @param marcBibId MARC bib id
+   * @return true if the id is known to be valid, false if it is known to be invalid, null if it has not been verified yet
+   */
+  public Boolean isValid(String tenantId, String marcBibId) {
+    String key = buildKey(tenantId, marcBibId);
+    if (validIdsCache.getIfPresent(key) != null) {
+      return true;
+    }
+    return invalidIdsCache.getIfPresent(key) != null ? false : null;
+  }
+
+  /**
+   * Puts result of MARC bib ids verification to this cache
+   *
+   * @param tenantId           tenant id
+   * @param verifiedMarcBibIds MARC bib ids which have been verified
+   * @param invalidMarcBibIds  verified MARC bib ids which have been found invalid
+   */
+  public void putVerificationResult(String tenantId, Collection<String> verifiedMarcBibIds, Collection<String> invalidMarcBibIds) {
+    for (String marcBibId : verifiedMarcBibIds) {
+      String key = buildKey(tenantId, marcBibId);
+      if (invalidMarcBibIds.contains(marcBibId)) {
+        validIdsCache.invalidate(key);
+        invalidIdsCache.put(key, Boolean.FALSE);
+      } else {
+        invalidIdsCache.invalidate(key);
+        validIdsCache.put(key, Boolean.TRUE);
+      }
+    }
+  }
+
+  private String buildKey(String tenantId, String marcBibId) {
+    return tenantId + ":" + marcBibId;
+  }
+}
@@ -5,6 +5,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.rest.jaxrs.model.Record;
+import org.folio.services.util.ParsedRecordUtil;
+import org.folio.services.util.RawJsonContent;
 import org.marc4j.MarcJsonReader;
 import org.marc4j.MarcJsonWriter;
 import org.marc4j.MarcReader;
@@ -47,33 +49,13 @@ public final class AdditionalFieldsUtil {
    */
   public static boolean addFieldToMarcRecord(Record record, String field, char subfield, String value) {
     boolean result = false;
-    try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+    try {
       if (record != null && record.getParsedRecord() != null && record.getParsedRecord().getContent() != null) {
         MarcReader reader = buildMarcReader(record);
-        MarcWriter streamWriter = new MarcStreamWriter(new ByteArrayOutputStream());
-        MarcJsonWriter jsonWriter = new MarcJsonWriter(os);
-        MarcFactory factory = MarcFactory.newInstance();
         if (reader.hasNext()) {
           org.marc4j.marc.Record marcRecord = reader.next();
-          VariableField variableField = getSingleFieldByIndicators(marcRecord.getVariableFields(field), INDICATOR, INDICATOR);
-          DataField dataField;
-          if (variableField != null
-            && ((DataField) variableField).getIndicator1() == INDICATOR
-            && ((DataField) variableField).getIndicator2() == INDICATOR
-          ) {
-            dataField = (DataField) variableField;
-            marcRecord.removeVariableField(variableField);
-            dataField.removeSubfield(dataField.getSubfield(subfield));
-          } else {
-            dataField = factory.newDataField(field, INDICATOR, INDICATOR);
-          }
-          dataField.addSubfield(factory.newSubfield(subfield, value));
-          marcRecord.addVariableField(dataField);
-          // use stream writer to recalculate leader
-          streamWriter.write(marcRecord);
-          jsonWriter.write(marcRecord);
-          record.setParsedRecord(record.getParsedRecord().withContent(new JsonObject(new String(os.toByteArray())).encode()));
-          result = true;
+          addFieldToMarcRecord(marcRecord, field, subfield, value);
+          result = writeMarcRecord(record, marcRecord);
         }
       }
     } catch (Exception e) {
@@ -82,6 +64,33 @@ public final class AdditionalFieldsUtil {
     return result;
   }
 
+  /**
+   * Adds field if it does not exist and a subfield with a value to that field of already parsed marc record.
+   * The changes are not written to the record content until {@link #writeMarcRecord(Record, org.marc4j.marc.Record)} is called
+   *
+   * @param marcRecord marc record that needs to be updated
+   * @param field      field that should contain new subfield
+   * @param subfield   new subfield to add
+   * @param value      value of the subfield to add
+   */
+  public static void addFieldToMarcRecord(org.marc4j.marc.Record marcRecord, String field, char subfield, String value) {
+    MarcFactory factory = MarcFactory.newInstance();
+    VariableField variableField = getSingleFieldByIndicators(marcRecord.getVariableFields(field), INDICATOR, INDICATOR);
+    DataField dataField;
+    if (variableField != null
+      && ((DataField) variableField).getIndicator1() == INDICATOR
+      && ((DataField) variableField).getIndicator2() == INDICATOR
+    ) {
+      dataField = (DataField) variableField;
+      marcRecord.removeVariableField(variableField);
+      dataField.removeSubfield(dataField.getSubfield(subfield));
+    } else {
+      dataField = factory.newDataField(field, INDICATOR, INDICATOR);
+    }
+    dataField.addSubfield(factory.newSubfield(subfield, value));
+    marcRecord.addVariableField(dataField);
+  }
+
   /**
    * Adds new controlled field to marc record
    *
@@ -105,7 +114,7 @@ public final class AdditionalFieldsUtil {
           // use stream writer to recalculate leader
           streamWriter.write(marcRecord);
           jsonWriter.write(marcRecord);
-          record.setParsedRecord(record.getParsedRecord().withContent(new JsonObject(new String(os.toByteArray())).encode()));
+          setParsedContent(record, new JsonObject(new String(os.toByteArray())).encode());
           result = true;
         }
       }
@@ -125,22 +134,13 @@ public final class AdditionalFieldsUtil {
    */
   public static boolean addDataFieldToMarcRecord(Record record, String tag, char ind1, char ind2, char subfield, String value) {
     boolean result = false;
-    try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+    try {
       if (record != null && record.getParsedRecord() != null && record.getParsedRecord().getContent() != null) {
         MarcReader reader = buildMarcReader(record);
-        MarcWriter streamWriter = new MarcStreamWriter(new ByteArrayOutputStream());
-        MarcJsonWriter jsonWriter = new MarcJsonWriter(os);
-        MarcFactory factory = MarcFactory.newInstance();
         if (reader.hasNext()) {
           org.marc4j.marc.Record marcRecord = reader.next();
-          DataField dataField = factory.newDataField(tag, ind1, ind2);
-          dataField.addSubfield(factory.newSubfield(subfield, value));
-          addDataFieldInNumericalOrder(dataField, marcRecord);
-          // use stream writer to recalculate leader
-          streamWriter.write(marcRecord);
-          jsonWriter.write(marcRecord);
-          record.setParsedRecord(record.getParsedRecord().withContent(new JsonObject(new String(os.toByteArray())).encode()));
-          result = true;
+          addDataFieldToMarcRecord(marcRecord, tag, ind1, ind2, subfield, value);
+          result = writeMarcRecord(record, marcRecord);
         }
       }
     } catch (Exception e) {
@@ -149,6 +149,21 @@ public final class AdditionalFieldsUtil {
     return result;
   }
 
+  /**
+   * Adds new data field to already parsed marc record in numerical order of tags
+   *
+   * @param marcRecord marc record that needs to be updated
+   * @param tag        tag of data field
+   * @param value      value of the field to add
+   */
+  public static void addDataFieldToMarcRecord(org.marc4j.marc.Record marcRecord, String tag, char ind1, char ind2,
+                                              char subfield, String value) {
+    MarcFactory factory = MarcFactory.newInstance();
+    DataField dataField = factory.newDataField(tag, ind1, ind2);
+    dataField.addSubfield(factory.newSubfield(subfield, value));
+    addDataFieldInNumericalOrder(dataField, marcRecord);
+  }
+
   private static void addDataFieldInNumericalOrder(DataField field, org.marc4j.marc.Record marcRecord) {
     String tag = field.getTag();
     List<DataField> dataFields = marcRecord.getDataFields();
@@ -174,20 +189,7 @@ public final class AdditionalFieldsUtil {
       MarcReader reader = buildMarcReader(record);
       try {
         if (reader.hasNext()) {
-          org.marc4j.marc.Record marcRecord = reader.next();
-          for (VariableField field : marcRecord.getVariableFields(tag)) {
-            if (field instanceof DataField) {
-              for (Subfield sub : ((DataField) field).getSubfields(subfield)) {
-                if (isNotEmpty(sub.getData()) && sub.getData().equals(value.trim())) {
-                  return true;
-                }
-              }
-            } else if (field instanceof ControlField
-              && isNotEmpty(((ControlField) field).getData())
-              && ((ControlField) field).getData().equals(value.trim())) {
-              return true;
-            }
-          }
+          return isFieldExist(reader.next(), tag, subfield, value);
         }
       } catch (Exception e) {
         LOGGER.error("Error during the search a field in the record", e);
@@ -197,6 +199,31 @@ public final class AdditionalFieldsUtil {
     return false;
   }
 
+  /**
+   * Check if data field with the same value exist in already parsed marc record
+   *
+   * @param marcRecord marc record
+   * @param tag        tag of data field
+   * @param value      value of the field to search
+   * @return true if exist
+   */
+  public static boolean isFieldExist(org.marc4j.marc.Record marcRecord, String tag, char subfield, String value) {
+    for (VariableField field : marcRecord.getVariableFields(tag)) {
+      if (field instanceof DataField) {
+        for (Subfield sub : ((DataField) field).getSubfields(subfield)) {
+          if (isNotEmpty(sub.getData()) && sub.getData().equals(value.trim())) {
+            return true;
+          }
+        }
+      } else if (field instanceof ControlField
+        && isNotEmpty(((ControlField) field).getData())
+        && ((ControlField) field).getData().equals(value.trim())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Extracts value from specified field
    *
@@ -209,12 +236,7 @@ public final class AdditionalFieldsUtil {
       MarcReader reader = buildMarcReader(record);
       try {
         if (reader.hasNext()) {
-          org.marc4j.marc.Record marcRecord = reader.next();
-          return marcRecord.getControlFields().stream()
-            .filter(controlField -> controlField.getTag().equals(tag))
-            .findFirst()
-            .map(ControlField::getData)
-            .orElse(null);
+          return getControlFieldValue(reader.next(), tag);
         }
       } catch (Exception e) {
         LOGGER.error("Error during the search a field in the record", e);
@@ -224,6 +246,21 @@ public final class AdditionalFieldsUtil {
     return null;
   }
 
+  /**
+   * Extracts value from specified control field of already parsed marc record
+   *
+   * @param marcRecord marc record
+   * @param tag        tag of control field
+   * @return value from the specified field, or null
+   */
+  public static String getControlFieldValue(org.marc4j.marc.Record marcRecord, String tag) {
+    return marcRecord.getControlFields().stream()
+      .filter(controlField -> controlField.getTag().equals(tag))
+      .findFirst()
+      .map(ControlField::getData)
+      .orElse(null);
+  }
+
   /**
    * Extracts value from specified field
    *
@@ -236,16 +273,7 @@ public final class AdditionalFieldsUtil {
       MarcReader reader = buildMarcReader(record);
       try {
         if (reader.hasNext()) {
-          org.marc4j.marc.Record marcRecord = reader.next();
-          for (VariableField field : marcRecord.getVariableFields(tag)) {
-            if (field instanceof DataField) {
-              if (CollectionUtils.isNotEmpty(((DataField) field).getSubfields(subfield))) {
-                return ((DataField) field).getSubfields(subfield).get(0).getData();
-              }
-            } else if (field instanceof ControlField) {
-              return ((ControlField) field).getData();
-            }
-          }
+          return getValue(reader.next(), tag, subfield);
         }
       } catch (Exception e) {
         LOGGER.error("Error during the search a field in the record", e);
@@ -255,6 +283,26 @@ public final class AdditionalFieldsUtil {
     return null;
   }
 
+  /**
+   * Extracts value from specified field of already parsed marc record
+   *
+   * @param marcRecord marc record
+   * @param tag        tag of data field
+   * @return value from the specified field, or null
+   */
+  public static String getValue(org.marc4j.marc.Record marcRecord, String tag, char subfield) {
+    for (VariableField field : marcRecord.getVariableFields(tag)) {
+      if (field instanceof DataField) {
+        if (CollectionUtils.isNotEmpty(((DataField) field).getSubfields(subfield))) {
+          return ((DataField) field).getSubfields(subfield).get(0).getData();
+        }
+      } else if (field instanceof ControlField) {
+        return ((ControlField) field).getData();
+      }
+    }
+    return null;
+  }
+
   /**
    * remove field from marc record
    *
@@ -278,7 +326,7 @@ public final class AdditionalFieldsUtil {
           // use stream writer to recalculate leader
           marcStreamWriter.write(marcRecord);
           marcJsonWriter.write(marcRecord);
-          record.setParsedRecord(record.getParsedRecord().withContent(new JsonObject(new String(baos.toByteArray())).encode()));
+          setParsedContent(record, new JsonObject(new String(baos.toByteArray())).encode());
           result = true;
         }
       }
@@ -288,8 +336,64 @@ public final class AdditionalFieldsUtil {
     return result;
   }
 
+  /**
+   * Sets parsed record content keeping the way the current content is written to json
+   *
+   * @param record  record that needs to be updated
+   * @param content content encoded to json string
+   */
+  private static void setParsedContent(Record record, String content) {
+    Object currentContent = record.getParsedRecord().getContent();
+    record.setParsedRecord(record.getParsedRecord().withContent(currentContent instanceof RawJsonContent
+      ? ((RawJsonContent) currentContent).withJson(content)
+      : content));
+  }
+
+  /**
+   * Reads parsed record content into marc record, so that several changes can be applied
+   * to it before it is written back with {@link #writeMarcRecord(Record, org.marc4j.marc.Record)}
+   *
+   * @param record record
+   * @return marc record, or null if the record has no parsed content or it can not be read
+   */
+  public static org.marc4j.marc.Record readMarcRecord(Record record) {
+    if (record != null && record.getParsedRecord() != null && record.getParsedRecord().getContent() != null) {
+      try {
+        MarcReader reader = buildMarcReader(record);
+        if (reader.hasNext()) {
+          return reader.next();
+        }
+      } catch (Exception e) {
+        LOGGER.error("Failed to read parsed content of record {}", record.getId(), e);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Recalculates leader of the marc record and writes it as parsed record content
+   *
+   * @param record     record that needs to be updated
+   * @param marcRecord marc record to write
+   * @return true if succeeded, false otherwise
+   */
+  public static boolean writeMarcRecord(Record record, org.marc4j.marc.Record marcRecord) {
+    try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+      MarcWriter streamWriter = new MarcStreamWriter(new ByteArrayOutputStream());
+      MarcJsonWriter jsonWriter = new MarcJsonWriter(os);
+      // use stream writer to recalculate leader
+      streamWriter.write(marcRecord);
+      jsonWriter.write(marcRecord);
+      setParsedContent(record, new JsonObject(new String(os.toByteArray())).encode());
+      return true;
+    } catch (Exception e) {
+      LOGGER.error("Failed to write parsed content of record {}", record.getId(), e);
+      return false;
+    }
+  }
+
   private static MarcReader buildMarcReader(Record record) {
-    return new MarcJsonReader(new ByteArrayInputStream(record.getParsedRecord().getContent().toString().getBytes(StandardCharsets.UTF_8)));
+    return new MarcJsonReader(new ByteArrayInputStream(ParsedRecordUtil.getParsedContentAsString(record.getParsedRecord()).getBytes(StandardCharsets.UTF_8)));
   }
 
   private static VariableField getSingleFieldByIndicators(List<VariableField> list, char ind1, char ind2) {
@@ -13,4 +13,12 @@ public interface HrIdFieldService {
    */
   void move001valueTo035Field(List<Record> records);
 
+  /**
+   * Method move 001 field to 035 of already parsed MARC record,
+   * changes are not written to the record content
+   *
+   * @param marcRecord - parsed MARC record
+   */
+  void move001valueTo035Field(org.marc4j.marc.Record marcRecord);
+
 }
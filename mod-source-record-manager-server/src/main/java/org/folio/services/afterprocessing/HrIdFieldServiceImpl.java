@@ -9,6 +9,8 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.folio.services.afterprocessing.AdditionalFieldsUtil.addDataFieldToMarcRecord;
 import static org.folio.services.afterprocessing.AdditionalFieldsUtil.getValue;
 import static org.folio.services.afterprocessing.AdditionalFieldsUtil.isFieldExist;
+import static org.folio.services.afterprocessing.AdditionalFieldsUtil.readMarcRecord;
+import static org.folio.services.afterprocessing.AdditionalFieldsUtil.writeMarcRecord;
 
 @Service
 public class HrIdFieldServiceImpl implements HrIdFieldService {
@@ -22,14 +24,28 @@ public class HrIdFieldServiceImpl implements HrIdFieldService {
   @Override
   public void move001valueTo035Field(List<Record> records) {
     records.stream().parallel().forEach(record -> {
-      String valueFrom001 = getValue(record, TAG_001, ' ');
-      String valueFor035 = mergeFieldsFor035(getValue(record, TAG_003, ' '), valueFrom001);
-      if (valueFrom001 != null && !isFieldExist(record, TAG_035, SUBFIELD_FOR_035, valueFor035)) {
-        addDataFieldToMarcRecord(record, TAG_035, INDICATOR_FOR_035, INDICATOR_FOR_035, SUBFIELD_FOR_035, valueFor035);
+      org.marc4j.marc.Record marcRecord = readMarcRecord(record);
+      if (marcRecord != null && move001valueTo035(marcRecord)) {
+        writeMarcRecord(record, marcRecord);
       }
     });
   }
 
+  @Override
+  public void move001valueTo035Field(org.marc4j.marc.Record marcRecord) {
+    move001valueTo035(marcRecord);
+  }
+
+  private boolean move001valueTo035(org.marc4j.marc.Record marcRecord) {
+    String valueFrom001 = getValue(marcRecord, TAG_001, ' ');
+    String valueFor035 = mergeFieldsFor035(getValue(marcRecord, TAG_003, ' '), valueFrom001);
+    if (valueFrom001 != null && !isFieldExist(marcRecord, TAG_035, SUBFIELD_FOR_035, valueFor035)) {
+      addDataFieldToMarcRecord(marcRecord, TAG_035, INDICATOR_FOR_035, INDICATOR_FOR_035, SUBFIELD_FOR_035, valueFor035);
+      return true;
+    }
+    return false;
+  }
+
   private String mergeFieldsFor035(String valueFrom003, String valueFrom001) {
     if (isBlank(valueFrom003)) {
       return valueFrom001;
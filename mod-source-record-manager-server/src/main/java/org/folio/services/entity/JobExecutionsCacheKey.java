@@ -0,0 +1,36 @@
+package org.folio.services.entity;
+
+import java.util.List;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import org.folio.dao.JobExecutionFilter;
+import org.folio.dao.util.SortField;
+
+/**
+ * Key of the job executions page cache, contains everything needed to load the page on cache miss
+ */
+@Getter
+@EqualsAndHashCode
+public class JobExecutionsCacheKey {
+
+  private final String tenantId;
+  private final JobExecutionFilter filter;
+  private final List<SortField> sortFields;
+  private final String afterId;
+  private final int offset;
+  private final int limit;
+  private final boolean estimatedTotal;
+
+  public JobExecutionsCacheKey(String tenantId, JobExecutionFilter filter, List<SortField> sortFields,
+                               String afterId, int offset, int limit, boolean estimatedTotal) {
+    this.tenantId = tenantId;
+    this.filter = filter;
+    this.sortFields = sortFields;
+    this.afterId = afterId;
+    this.offset = offset;
+    this.limit = limit;
+    this.estimatedTotal = estimatedTotal;
+  }
+}
@@ -0,0 +1,56 @@
+package org.folio.services.entity;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+
+import org.folio.rest.jaxrs.model.ActionProfile;
+import org.folio.rest.jaxrs.model.ActionProfile.Action;
+import org.folio.rest.jaxrs.model.ActionProfile.FolioRecord;
+import org.folio.rest.jaxrs.model.ProfileSnapshotWrapper;
+
+/**
+ * Job profile snapshot of the job execution along with the facts derived from it
+ */
+@Getter
+public class JobProfileSnapshotEntry {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final ProfileSnapshotWrapper profileSnapshotWrapper;
+  private final ProfileSnapshotWrapper firstChildSnapshotWrapper;
+  private final boolean updateMarcActionExists;
+
+  public JobProfileSnapshotEntry(Object jobProfileSnapshotWrapper) {
+    this.profileSnapshotWrapper = OBJECT_MAPPER.convertValue(jobProfileSnapshotWrapper, ProfileSnapshotWrapper.class);
+    if (profileSnapshotWrapper != null && !profileSnapshotWrapper.getChildSnapshotWrappers().isEmpty()) {
+      this.firstChildSnapshotWrapper = profileSnapshotWrapper.getChildSnapshotWrappers().get(0);
+    } else {
+      this.firstChildSnapshotWrapper = null;
+    }
+    this.updateMarcActionExists = profileSnapshotWrapper != null && containsUpdateMarcActionProfile(profileSnapshotWrapper);
+  }
+
+  private static boolean containsUpdateMarcActionProfile(ProfileSnapshotWrapper profileSnapshot) {
+    List<ProfileSnapshotWrapper> childWrappers = profileSnapshot.getChildSnapshotWrappers();
+    for (ProfileSnapshotWrapper childWrapper : childWrappers) {
+      if (childWrapper.getContentType() == ProfileSnapshotWrapper.ContentType.ACTION_PROFILE
+        && actionProfileMatches(childWrapper)) {
+        return true;
+      } else if (containsUpdateMarcActionProfile(childWrapper)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean actionProfileMatches(ProfileSnapshotWrapper actionProfileWrapper) {
+    ActionProfile actionProfile = new JsonObject((Map) actionProfileWrapper.getContent()).mapTo(ActionProfile.class);
+    return (actionProfile.getFolioRecord() == FolioRecord.MARC_BIBLIOGRAPHIC
+      || actionProfile.getFolioRecord() == FolioRecord.MARC_AUTHORITY)
+      && actionProfile.getAction() == Action.UPDATE;
+  }
+}
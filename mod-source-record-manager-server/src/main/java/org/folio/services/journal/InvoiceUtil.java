@@ -2,11 +2,13 @@ package org.folio.services.journal;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.DatabindCodec;
 import org.folio.DataImportEventPayload;
 import org.folio.rest.jaxrs.model.JournalRecord;
 import org.folio.rest.jaxrs.model.Record;
+import org.folio.services.util.EventCodec;
 
 import java.util.Date;
 import java.util.HashMap;
@@ -44,6 +46,8 @@ public class InvoiceUtil {
   private static final String EVENT_HAS_NO_DATA_MSG = "Failed to handle %s event, because event payload context does not contain %s and/or %s and/or %s data";
   private static final String INVOICE_MAPPING_EXCEPTION_MSG = "Can`t map invoice: ";
   private static final String INVOICE_LINE_MAPPING_EXCEPTION_MSG = "Can`t map invoice line: ";
+  private static final ObjectReader INVOICE_LINES_ERRORS_READER = DatabindCodec.mapper()
+    .readerFor(new TypeReference<HashMap<String, String>>() {});
 
   public static LinkedList<JournalRecord> buildJournalRecordByEvent(DataImportEventPayload event)
     throws JournalRecordMapperException, JsonProcessingException {
@@ -75,7 +79,7 @@ public class InvoiceUtil {
   private static Map<String, Object> buildInvoiceRecord(DataImportEventPayload eventPayload) throws JournalRecordMapperException {
     try {
       String edifactRecordAsString = eventPayload.getContext().get(EDIFACT_INVOICE.value());
-      Record edifactRecord = new ObjectMapper().readValue(edifactRecordAsString, Record.class);
+      Record edifactRecord = EventCodec.decodeRecord(edifactRecordAsString);
 
       String recordAsString = eventPayload.getContext().get(INVOICE.value());
       JsonObject invoiceJson = new JsonObject(recordAsString);
@@ -160,8 +164,7 @@ public class InvoiceUtil {
 
     String errorInvoiceLines = eventPayload.getContext().get(INVOICE_LINES_ERRORS_KEY);
     if (isNotEmpty(errorInvoiceLines)) {
-      return new ObjectMapper().readValue(errorInvoiceLines, new TypeReference<>() {
-      });
+      return INVOICE_LINES_ERRORS_READER.readValue(errorInvoiceLines);
     }
     return new HashMap<>();
   }
@@ -1,6 +1,8 @@
 package org.folio.services.journal;
 
 import io.vertx.codegen.annotations.ProxyGen;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -33,4 +35,14 @@ public interface JournalService {
    * @throws IllegalArgumentException if the JournalRecord json from journalRecords cannot be mapped to JournalRecord entity
    */
   void saveBatch(JsonArray journalRecords, String tenantId);
+
+  /**
+   * Saves set of {@link org.folio.rest.jaxrs.model.JournalRecord} entities and notifies the caller
+   * once the records have been persisted
+   *
+   * @param journalRecords json array that contains journalRecords as json objects
+   * @param tenantId       tenant id
+   * @param resultHandler  handler that is called with the result of saving
+   */
+  void saveBatchWithResponse(JsonArray journalRecords, String tenantId, Handler<AsyncResult<Void>> resultHandler);
 }
@@ -1,5 +1,8 @@
 package org.folio.services.journal;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.folio.dao.JournalRecordDao;
@@ -29,12 +32,30 @@ public class JournalServiceImpl implements JournalService {
 
   @Override
   public void saveBatch(JsonArray journalRecords, String tenantId) {
+    journalRecordDao.saveBatch(mapJournalRecords(journalRecords), tenantId);
+  }
+
+  @Override
+  public void saveBatchWithResponse(JsonArray journalRecords, String tenantId, Handler<AsyncResult<Void>> resultHandler) {
+    List<JournalRecord> journalRecordList;
+    try {
+      journalRecordList = mapJournalRecords(journalRecords);
+    } catch (IllegalArgumentException e) {
+      resultHandler.handle(Future.failedFuture(e));
+      return;
+    }
+    journalRecordDao.saveBatch(journalRecordList, tenantId)
+      .<Void>mapEmpty()
+      .onComplete(resultHandler);
+  }
+
+  private List<JournalRecord> mapJournalRecords(JsonArray journalRecords) {
     List<JournalRecord> journalRecordList = new ArrayList<>();
     for (int i = 0; i < journalRecords.size(); i++) {
       JournalRecord journalRecord = journalRecords.getJsonObject(i).mapTo(JournalRecord.class);
       journalRecord.setId(UUID.randomUUID().toString());
       journalRecordList.add(journalRecord);
     }
-    journalRecordDao.saveBatch(journalRecordList, tenantId);
+    return journalRecordList;
   }
 }
@@ -1,11 +1,11 @@
 package org.folio.services.journal;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.json.JsonObject;
 import org.folio.DataImportEventPayload;
 import org.folio.rest.jaxrs.model.DataImportEventTypes;
 import org.folio.rest.jaxrs.model.JournalRecord;
 import org.folio.rest.jaxrs.model.Record;
+import org.folio.services.util.EventCodec;
 
 import java.util.Date;
 import java.util.HashMap;
@@ -63,7 +63,7 @@ public class JournalUtil {
       HashMap<String, String> eventPayloadContext = eventPayload.getContext();
 
       String recordAsString = extractRecord(eventPayloadContext);
-      Record record = new ObjectMapper().readValue(recordAsString, Record.class);
+      Record record = EventCodec.decodeRecord(recordAsString);
       String entityAsString = eventPayloadContext.get(entityType.value());
 
       JournalRecord journalRecord = new JournalRecord()
@@ -1,18 +1,17 @@
 package org.folio.services.parsers;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import org.folio.rest.jaxrs.model.Component;
-import org.folio.rest.jaxrs.model.DataElement;
-import org.folio.rest.jaxrs.model.EdifactParsedContent;
 import org.folio.rest.jaxrs.model.RecordsMetadata;
-import org.folio.rest.jaxrs.model.Segment;
 
-import io.vertx.core.json.Json;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -22,75 +21,45 @@ import io.xlate.edi.stream.EDIStreamReader;
 import static io.xlate.edi.stream.EDIInputFactory.EDI_VALIDATE_CONTROL_CODE_VALUES;
 
 /**
- * Raw record parser implementation for EDIFACT format. Use staedi library
+ * Raw record parser implementation for EDIFACT format. Use staedi library.
+ * Parsed content is written to json directly from the stream reader events.
  */
 public final class EdifactRecordParser implements RecordParser {
 
   private static final Logger LOGGER = LogManager.getLogger();
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  // the factory is only configured once here, afterwards it is only used to create readers
+  private static final EDIInputFactory EDI_INPUT_FACTORY = createEdiInputFactory();
+  private static final String SEGMENTS = "segments";
+  private static final String TAG = "tag";
+  private static final String DATA_ELEMENTS = "dataElements";
+  private static final String COMPONENTS = "components";
+  private static final String DATA = "data";
+  private static final String DATA_OUTSIDE_SEGMENT_MSG = "Data element '%s' is found outside of a segment";
 
   @Override
   public ParsedResult parseRecord(String rawRecord) {
-    EDIInputFactory ediInputFactory = EDIInputFactory.newFactory();
-    ediInputFactory.setProperty(EDI_VALIDATE_CONTROL_CODE_VALUES, false);
     ParsedResult result = new ParsedResult();
-
-    List<Segment> segments = new ArrayList<>();
-
     List<JsonObject> errorList = new ArrayList<>();
-    boolean buildingComposite = false;
+    StringWriter parsedRecordWriter = new StringWriter();
 
-    try (
-      InputStream stream = new ByteArrayInputStream(rawRecord.getBytes());
-      EDIStreamReader reader = ediInputFactory.createEDIStreamReader(stream);
-    ) {
-      while (reader.hasNext()) {
-        switch (reader.next()) {
-          case START_INTERCHANGE:
-            break;
-          case START_SEGMENT:
-            Segment segment = new Segment()
-              .withTag(reader.getText())
-              .withDataElements(new ArrayList<DataElement>());
-            segments.add(segment);
-            break;
-          case END_SEGMENT:
-            break;
-          case START_COMPOSITE:
-            buildingComposite = true;
-            segments.get(segments.size() - 1)
-              .getDataElements()
-              .add(new DataElement());
-            break;
-          case END_COMPOSITE:
-            buildingComposite = false;
-            break;
-          case ELEMENT_DATA:
-            Segment lastSegment = segments.get(segments.size() - 1);
-            if(!buildingComposite) {
-              lastSegment
-                .getDataElements()
-                .add(new DataElement());
-            }
-            List<DataElement> dataElements = lastSegment.getDataElements();
-            dataElements.get(dataElements.size() - 1)
-              .getComponents()
-              .add(new Component()
-                .withData(reader.getText()));
-            break;
-          case ELEMENT_DATA_ERROR:
-            errorList.add(processParsingEventError(reader));
-            break;
-          case SEGMENT_ERROR:
-          case ELEMENT_OCCURRENCE_ERROR:
-            errorList.add(processParsingEventError(reader));
-            break;
-          default:
-            // ELEMENT_DATA_BINARY, START_GROUP, END_GROUP, START_LOOP, END_LOOP, START_TRANSACTION, END_TRANSACTION, END_INTERCHANGE
-            break;
-          }
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(parsedRecordWriter)) {
+      generator.writeStartObject();
+      generator.writeArrayFieldStart(SEGMENTS);
+      try (
+        InputStream stream = new ByteArrayInputStream(rawRecord.getBytes());
+        EDIStreamReader reader = EDI_INPUT_FACTORY.createEDIStreamReader(stream);
+      ) {
+        new SegmentsWriter(generator).write(reader, errorList);
+      } catch (Exception e) {
+        LOGGER.error("Error during parse EDIFACT record from raw record", e);
+        prepareResultWithError(result, Collections.singletonList(new JsonObject()
+          .put("name", e.getClass().getName())
+          .put("message", e.getMessage())));
       }
-    } catch (Exception e) {
-      LOGGER.error("Error during parse EDIFACT record from raw record", e);
+      // segments left unfinished by a parsing failure are closed along with the generator
+    } catch (IOException e) {
+      LOGGER.error("Error during writing parsed EDIFACT record", e);
       prepareResultWithError(result, Collections.singletonList(new JsonObject()
         .put("name", e.getClass().getName())
         .put("message", e.getMessage())));
@@ -100,14 +69,17 @@ public final class EdifactRecordParser implements RecordParser {
       prepareResultWithError(result, errorList);
     }
 
-    String encodedResult = Json.encode(new EdifactParsedContent()
-      .withSegments(segments));
-    JsonObject parsedResult = new JsonObject(encodedResult);
-    result.setParsedRecord(parsedResult);
+    result.setEncodedParsedRecord(parsedRecordWriter.toString());
     return result;
   }
 
-  private JsonObject processParsingEventError(EDIStreamReader reader) {
+  private static EDIInputFactory createEdiInputFactory() {
+    EDIInputFactory ediInputFactory = EDIInputFactory.newFactory();
+    ediInputFactory.setProperty(EDI_VALIDATE_CONTROL_CODE_VALUES, false);
+    return ediInputFactory;
+  }
+
+  private static JsonObject processParsingEventError(EDIStreamReader reader) {
     LOGGER.error("Error during parse EDIFACT {} {}, from the {} event.", reader.getText(), reader.getErrorType(), reader.getEventType());
     return buildErrorObject(reader.getText(), reader.getErrorType().name());
   }
@@ -119,7 +91,7 @@ public final class EdifactRecordParser implements RecordParser {
    * @param message - error message
    * @return - JsonObject with error descriptions
    */
-  private JsonObject buildErrorObject(String tag, String message) {
+  private static JsonObject buildErrorObject(String tag, String message) {
     JsonObject errorJson = new JsonObject();
     errorJson.put("tag", tag);
     errorJson.put("message", message);
@@ -130,4 +102,97 @@ public final class EdifactRecordParser implements RecordParser {
   public RecordsMetadata.ContentType getParserFormat() {
     return RecordsMetadata.ContentType.EDIFACT_RAW;
   }
+
+  /**
+   * Writes segments in {@link org.folio.rest.jaxrs.model.EdifactParsedContent} json representation
+   * as the stream reader events come, without building segment objects.
+   * Data elements which come before any segment are treated as a parsing error.
+   */
+  static class SegmentsWriter {
+    private final JsonGenerator generator;
+    private boolean segmentOpen;
+    private boolean buildingComposite;
+
+    SegmentsWriter(JsonGenerator generator) {
+      this.generator = generator;
+    }
+
+    void write(EDIStreamReader reader, List<JsonObject> errorList) throws IOException {
+      while (reader.hasNext()) {
+        switch (reader.next()) {
+          case START_SEGMENT:
+            endSegment();
+            generator.writeStartObject();
+            generator.writeStringField(TAG, reader.getText());
+            generator.writeArrayFieldStart(DATA_ELEMENTS);
+            segmentOpen = true;
+            break;
+          case END_SEGMENT:
+            endSegment();
+            break;
+          case START_COMPOSITE:
+            checkSegmentOpen(reader);
+            buildingComposite = true;
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(COMPONENTS);
+            break;
+          case END_COMPOSITE:
+            endComposite();
+            break;
+          case ELEMENT_DATA:
+            checkSegmentOpen(reader);
+            if (buildingComposite) {
+              writeComponent(reader.getText());
+            } else {
+              generator.writeStartObject();
+              generator.writeArrayFieldStart(COMPONENTS);
+              writeComponent(reader.getText());
+              generator.writeEndArray();
+              generator.writeEndObject();
+            }
+            break;
+          case ELEMENT_DATA_ERROR:
+          case SEGMENT_ERROR:
+          case ELEMENT_OCCURRENCE_ERROR:
+            errorList.add(processParsingEventError(reader));
+            break;
+          default:
+            // START_INTERCHANGE, ELEMENT_DATA_BINARY, START_GROUP, END_GROUP, START_LOOP, END_LOOP, START_TRANSACTION, END_TRANSACTION, END_INTERCHANGE
+            break;
+        }
+      }
+      endSegment();
+    }
+
+    private void checkSegmentOpen(EDIStreamReader reader) {
+      if (!segmentOpen) {
+        throw new IllegalStateException(String.format(DATA_OUTSIDE_SEGMENT_MSG, reader.getText()));
+      }
+    }
+
+    private void writeComponent(String data) throws IOException {
+      generator.writeStartObject();
+      if (data != null) {
+        generator.writeStringField(DATA, data);
+      }
+      generator.writeEndObject();
+    }
+
+    private void endComposite() throws IOException {
+      if (buildingComposite) {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        buildingComposite = false;
+      }
+    }
+
+    private void endSegment() throws IOException {
+      if (segmentOpen) {
+        endComposite();
+        generator.writeEndArray();
+        generator.writeEndObject();
+        segmentOpen = false;
+      }
+    }
+  }
 }
@@ -0,0 +1,227 @@
+package org.folio.services.parsers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes ISO 2709 record straight to MARC-JSON without building marc4j record and intermediate json.
+ * Fields are written in the same order and shape as {@link org.marc4j.MarcJsonWriter} writes them:
+ * 001 field first, then the rest of control fields, then data fields.
+ * <p>
+ * Only well-formed records are encoded. Records with a structure that deviates from ISO 2709 are left to marc4j,
+ * so that they are handled and reported the same way as before.
+ */
+final class Iso2709JsonEncoder {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final int LEADER_LENGTH = 24;
+  private static final int DIRECTORY_ENTRY_LENGTH = 12;
+  private static final int TAG_LENGTH = 3;
+  private static final byte FIELD_TERMINATOR = 0x1E;
+  private static final byte RECORD_TERMINATOR = 0x1D;
+  private static final byte SUBFIELD_DELIMITER = 0x1F;
+
+  private Iso2709JsonEncoder() {
+  }
+
+  /**
+   * Encodes ISO 2709 record to MARC-JSON
+   *
+   * @param record - record in ISO 2709 format encoded in UTF-8
+   * @return - MARC-JSON representation of the record or null if the record is not a well-formed ISO 2709 record
+   * @throws IOException if json cannot be written
+   */
+  static String encode(byte[] record) throws IOException {
+    if (!isWellFormed(record)) {
+      return null;
+    }
+    int baseAddress = parseNumber(record, 12, 5);
+    int directoryEnd = baseAddress - 1;
+
+    StringWriter writer = new StringWriter(record.length + record.length / 2);
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+      generator.writeStartObject();
+      generator.writeStringField("leader", new String(record, 0, LEADER_LENGTH, StandardCharsets.US_ASCII));
+      generator.writeArrayFieldStart("fields");
+      for (int entry = LEADER_LENGTH; entry < directoryEnd; entry += DIRECTORY_ENTRY_LENGTH) {
+        if (isControlNumberTag(record, entry)) {
+          writeControlField(generator, record, entry, baseAddress);
+        }
+      }
+      for (int entry = LEADER_LENGTH; entry < directoryEnd; entry += DIRECTORY_ENTRY_LENGTH) {
+        if (isControlTag(record, entry) && !isControlNumberTag(record, entry)) {
+          writeControlField(generator, record, entry, baseAddress);
+        }
+      }
+      for (int entry = LEADER_LENGTH; entry < directoryEnd; entry += DIRECTORY_ENTRY_LENGTH) {
+        if (!isControlTag(record, entry)) {
+          writeDataField(generator, record, entry, baseAddress);
+        }
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    return writer.toString();
+  }
+
+  private static void writeControlField(JsonGenerator generator, byte[] record, int entry, int baseAddress) throws IOException {
+    int start = baseAddress + parseNumber(record, entry + 7, 5);
+    int end = start + parseNumber(record, entry + 3, 4) - 1;
+    generator.writeStartObject();
+    generator.writeStringField(getTag(record, entry), new String(record, start, end - start, StandardCharsets.UTF_8));
+    generator.writeEndObject();
+  }
+
+  private static void writeDataField(JsonGenerator generator, byte[] record, int entry, int baseAddress) throws IOException {
+    int start = baseAddress + parseNumber(record, entry + 7, 5);
+    int end = start + parseNumber(record, entry + 3, 4) - 1;
+    generator.writeStartObject();
+    generator.writeObjectFieldStart(getTag(record, entry));
+    generator.writeArrayFieldStart("subfields");
+    int subfieldStart = start + 2;
+    while (subfieldStart < end) {
+      int subfieldEnd = subfieldStart + 2;
+      while (subfieldEnd < end && record[subfieldEnd] != SUBFIELD_DELIMITER) {
+        subfieldEnd++;
+      }
+      generator.writeStartObject();
+      generator.writeStringField(String.valueOf((char) record[subfieldStart + 1]),
+        new String(record, subfieldStart + 2, subfieldEnd - subfieldStart - 2, StandardCharsets.UTF_8));
+      generator.writeEndObject();
+      subfieldStart = subfieldEnd;
+    }
+    generator.writeEndArray();
+    generator.writeStringField("ind1", String.valueOf((char) record[start]));
+    generator.writeStringField("ind2", String.valueOf((char) record[start + 1]));
+    generator.writeEndObject();
+    generator.writeEndObject();
+  }
+
+  /**
+   * Checks that leader, directory and fields of the record follow ISO 2709 structure:
+   * numeric lengths and addresses, fields laid out in directory order, each field ended with field terminator,
+   * the record ended with record terminator and each data field consisting of indicators and subfields.
+   */
+  private static boolean isWellFormed(byte[] record) {
+    if (record.length < LEADER_LENGTH + 2) {
+      return false;
+    }
+    int recordLength = parseNumber(record, 0, 5);
+    int baseAddress = parseNumber(record, 12, 5);
+    if (recordLength < 0 || recordLength > record.length || baseAddress < 0 || baseAddress >= recordLength
+      || !isDigit(record[10]) || !isDigit(record[11])) {
+      return false;
+    }
+    int directoryEnd = baseAddress - 1;
+    if (directoryEnd < LEADER_LENGTH || (directoryEnd - LEADER_LENGTH) % DIRECTORY_ENTRY_LENGTH != 0
+      || record[directoryEnd] != FIELD_TERMINATOR || record[recordLength - 1] != RECORD_TERMINATOR) {
+      return false;
+    }
+
+    int expectedFieldStart = 0;
+    boolean hasControlNumber = false;
+    for (int entry = LEADER_LENGTH; entry < directoryEnd; entry += DIRECTORY_ENTRY_LENGTH) {
+      int fieldLength = parseNumber(record, entry + 3, 4);
+      int fieldStart = parseNumber(record, entry + 7, 5);
+      if (!isValidTag(record, entry) || fieldLength < 1 || fieldStart != expectedFieldStart) {
+        return false;
+      }
+      int start = baseAddress + fieldStart;
+      int end = start + fieldLength - 1;
+      if (end >= recordLength - 1 || record[end] != FIELD_TERMINATOR) {
+        return false;
+      }
+      if (isControlNumberTag(record, entry)) {
+        if (hasControlNumber) {
+          return false;
+        }
+        hasControlNumber = true;
+      }
+      boolean isWellFormedField = isControlTag(record, entry)
+        ? isWellFormedControlField(record, start, end)
+        : isWellFormedDataField(record, start, end);
+      if (!isWellFormedField) {
+        return false;
+      }
+      expectedFieldStart += fieldLength;
+    }
+    return baseAddress + expectedFieldStart == recordLength - 1;
+  }
+
+  private static boolean isWellFormedControlField(byte[] record, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (isStructureCharacter(record[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isWellFormedDataField(byte[] record, int start, int end) {
+    if (end - start < 4 || !isPrintableAscii(record[start]) || !isPrintableAscii(record[start + 1])
+      || record[start + 2] != SUBFIELD_DELIMITER) {
+      return false;
+    }
+    for (int i = start + 2; i < end; i++) {
+      if (record[i] == SUBFIELD_DELIMITER) {
+        if (i + 1 >= end || !isPrintableAscii(record[i + 1])) {
+          return false;
+        }
+        i++;
+      } else if (isStructureCharacter(record[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isValidTag(byte[] record, int entry) {
+    for (int i = entry; i < entry + TAG_LENGTH; i++) {
+      byte b = record[i];
+      if (!isDigit(b) && !(b >= 'A' && b <= 'Z') && !(b >= 'a' && b <= 'z')) {
+        return false;
+      }
+    }
+    // tags starting with "00" are control field tags, marc4j treats only numeric ones of them as control fields
+    return record[entry] != '0' || record[entry + 1] != '0' || isDigit(record[entry + 2]);
+  }
+
+  private static boolean isControlTag(byte[] record, int entry) {
+    return record[entry] == '0' && record[entry + 1] == '0';
+  }
+
+  private static boolean isControlNumberTag(byte[] record, int entry) {
+    return isControlTag(record, entry) && record[entry + 2] == '1';
+  }
+
+  private static String getTag(byte[] record, int entry) {
+    return new String(record, entry, TAG_LENGTH, StandardCharsets.US_ASCII);
+  }
+
+  private static boolean isStructureCharacter(byte b) {
+    return b == FIELD_TERMINATOR || b == RECORD_TERMINATOR || b == SUBFIELD_DELIMITER;
+  }
+
+  private static boolean isPrintableAscii(byte b) {
+    return b >= 0x20 && b < 0x7F;
+  }
+
+  private static boolean isDigit(byte b) {
+    return b >= '0' && b <= '9';
+  }
+
+  private static int parseNumber(byte[] record, int offset, int length) {
+    int number = 0;
+    for (int i = offset; i < offset + length; i++) {
+      if (!isDigit(record[i])) {
+        return -1;
+      }
+      number = number * 10 + (record[i] - '0');
+    }
+    return number;
+  }
+}
@@ -19,7 +19,8 @@ import java.util.Collections;
 import java.util.List;
 
 /**
- * Raw record parser implementation for MARC format. Use marc4j library
+ * Raw record parser implementation for MARC format. Well-formed records are encoded to MARC-JSON
+ * by {@link Iso2709JsonEncoder}, the rest are parsed with marc4j library
  */
 public final class MarcRecordParser implements RecordParser {
   private static final Logger LOGGER = LogManager.getLogger();
@@ -29,7 +30,14 @@ public final class MarcRecordParser implements RecordParser {
   public ParsedResult parseRecord(String rawRecord) {
     ParsedResult result = new ParsedResult();
     try {
-      MarcReader reader = new MarcStreamReader(new ByteArrayInputStream(rawRecord.getBytes(DEFAULT_CHARSET)), DEFAULT_CHARSET.name());
+      byte[] rawRecordBytes = rawRecord.getBytes(DEFAULT_CHARSET);
+      String encodedRecord = Iso2709JsonEncoder.encode(rawRecordBytes);
+      if (encodedRecord != null) {
+        result.setEncodedParsedRecord(encodedRecord);
+        return result;
+      }
+
+      MarcReader reader = new MarcStreamReader(new ByteArrayInputStream(rawRecordBytes), DEFAULT_CHARSET.name());
       if (reader.hasNext()) {
         ByteArrayOutputStream os = new ByteArrayOutputStream();
         MarcJsonWriter writer = new MarcJsonWriter(os);
@@ -0,0 +1,240 @@
+package org.folio.services.parsers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes MARC XML record straight to MARC-JSON with StAX reader, without building marc4j record and intermediate json.
+ * Fields are written in the same order and shape as {@link org.marc4j.MarcJsonWriter} writes them:
+ * 001 field first, then the rest of control fields, then data fields.
+ * <p>
+ * XML input factory is created once per thread and reused for all the records parsed by the thread.
+ * Only records that consist of leader, control fields and data fields with subfields are encoded,
+ * the rest (as well as malformed xml) are left to marc4j, so that they are handled and reported the same way as before.
+ * Documents with DOCTYPE declaration are rejected instead, since marc4j would resolve entities declared there.
+ */
+final class MarcXmlJsonEncoder {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY = ThreadLocal.withInitial(MarcXmlJsonEncoder::createXmlInputFactory);
+  private static final int LEADER_LENGTH = 24;
+  private static final String RECORD = "record";
+  private static final String LEADER = "leader";
+  private static final String CONTROL_FIELD = "controlfield";
+  private static final String DATA_FIELD = "datafield";
+  private static final String SUBFIELD = "subfield";
+  private static final String TAG_ATTRIBUTE = "tag";
+  private static final String CODE_ATTRIBUTE = "code";
+  private static final String CONTROL_NUMBER_TAG = "001";
+
+  private MarcXmlJsonEncoder() {
+  }
+
+  /**
+   * Encodes first record of MARC XML document to MARC-JSON
+   *
+   * @param rawRecord - record in MARC XML format
+   * @return - MARC-JSON representation of the record or null if the record cannot be encoded without marc4j
+   * @throws DoctypeNotAllowedException if the document contains DOCTYPE declaration
+   */
+  static String encode(String rawRecord) {
+    XMLStreamReader reader = null;
+    try {
+      reader = XML_INPUT_FACTORY.get().createXMLStreamReader(new StringReader(rawRecord));
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.DTD) {
+          throw new DoctypeNotAllowedException();
+        }
+        if (event == XMLStreamConstants.START_ELEMENT && RECORD.equals(reader.getLocalName())) {
+          MarcXmlRecord record = readRecord(reader);
+          return record != null ? writeRecord(record) : null;
+        }
+      }
+      return null;
+    } catch (DoctypeNotAllowedException e) {
+      throw e;
+    } catch (XMLStreamException | IOException | RuntimeException e) {
+      LOGGER.debug("MARC XML record cannot be encoded with StAX reader, marc4j is used instead", e);
+      return null;
+    } finally {
+      closeReader(reader);
+    }
+  }
+
+  private static MarcXmlRecord readRecord(XMLStreamReader reader) throws XMLStreamException {
+    MarcXmlRecord record = new MarcXmlRecord();
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.END_ELEMENT) {
+        return isWellFormedLeader(record.leader) ? record : null;
+      } else if (event == XMLStreamConstants.START_ELEMENT) {
+        String elementName = reader.getLocalName();
+        if (LEADER.equals(elementName) && record.leader == null) {
+          record.leader = reader.getElementText();
+        } else if (CONTROL_FIELD.equals(elementName)) {
+          String tag = reader.getAttributeValue(null, TAG_ATTRIBUTE);
+          if (tag == null || (CONTROL_NUMBER_TAG.equals(tag) && record.controlNumber != null)) {
+            return null;
+          }
+          String[] controlField = {tag, reader.getElementText()};
+          if (CONTROL_NUMBER_TAG.equals(tag)) {
+            record.controlNumber = controlField;
+          } else {
+            record.controlFields.add(controlField);
+          }
+        } else if (DATA_FIELD.equals(elementName)) {
+          MarcXmlDataField dataField = readDataField(reader);
+          if (dataField == null) {
+            return null;
+          }
+          record.dataFields.add(dataField);
+        } else {
+          return null;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static MarcXmlDataField readDataField(XMLStreamReader reader) throws XMLStreamException {
+    MarcXmlDataField dataField = new MarcXmlDataField(reader.getAttributeValue(null, TAG_ATTRIBUTE),
+      reader.getAttributeValue(null, "ind1"), reader.getAttributeValue(null, "ind2"));
+    if (dataField.tag == null || !isSingleCharacter(dataField.ind1) || !isSingleCharacter(dataField.ind2)) {
+      return null;
+    }
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.END_ELEMENT) {
+        return dataField;
+      } else if (event == XMLStreamConstants.START_ELEMENT) {
+        String code = reader.getAttributeValue(null, CODE_ATTRIBUTE);
+        if (!SUBFIELD.equals(reader.getLocalName()) || !isSingleCharacter(code)) {
+          return null;
+        }
+        dataField.subfields.add(new String[]{code, reader.getElementText()});
+      }
+    }
+    return null;
+  }
+
+  private static String writeRecord(MarcXmlRecord record) throws IOException {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+      generator.writeStartObject();
+      generator.writeStringField(LEADER, record.leader);
+      generator.writeArrayFieldStart("fields");
+      if (record.controlNumber != null) {
+        writeControlField(generator, record.controlNumber);
+      }
+      for (String[] controlField : record.controlFields) {
+        writeControlField(generator, controlField);
+      }
+      for (MarcXmlDataField dataField : record.dataFields) {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart(dataField.tag);
+        generator.writeArrayFieldStart("subfields");
+        for (String[] subfield : dataField.subfields) {
+          generator.writeStartObject();
+          generator.writeStringField(subfield[0], subfield[1]);
+          generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeStringField("ind1", dataField.ind1);
+        generator.writeStringField("ind2", dataField.ind2);
+        generator.writeEndObject();
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    return writer.toString();
+  }
+
+  private static void writeControlField(JsonGenerator generator, String[] controlField) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField(controlField[0], controlField[1]);
+    generator.writeEndObject();
+  }
+
+  /**
+   * Checks that leader has numeric values at the positions marc4j parses as numbers,
+   * so that marc4j would write it back unchanged
+   */
+  private static boolean isWellFormedLeader(String leader) {
+    if (leader == null || leader.length() != LEADER_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < 17; i++) {
+      if ((i < 5 || i > 9) && !Character.isDigit(leader.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSingleCharacter(String value) {
+    return value != null && value.length() == 1;
+  }
+
+  private static void closeReader(XMLStreamReader reader) {
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (XMLStreamException e) {
+        LOGGER.debug("Failed to close xml stream reader", e);
+      }
+    }
+  }
+
+  private static XMLInputFactory createXmlInputFactory() {
+    XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+    xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return xmlInputFactory;
+  }
+
+  /**
+   * Thrown when MARC XML document contains DOCTYPE declaration
+   */
+  static class DoctypeNotAllowedException extends IllegalArgumentException {
+
+    DoctypeNotAllowedException() {
+      super("DOCTYPE declaration is not allowed in MARC XML record");
+    }
+  }
+
+  private static class MarcXmlRecord {
+    private String leader;
+    private String[] controlNumber;
+    private final List<String[]> controlFields = new ArrayList<>();
+    private final List<MarcXmlDataField> dataFields = new ArrayList<>();
+  }
+
+  private static class MarcXmlDataField {
+    private final String tag;
+    private final String ind1;
+    private final String ind2;
+    private final List<String[]> subfields = new ArrayList<>();
+
+    MarcXmlDataField(String tag, String ind1, String ind2) {
+      this.tag = tag;
+      this.ind1 = ind1;
+      this.ind2 = ind2;
+    }
+  }
+}
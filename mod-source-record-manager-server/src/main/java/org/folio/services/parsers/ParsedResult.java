@@ -7,11 +7,20 @@ import io.vertx.core.json.JsonObject;
  */
 public class ParsedResult {
 
+  private static final String LEADER_FIELD = "leader";
+  private static final String ENCODED_LEADER_PREFIX = "{\"leader\":\"";
+  private static final int LEADER_LENGTH = 24;
+
   /**
    * Record in json representation
    */
   private JsonObject parsedRecord;
 
+  /**
+   * Record in json representation encoded to string, set by parsers which write json directly
+   */
+  private String encodedParsedRecord;
+
   /**
    * Errors array in json representation
    */
@@ -22,12 +31,59 @@ public class ParsedResult {
    */
   private boolean isHasError = false;
 
+  /**
+   * Returns parsed record as json object, the encoded record is decoded only on first access
+   *
+   * @return - parsed record
+   */
   public JsonObject getParsedRecord() {
+    if (parsedRecord == null && encodedParsedRecord != null) {
+      parsedRecord = new JsonObject(encodedParsedRecord);
+    }
     return parsedRecord;
   }
 
   public void setParsedRecord(JsonObject parsedRecord) {
     this.parsedRecord = parsedRecord;
+    this.encodedParsedRecord = null;
+  }
+
+  /**
+   * Returns parsed record encoded to json string without re-encoding if parser has written it directly
+   *
+   * @return - encoded parsed record
+   */
+  public String getEncodedParsedRecord() {
+    if (encodedParsedRecord == null && parsedRecord != null) {
+      return parsedRecord.encode();
+    }
+    return encodedParsedRecord;
+  }
+
+  public void setEncodedParsedRecord(String encodedParsedRecord) {
+    this.encodedParsedRecord = encodedParsedRecord;
+    this.parsedRecord = null;
+  }
+
+  /**
+   * Returns leader of the parsed MARC record. Leader of the record encoded by parser is taken
+   * from the beginning of the encoded json whenever possible, without decoding the whole record
+   *
+   * @return - leader or null if parsed record has no leader
+   */
+  public String getLeader() {
+    int leaderEnd = ENCODED_LEADER_PREFIX.length() + LEADER_LENGTH;
+    if (parsedRecord == null && encodedParsedRecord != null && encodedParsedRecord.startsWith(ENCODED_LEADER_PREFIX)
+      && encodedParsedRecord.length() > leaderEnd && encodedParsedRecord.charAt(leaderEnd) == '"') {
+      String leader = encodedParsedRecord.substring(ENCODED_LEADER_PREFIX.length(), leaderEnd);
+      // escaped characters make encoded leader differ from the actual one
+      if (leader.indexOf('\\') == -1) {
+        return leader;
+      }
+    }
+    JsonObject record = getParsedRecord();
+    Object leader = record != null ? record.getValue(LEADER_FIELD) : null;
+    return leader instanceof String ? (String) leader : null;
   }
 
   public JsonObject getErrors() {
@@ -49,7 +105,7 @@ public class ParsedResult {
   @Override
   public String toString() {
     return "ParsedResult{" +
-      "parsedRecord=" + parsedRecord +
+      "parsedRecord=" + (parsedRecord != null ? parsedRecord : encodedParsedRecord) +
       ", errors=" + errors +
       ", isHasError=" + isHasError +
       '}';
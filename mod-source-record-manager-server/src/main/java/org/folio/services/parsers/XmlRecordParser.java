@@ -13,7 +13,8 @@ import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 
 /**
- * Record parser implementation for records in MARC XML format. Uses marc4j library
+ * Record parser implementation for records in MARC XML format. Records are encoded to MARC-JSON
+ * by {@link MarcXmlJsonEncoder}, the ones it cannot encode are parsed with marc4j library
  */
 public class XmlRecordParser implements RecordParser {
   private static final Logger LOGGER = LogManager.getLogger();
@@ -22,6 +23,12 @@ public class XmlRecordParser implements RecordParser {
   public ParsedResult parseRecord(String rawRecord) {
     ParsedResult result = new ParsedResult();
     try {
+      String encodedRecord = MarcXmlJsonEncoder.encode(rawRecord);
+      if (encodedRecord != null) {
+        result.setEncodedParsedRecord(encodedRecord);
+        return result;
+      }
+
       MarcXmlReader reader = new MarcXmlReader(new ByteArrayInputStream(rawRecord.getBytes(StandardCharsets.UTF_8)));
       if (reader.hasNext()) {
         ByteArrayOutputStream os = new ByteArrayOutputStream();
@@ -39,4 +39,15 @@ public interface JobExecutionProgressService {
    * @return future with updated jobExecutionProgress
    */
   Future<JobExecutionProgress> updateJobExecutionProgress(String jobExecutionId, UnaryOperator<JobExecutionProgress> progressMutator, String tenantId);
+
+  /**
+   * Increments succeeded and failed records counters of jobExecutionProgress by jobExecutionId
+   *
+   * @param jobExecutionId jobExecution id
+   * @param succeededDelta number to add to succeeded records counter
+   * @param failedDelta    number to add to failed records counter
+   * @param tenantId       tenant id
+   * @return future with jobExecutionProgress state right after the increment
+   */
+  Future<JobExecutionProgress> updateJobExecutionProgressCounters(String jobExecutionId, int succeededDelta, int failedDelta, String tenantId);
 }
@@ -44,4 +44,10 @@ public class JobExecutionProgressServiceImpl implements JobExecutionProgressServ
     jobMonitoringService.updateByJobExecutionId(jobExecutionId, new Date(), false, tenantId);
     return jobExecutionProgressDao.updateByJobExecutionId(jobExecutionId, progressMutator, tenantId);
   }
+
+  @Override
+  public Future<JobExecutionProgress> updateJobExecutionProgressCounters(String jobExecutionId, int succeededDelta, int failedDelta, String tenantId) {
+    jobMonitoringService.updateByJobExecutionId(jobExecutionId, new Date(), false, tenantId);
+    return jobExecutionProgressDao.updateCountersByJobExecutionId(jobExecutionId, succeededDelta, failedDelta, tenantId);
+  }
 }
@@ -0,0 +1,93 @@
+package org.folio.services.util;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.jackson.DatabindCodec;
+
+import org.folio.DataImportEventPayload;
+import org.folio.rest.jaxrs.model.Event;
+import org.folio.rest.jaxrs.model.RawRecordsDto;
+import org.folio.rest.jaxrs.model.Record;
+import org.folio.rest.jaxrs.model.RecordsBatchResponse;
+
+/**
+ * Decoder of kafka events and their payloads.
+ * Uses readers bound to the payload types which are created once from the shared vertx object mapper,
+ * so neither object mapper nor intermediate json object is created for every event.
+ */
+public final class EventCodec {
+
+  private static final ObjectReader EVENT_READER = DatabindCodec.mapper().readerFor(Event.class);
+  private static final ObjectReader DATA_IMPORT_EVENT_PAYLOAD_READER = DatabindCodec.mapper().readerFor(DataImportEventPayload.class);
+  private static final ObjectReader RAW_RECORDS_DTO_READER = DatabindCodec.mapper().readerFor(RawRecordsDto.class);
+  private static final ObjectReader RECORDS_BATCH_RESPONSE_READER = DatabindCodec.mapper().readerFor(RecordsBatchResponse.class);
+  private static final ObjectReader RECORD_READER = DatabindCodec.mapper().readerFor(Record.class);
+
+  private EventCodec() {
+  }
+
+  /**
+   * Decodes event from json
+   *
+   * @param eventJson event in json representation
+   * @return event
+   * @throws DecodeException if the json can not be decoded
+   */
+  public static Event decodeEvent(String eventJson) {
+    return decode(eventJson, EVENT_READER);
+  }
+
+  /**
+   * Decodes payload of data import event
+   *
+   * @param payloadJson payload in json representation
+   * @return data import event payload
+   * @throws DecodeException if the json can not be decoded
+   */
+  public static DataImportEventPayload decodeDataImportEventPayload(String payloadJson) {
+    return decode(payloadJson, DATA_IMPORT_EVENT_PAYLOAD_READER);
+  }
+
+  /**
+   * Decodes payload of the raw records chunk event
+   *
+   * @param payloadJson payload in json representation
+   * @return raw records dto
+   * @throws DecodeException if the json can not be decoded
+   */
+  public static RawRecordsDto decodeRawRecordsDto(String payloadJson) {
+    return decode(payloadJson, RAW_RECORDS_DTO_READER);
+  }
+
+  /**
+   * Decodes payload of the stored records chunk event
+   *
+   * @param payloadJson payload in json representation
+   * @return records batch response
+   * @throws DecodeException if the json can not be decoded
+   */
+  public static RecordsBatchResponse decodeRecordsBatchResponse(String payloadJson) {
+    return decode(payloadJson, RECORDS_BATCH_RESPONSE_READER);
+  }
+
+  /**
+   * Decodes record passed in the data import event payload context
+   *
+   * @param recordJson record in json representation
+   * @return record
+   * @throws DecodeException if the json can not be decoded
+   */
+  public static Record decodeRecord(String recordJson) {
+    return decode(recordJson, RECORD_READER);
+  }
+
+  private static <T> T decode(String json, ObjectReader reader) {
+    try {
+      return reader.readValue(json);
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode: " + e.getMessage(), e);
+    }
+  }
+}
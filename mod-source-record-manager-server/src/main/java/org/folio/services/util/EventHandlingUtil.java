@@ -21,6 +21,7 @@ import org.folio.services.exceptions.RecordsPublishingException;
 import static org.folio.services.util.RecordConversionUtil.RECORDS;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public final class EventHandlingUtil {
@@ -33,15 +34,18 @@ public final class EventHandlingUtil {
   /**
    * Prepares and sends event with payload to kafka
    *
-   * @param tenantId     tenant id
-   * @param eventPayload eventPayload in String representation
-   * @param eventType    eventType
-   * @param kafkaHeaders kafka headers
-   * @param kafkaConfig  kafka config
+   * @param tenantId         tenant id
+   * @param eventPayload     eventPayload in String representation
+   * @param eventType        eventType
+   * @param kafkaHeaders     kafka headers
+   * @param kafkaConfig      kafka config
+   * @param key              key of the kafka record
+   * @param producerRegistry registry providing kafka producer for the event type
    * @return completed future with true if event was sent successfully
    */
   public static Future<Boolean> sendEventToKafka(String tenantId, String eventPayload, String eventType,
-                                                 List<KafkaHeader> kafkaHeaders, KafkaConfig kafkaConfig, String key) {
+                                                 List<KafkaHeader> kafkaHeaders, KafkaConfig kafkaConfig, String key,
+                                                 KafkaProducerRegistry producerRegistry) {
     LOGGER.debug("Starting to send event to Kafka for eventType: {}", eventType);
     Event event = createEvent(eventPayload, eventType, tenantId);
 
@@ -54,17 +58,14 @@ public final class EventHandlingUtil {
     String chunkId = extractHeader(kafkaHeaders, "chunkId");
     String recordId = extractHeader(kafkaHeaders, "recordId");
 
-    String producerName = eventType + "_Producer";
-    KafkaProducer<String, String> producer =
-      KafkaProducer.createShared(Vertx.currentContext().owner(), producerName, kafkaConfig.getProducerProps());
+    KafkaProducer<String, String> producer = producerRegistry.getProducer(eventType, kafkaConfig);
     producer.write(record, war -> {
-      producer.end(ear -> producer.close());
       if (war.succeeded()) {
         logSendingSucceeded(eventType, chunkId, recordId);
         promise.complete(true);
       } else {
         Throwable cause = war.cause();
-        LOGGER.error("{} write error for event {}:", producerName, eventType, cause);
+        LOGGER.error("{} write error for event {} with id: {}", KafkaProducerRegistry.getProducerName(eventType), eventType, event.getId(), cause);
         handleKafkaPublishingErrors(promise, eventPayload, cause);
       }
     });
@@ -114,9 +115,8 @@ public final class EventHandlingUtil {
       ModuleName.getModuleVersion());
   }
 
-  public static KafkaProducer<String, String> createProducer(String eventType, KafkaConfig kafkaConfig) {
-    String producerName = eventType + "_Producer";
-    return KafkaProducer.createShared(Vertx.currentContext().owner(), producerName, kafkaConfig.getProducerProps());
+  public static KafkaProducer<String, String> createProducer(String eventType, Map<String, String> producerProps) {
+    return KafkaProducer.createShared(Vertx.currentContext().owner(), KafkaProducerRegistry.getProducerName(eventType), producerProps);
   }
 
   private static void handleKafkaPublishingErrors(Promise<Boolean> promise, String eventPayload, Throwable cause) {
@@ -0,0 +1,121 @@
+package org.folio.services.util;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.kafka.client.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.kafka.KafkaConfig;
+import org.folio.okapi.common.GenericCompositeFuture;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of long-lived kafka producers.
+ * Producers are created once per vertx context and event type on first use.
+ * The verticle which owns the context closes its producers by {@link #closeProducers(Context)} when it is stopped,
+ * producers remaining on other contexts (e.g. the ones used by REST handlers) are closed by {@link #closeAll()}
+ * on module shutdown.
+ */
+@Component
+public class KafkaProducerRegistry {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  private final Map<String, String> additionalProducerProps;
+  private final Map<Context, Map<String, KafkaProducer<String, String>>> contextProducers = new ConcurrentHashMap<>();
+
+  public KafkaProducerRegistry(@Value("${KAFKA_PRODUCER_LINGER_MS:5}") String producerLingerMs,
+                               @Value("${KAFKA_PRODUCER_BATCH_SIZE:65536}") String producerBatchSize,
+                               @Value("${KAFKA_PRODUCER_COMPRESSION_TYPE:none}") String producerCompressionType) {
+    this.additionalProducerProps = Map.of(
+      ProducerConfig.LINGER_MS_CONFIG, producerLingerMs,
+      ProducerConfig.BATCH_SIZE_CONFIG, producerBatchSize,
+      ProducerConfig.COMPRESSION_TYPE_CONFIG, producerCompressionType);
+  }
+
+  /**
+   * Returns producer properties of the specified kafka config combined with the producer batching properties
+   *
+   * @param kafkaConfig kafka config
+   * @return producer properties
+   */
+  public Map<String, String> getProducerProps(KafkaConfig kafkaConfig) {
+    Map<String, String> producerProps = new HashMap<>(kafkaConfig.getProducerProps());
+    producerProps.putAll(additionalProducerProps);
+    return producerProps;
+  }
+
+  /**
+   * Returns producer for the specified event type bound to the current vertx context,
+   * the producer is created if it does not exist yet
+   *
+   * @param eventType   event type
+   * @param kafkaConfig kafka config
+   * @return kafka producer
+   */
+  public KafkaProducer<String, String> getProducer(String eventType, KafkaConfig kafkaConfig) {
+    Context context = Vertx.currentContext();
+    if (context == null) {
+      throw new IllegalStateException(String.format("Kafka producer for event type '%s' can be obtained only on a vertx context thread", eventType));
+    }
+    return contextProducers.computeIfAbsent(context, ctx -> new ConcurrentHashMap<>())
+      .computeIfAbsent(getProducerName(eventType),
+        producerName -> KafkaProducer.createShared(context.owner(), producerName, getProducerProps(kafkaConfig)));
+  }
+
+  /**
+   * Returns name of the producer used for the specified event type
+   *
+   * @param eventType event type
+   * @return producer name
+   */
+  public static String getProducerName(String eventType) {
+    return eventType + "_Producer";
+  }
+
+  /**
+   * Closes producers bound to the specified vertx context
+   *
+   * @param context vertx context
+   * @return future completed when all the producers are closed
+   */
+  public Future<Void> closeProducers(Context context) {
+    Map<String, KafkaProducer<String, String>> producers = contextProducers.remove(context);
+    if (producers == null) {
+      return Future.succeededFuture();
+    }
+    List<Future<Void>> closeFutures = new ArrayList<>();
+    closeProducers(producers, closeFutures);
+    return GenericCompositeFuture.join(closeFutures).mapEmpty();
+  }
+
+  /**
+   * Closes all the registered producers regardless of the context they are bound to
+   *
+   * @return future completed when all the producers are closed
+   */
+  public Future<Void> closeAll() {
+    List<Future<Void>> closeFutures = new ArrayList<>();
+    contextProducers.keySet().forEach(context -> {
+      Map<String, KafkaProducer<String, String>> producers = contextProducers.remove(context);
+      if (producers != null) {
+        closeProducers(producers, closeFutures);
+      }
+    });
+    return GenericCompositeFuture.join(closeFutures).mapEmpty();
+  }
+
+  private void closeProducers(Map<String, KafkaProducer<String, String>> producers, List<Future<Void>> closeFutures) {
+    producers.forEach((producerName, producer) -> closeFutures.add(producer.close()
+      .onFailure(e -> LOGGER.warn("Failed to close kafka producer {}", producerName, e))));
+  }
+}
@@ -0,0 +1,53 @@
+package org.folio.services.util;
+
+import org.folio.dataimport.util.marc.MarcRecordType;
+
+/**
+ * Determines MARC record type by the leader, without analyzing the rest of the record
+ */
+public final class MarcRecordTypeClassifier {
+
+  private static final int TYPE_OF_RECORD_POSITION = 6;
+
+  private MarcRecordTypeClassifier() {
+  }
+
+  /**
+   * Determines MARC record type by the type of record code (leader position 06).
+   * Bibliographic level (leader position 07) does not affect the record type and is not checked.
+   *
+   * @param leader record leader or any char sequence starting with the leader, e.g. raw ISO 2709 record
+   * @return MARC record type, {@link MarcRecordType#NA} if the type of record code is unknown
+   */
+  public static MarcRecordType classify(CharSequence leader) {
+    if (leader == null || leader.length() <= TYPE_OF_RECORD_POSITION) {
+      return MarcRecordType.NA;
+    }
+    switch (leader.charAt(TYPE_OF_RECORD_POSITION)) {
+      case 'a':
+      case 'c':
+      case 'd':
+      case 'e':
+      case 'f':
+      case 'g':
+      case 'i':
+      case 'j':
+      case 'k':
+      case 'm':
+      case 'o':
+      case 'p':
+      case 'r':
+      case 't':
+        return MarcRecordType.BIB;
+      case 'u':
+      case 'v':
+      case 'x':
+      case 'y':
+        return MarcRecordType.HOLDING;
+      case 'z':
+        return MarcRecordType.AUTHORITY;
+      default:
+        return MarcRecordType.NA;
+    }
+  }
+}
@@ -4,9 +4,11 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.SPACE;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -71,8 +73,44 @@ public final class ParsedRecordUtil {
       .map(subfieldAsObject -> (JsonObject) subfieldAsObject);
   }
 
+  /**
+   * Returns parsed record content as json object. Content kept as {@link RawJsonContent} is decoded only once,
+   * content received as json string or as json object (map) is converted.
+   * The returned object must not be modified, use a copy if content changes are needed.
+   *
+   * @param parsedRecord parsed record
+   * @return parsed record content as json object
+   */
+  @SuppressWarnings("unchecked")
+  public static JsonObject getParsedContent(ParsedRecord parsedRecord) {
+    Object content = parsedRecord.getContent();
+    if (content instanceof RawJsonContent) {
+      return ((RawJsonContent) content).getJsonObject();
+    } else if (content instanceof JsonObject) {
+      return (JsonObject) content;
+    } else if (content instanceof Map) {
+      return new JsonObject((Map<String, Object>) content);
+    }
+    return new JsonObject(content.toString());
+  }
+
+  /**
+   * Returns parsed record content as json string without re-encoding content kept as string or {@link RawJsonContent}
+   *
+   * @param parsedRecord parsed record
+   * @return parsed record content as json string
+   */
+  public static String getParsedContentAsString(ParsedRecord parsedRecord) {
+    Object content = parsedRecord.getContent();
+    if (content instanceof String || content instanceof RawJsonContent) {
+      return content.toString();
+    } else if (content instanceof JsonObject) {
+      return ((JsonObject) content).encode();
+    }
+    return Json.encode(content);
+  }
+
   private static JsonArray getFields(ParsedRecord parsedRecord) {
-    JsonObject parsedContent = new JsonObject(parsedRecord.getContent().toString());
-    return parsedContent.getJsonArray("fields");
+    return getParsedContent(parsedRecord).getJsonArray("fields");
   }
 }
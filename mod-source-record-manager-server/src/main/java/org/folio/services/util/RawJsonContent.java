@@ -0,0 +1,107 @@
+package org.folio.services.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+
+/**
+ * Pre-serialized json content, e.g. of {@link org.folio.rest.jaxrs.model.ParsedRecord}, kept as encoded string.
+ * By default the content is written to json as a json string, the same way as string content is.
+ * Content created with writeAsJsonObject flag is written as json object, unescaped as is,
+ * which requires consumers of the payload to accept object content.
+ * Within this module the content is decoded into {@link JsonObject} once, when its fields are accessed
+ * via {@link ParsedRecordUtil}.
+ */
+@JsonSerialize(using = RawJsonContent.RawJsonContentSerializer.class)
+public final class RawJsonContent {
+
+  private final String json;
+  private final boolean writeAsJsonObject;
+  private volatile JsonObject jsonObject;
+
+  /**
+   * @param json - valid json object encoded to string
+   */
+  public RawJsonContent(String json) {
+    this(json, false);
+  }
+
+  /**
+   * @param json              - valid json object encoded to string
+   * @param writeAsJsonObject - whether the content is written to json as json object instead of json string
+   */
+  public RawJsonContent(String json, boolean writeAsJsonObject) {
+    this.json = json;
+    this.writeAsJsonObject = writeAsJsonObject;
+  }
+
+  /**
+   * Returns content holding the specified json, which is written to json the same way as this content is
+   *
+   * @param json - valid json object encoded to string
+   * @return - content with the specified json
+   */
+  public RawJsonContent withJson(String json) {
+    return new RawJsonContent(json, writeAsJsonObject);
+  }
+
+  /**
+   * Returns content decoded into json object, the content is decoded once on first access.
+   * The returned object is shared and must not be modified.
+   *
+   * @return - content as json object
+   */
+  public JsonObject getJsonObject() {
+    JsonObject result = jsonObject;
+    if (result == null) {
+      result = new JsonObject(json);
+      jsonObject = result;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof RawJsonContent && json.equals(((RawJsonContent) o).json);
+  }
+
+  @Override
+  public int hashCode() {
+    return json.hashCode();
+  }
+
+  /**
+   * @return - content as json string
+   */
+  @Override
+  public String toString() {
+    return json;
+  }
+
+  public static class RawJsonContentSerializer extends StdSerializer<RawJsonContent> {
+
+    public RawJsonContentSerializer() {
+      super(RawJsonContent.class);
+    }
+
+    @Override
+    public void serialize(RawJsonContent value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      if (!value.writeAsJsonObject) {
+        gen.writeString(value.json);
+      } else if (gen instanceof TokenBuffer) {
+        // conversion to other types (e.g. by JsonObject.mapFrom) needs json tokens rather than raw text
+        provider.defaultSerializeValue(value.getJsonObject().getMap(), gen);
+      } else {
+        gen.writeRawValue(value.json);
+      }
+    }
+  }
+}
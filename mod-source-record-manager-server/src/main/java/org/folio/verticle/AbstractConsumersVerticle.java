@@ -5,6 +5,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.folio.kafka.*;
 import org.folio.okapi.common.GenericCompositeFuture;
+import org.folio.services.util.KafkaProducerRegistry;
 import org.folio.spring.SpringContextUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -27,6 +28,9 @@ public abstract class AbstractConsumersVerticle extends AbstractVerticle {
   @Qualifier("newKafkaConfig")
   private KafkaConfig kafkaConfig;
 
+  @Autowired
+  private KafkaProducerRegistry kafkaProducerRegistry;
+
   @Value("${srm.kafka.DataImportConsumer.loadLimit:5}")
   private int loadLimit;
 
@@ -67,7 +71,9 @@ public abstract class AbstractConsumersVerticle extends AbstractVerticle {
     consumerWrappersList.forEach(consumerWrapper ->
       futures.add(consumerWrapper.stop()));
 
-    GenericCompositeFuture.join(futures).onComplete(ar -> stopPromise.complete());
+    GenericCompositeFuture.join(futures)
+      .onComplete(ar -> kafkaProducerRegistry.closeProducers(context)
+        .onComplete(v -> stopPromise.complete()));
   }
 
   //TODO: get rid of this workaround with global spring context
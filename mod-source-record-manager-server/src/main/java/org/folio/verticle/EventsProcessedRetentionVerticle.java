@@ -0,0 +1,82 @@
+package org.folio.verticle;
+
+import java.util.Set;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.shareddata.LocalMap;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.stereotype.Component;
+
+import org.folio.services.EventProcessedService;
+import org.folio.spring.SpringContextUtil;
+
+/**
+ * Periodically creates daily partitions of the events_processed table ahead of time
+ * and drops the partitions that are older than the retention period.
+ */
+@Log4j2
+@Component
+@PropertySource("classpath:application.properties")
+public class EventsProcessedRetentionVerticle extends AbstractVerticle {
+
+  private static AbstractApplicationContext springGlobalContext;
+
+  @Autowired
+  private EventProcessedService eventProcessedService;
+
+  @Value("${srm.events.processed.retention.interval.ms:3600000}")
+  private long retentionInterval;
+
+  @Value("${srm.events.processed.retention.days:3}")
+  private int retentionDays;
+
+  @Value("${srm.events.processed.partitions.days.ahead:2}")
+  private int partitionsDaysAhead;
+
+  private long timerId;
+
+  public static void setSpringContext(AbstractApplicationContext springContext) {
+    EventsProcessedRetentionVerticle.springGlobalContext = springContext;
+  }
+
+  @Override
+  public void start() {
+    declareSpringContext();
+
+    maintainPartitions();
+    timerId = vertx.setPeriodic(retentionInterval, handler -> maintainPartitions());
+  }
+
+  @Override
+  public void stop() throws Exception {
+    vertx.cancelTimer(timerId);
+    super.stop();
+  }
+
+  protected void declareSpringContext() {
+    context.put("springContext", springGlobalContext);
+    SpringContextUtil.autowireDependencies(this, context);
+  }
+
+  private void maintainPartitions() {
+    getTenants().forEach(tenantId -> {
+      log.debug("Maintain events_processed partitions for tenant [{}]", tenantId);
+      eventProcessedService.maintainPartitions(partitionsDaysAhead, retentionDays, tenantId)
+        .onSuccess(droppedCount -> {
+          if (droppedCount > 0) {
+            log.info("Dropped {} expired events_processed partitions for tenant [{}]", droppedCount, tenantId);
+          }
+        })
+        .onFailure(e -> log.error("Failed to maintain events_processed partitions for tenant [{}]", tenantId, e));
+    });
+  }
+
+  private Set<String> getTenants() {
+    LocalMap<String, Integer> tenants = vertx.sharedData().getLocalMap("tenants");
+    return tenants.keySet();
+  }
+}
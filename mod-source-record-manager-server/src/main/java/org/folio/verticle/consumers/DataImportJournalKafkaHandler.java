@@ -1,9 +1,9 @@
 package org.folio.verticle.consumers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.kafka.client.consumer.KafkaConsumerRecord;
 import io.vertx.kafka.client.producer.KafkaHeader;
@@ -17,12 +17,20 @@ import org.folio.kafka.KafkaHeaderUtils;
 import org.folio.rest.jaxrs.model.Event;
 import org.folio.services.EventProcessedService;
 import org.folio.services.journal.JournalService;
+import org.folio.services.util.EventCodec;
 import org.folio.verticle.consumers.util.EventTypeHandlerSelector;
+import org.folio.verticle.consumers.util.JournalRecordsCollector;
+import org.folio.verticle.consumers.util.SpecificEventHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.folio.services.RecordsPublishingServiceImpl.RECORD_ID_HEADER;
 
@@ -36,6 +44,16 @@ public class DataImportJournalKafkaHandler implements AsyncRecordHandler<String,
   private JournalService journalService;
   private EventProcessedService eventProcessedService;
   private EventTypeHandlerSelector eventTypeHandlerSelector;
+  private final Map<String, JournalRecordsBatch> pendingBatches = new ConcurrentHashMap<>();
+
+  @Value("${srm.kafka.DataImportJournalKafkaHandler.batch.size:100}")
+  private int batchSize;
+
+  @Value("${srm.kafka.DataImportJournalKafkaHandler.batch.window.ms:50}")
+  private long batchWindowMs;
+
+  @Value("${srm.kafka.DataImportConsumer.loadLimit:5}")
+  private int loadLimit;
 
   public DataImportJournalKafkaHandler(@Autowired Vertx vertx,
                                        @Autowired EventProcessedService eventProcessedService,
@@ -53,7 +71,7 @@ public class DataImportJournalKafkaHandler implements AsyncRecordHandler<String,
     List<KafkaHeader> kafkaHeaders = record.headers();
     OkapiConnectionParams okapiConnectionParams = new OkapiConnectionParams(KafkaHeaderUtils.kafkaHeadersToMap(kafkaHeaders), vertx);
     String recordId = okapiConnectionParams.getHeaders().get(RECORD_ID_HEADER);
-    Event event = new JsonObject(record.value()).mapTo(Event.class);
+    Event event = EventCodec.decodeEvent(record.value());
     LOGGER.debug("Event was received with recordId: {} event type: {}", recordId, event.getEventType());
 
     eventProcessedService.collectData(DATA_IMPORT_JOURNAL_KAFKA_HANDLER_UUID, event.getId(), okapiConnectionParams.getTenantId())
@@ -65,15 +83,81 @@ public class DataImportJournalKafkaHandler implements AsyncRecordHandler<String,
 
   private void processJournalEvent(Promise<String> result, KafkaConsumerRecord<String, String> record, Event event, String tenantId) {
     try {
-      DataImportEventPayload eventPayload = new ObjectMapper().readValue(event.getEventPayload(), DataImportEventPayload.class);
-      eventTypeHandlerSelector.getHandler(eventPayload).handle(journalService, eventPayload, tenantId);
-      result.complete(record.key());
+      DataImportEventPayload eventPayload = EventCodec.decodeDataImportEventPayload(event.getEventPayload());
+      SpecificEventHandler eventHandler = eventTypeHandlerSelector.getHandler(eventPayload);
+      if (batchSize <= 1) {
+        eventHandler.handle(journalService, eventPayload, tenantId);
+        result.complete(record.key());
+        return;
+      }
+
+      JournalRecordsCollector journalRecordsCollector = new JournalRecordsCollector();
+      eventHandler.handle(journalRecordsCollector, eventPayload, tenantId)
+        .onSuccess(v -> addToBatch(journalRecordsCollector.getJournalRecords(), tenantId, record.key(), result))
+        .onFailure(e -> {
+          LOGGER.error("Error during processing journal event", e);
+          result.fail(e);
+        });
     } catch (Exception e) {
       LOGGER.error("Error during processing journal event", e);
       result.fail(e);
     }
   }
 
+  /**
+   * Adds journal records of the event to the batch of the tenant. The batch is saved by a single insert once
+   * it reaches the batch size, once it holds records of as many events as the consumer load limit allows
+   * to handle at a time, or when the batch window elapses. The result is completed only after the batch
+   * is saved, so the event offset is not committed before its journal records are persisted.
+   */
+  private void addToBatch(List<JsonObject> journalRecords, String tenantId, String recordKey, Promise<String> result) {
+    if (journalRecords.isEmpty()) {
+      result.complete(recordKey);
+      return;
+    }
+
+    Promise<Void> savePromise = Promise.promise();
+    savePromise.future()
+      .onSuccess(v -> result.complete(recordKey))
+      .onFailure(result::fail);
+
+    AtomicReference<JournalRecordsBatch> batchToSave = new AtomicReference<>();
+    AtomicReference<JournalRecordsBatch> createdBatch = new AtomicReference<>();
+    pendingBatches.compute(tenantId, (k, batch) -> {
+      if (batch == null) {
+        batch = new JournalRecordsBatch();
+        createdBatch.set(batch);
+      }
+      batch.add(journalRecords, savePromise);
+      if (batch.size() >= batchSize || batch.getPromises().size() >= loadLimit) {
+        batchToSave.set(batch);
+        return null;
+      }
+      return batch;
+    });
+
+    if (batchToSave.get() != null) {
+      saveBatch(batchToSave.get(), tenantId);
+    } else if (createdBatch.get() != null) {
+      JournalRecordsBatch batch = createdBatch.get();
+      vertx.setTimer(batchWindowMs, timerId -> {
+        // the batch may have been saved by size and replaced by a newer one, which has its own timer
+        if (pendingBatches.remove(tenantId, batch)) {
+          saveBatch(batch, tenantId);
+        }
+      });
+    }
+  }
+
+  private void saveBatch(JournalRecordsBatch batch, String tenantId) {
+    journalService.saveBatchWithResponse(new JsonArray(batch.getJournalRecords()), tenantId, ar -> {
+      if (ar.failed()) {
+        LOGGER.error("Failed to save batch of {} journal records for tenant {}", batch.size(), tenantId, ar.cause());
+      }
+      batch.getPromises().forEach(promise -> promise.handle(ar));
+    });
+  }
+
   private void processDeduplicationFailure(Promise<String> result, KafkaConsumerRecord<String, String> record, Event event, Throwable e) {
     if (e instanceof DuplicateEventException) { // duplicate coming, ignore it
       LOGGER.info(e.getMessage());
@@ -83,4 +167,29 @@ public class DataImportJournalKafkaHandler implements AsyncRecordHandler<String,
       result.fail(e);
     }
   }
+
+  /**
+   * Journal records of a single tenant accumulated for saving by one insert
+   */
+  private static class JournalRecordsBatch {
+    private final List<JsonObject> journalRecords = new ArrayList<>();
+    private final List<Promise<Void>> promises = new ArrayList<>();
+
+    void add(List<JsonObject> records, Promise<Void> promise) {
+      journalRecords.addAll(records);
+      promises.add(promise);
+    }
+
+    int size() {
+      return journalRecords.size();
+    }
+
+    List<JsonObject> getJournalRecords() {
+      return journalRecords;
+    }
+
+    List<Promise<Void>> getPromises() {
+      return promises;
+    }
+  }
 }
@@ -25,6 +25,7 @@ import org.folio.rest.jaxrs.model.Event;
 import org.folio.rest.jaxrs.model.SourceRecordState;
 import org.folio.services.QuickMarcEventProducerService;
 import org.folio.services.SourceRecordStateService;
+import org.folio.services.util.EventCodec;
 import org.folio.verticle.consumers.util.QMEventTypes;
 import org.folio.verticle.consumers.util.QmCompletedEventPayload;
 
@@ -43,7 +44,7 @@ public class QuickMarcUpdateKafkaHandler implements AsyncRecordHandler<String, S
 
   @Override
   public Future<String> handle(KafkaConsumerRecord<String, String> record) {
-    var event = Json.decodeValue(record.value(), Event.class);
+    var event = EventCodec.decodeEvent(record.value());
     var eventType = event.getEventType();
 
     var kafkaHeaders = record.headers();
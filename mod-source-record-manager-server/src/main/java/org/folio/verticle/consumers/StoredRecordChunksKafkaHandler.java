@@ -2,7 +2,6 @@ package org.folio.verticle.consumers;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
-import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.kafka.client.consumer.KafkaConsumerRecord;
@@ -24,6 +23,7 @@ import org.folio.services.MappingRuleCache;
 import org.folio.services.RecordsPublishingService;
 import org.folio.services.entity.MappingRuleCacheKey;
 import org.folio.services.journal.JournalService;
+import org.folio.services.util.EventCodec;
 import org.folio.services.util.ParsedRecordUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -87,12 +87,12 @@ public class StoredRecordChunksKafkaHandler implements AsyncRecordHandler<String
     String chunkNumber = okapiConnectionParams.getHeaders().get("chunkNumber");
     String jobExecutionId = okapiConnectionParams.getHeaders().get("jobExecutionId");
 
-    Event event = Json.decodeValue(record.value(), Event.class);
+    Event event = EventCodec.decodeEvent(record.value());
 
     try {
       return eventProcessedService.collectData(STORED_RECORD_CHUNKS_KAFKA_HANDLER_UUID, event.getId(), okapiConnectionParams.getTenantId())
         .compose(res -> {
-          RecordsBatchResponse recordsBatchResponse = Json.decodeValue(event.getEventPayload(), RecordsBatchResponse.class);
+          RecordsBatchResponse recordsBatchResponse = EventCodec.decodeRecordsBatchResponse(event.getEventPayload());
           List<Record> storedRecords = recordsBatchResponse.getRecords();
 
           // we only know record type by inspecting the records, assuming records are homogeneous type and defaulting to previous static value
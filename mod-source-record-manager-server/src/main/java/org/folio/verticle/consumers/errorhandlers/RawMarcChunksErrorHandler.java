@@ -16,7 +16,9 @@ import org.folio.rest.jaxrs.model.Event;
 import org.folio.rest.jaxrs.model.RawRecordsDto;
 import org.folio.rest.jaxrs.model.Record;
 import org.folio.services.exceptions.RecordsPublishingException;
+import org.folio.services.util.EventCodec;
 import org.folio.services.util.EventHandlingUtil;
+import org.folio.services.util.KafkaProducerRegistry;
 import org.folio.verticle.consumers.errorhandlers.payloadbuilders.DiErrorPayloadBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -43,10 +45,12 @@ public class RawMarcChunksErrorHandler implements ProcessRecordErrorHandler<Stri
   private KafkaConfig kafkaConfig;
   @Autowired
   private List<DiErrorPayloadBuilder> errorPayloadBuilders;
+  @Autowired
+  private KafkaProducerRegistry kafkaProducerRegistry;
 
   @Override
   public void handle(Throwable throwable, KafkaConsumerRecord<String, String> record) {
-    Event event = Json.decodeValue(record.value(), Event.class);
+    Event event = EventCodec.decodeEvent(record.value());
     List<KafkaHeader> kafkaHeaders = record.headers();
     OkapiConnectionParams okapiParams = new OkapiConnectionParams(KafkaHeaderUtils.kafkaHeadersToMap(kafkaHeaders), vertx);
     String jobExecutionId = okapiParams.getHeaders().get(JOB_EXECUTION_ID_HEADER);
@@ -59,7 +63,7 @@ public class RawMarcChunksErrorHandler implements ProcessRecordErrorHandler<Stri
         sendDiErrorEvent(throwable, okapiParams, jobExecutionId, tenantId, failedRecord);
       }
     } else if (throwable instanceof DuplicateEventException) {
-      RawRecordsDto rawRecordsDto = Json.decodeValue(event.getEventPayload(), RawRecordsDto.class);
+      RawRecordsDto rawRecordsDto = EventCodec.decodeRawRecordsDto(event.getEventPayload());
       LOGGER.info("Duplicate event received, skipping parsing for jobExecutionId: {} , tenantId: {}, chunkId:{}, totalRecords: {}, cause: {}", jobExecutionId, tenantId, chunkId, rawRecordsDto.getInitialRecords().size(), throwable.getMessage());
     } else {
       sendDiErrorEvent(throwable, okapiParams, jobExecutionId, tenantId, null);
@@ -77,7 +81,7 @@ public class RawMarcChunksErrorHandler implements ProcessRecordErrorHandler<Stri
           LOGGER.info("Start building DI_ERROR payload for jobExecutionId {} and recordId {}", jobExecutionId, record.getId());
           payloadBuilder.buildEventPayload(throwable, okapiParams, jobExecutionId, record)
             .compose(payload -> EventHandlingUtil.sendEventToKafka(tenantId, Json.encode(payload), DI_ERROR.value(),
-              KafkaHeaderUtils.kafkaHeadersFromMultiMap(okapiParams.getHeaders()), kafkaConfig, null));
+              KafkaHeaderUtils.kafkaHeadersFromMultiMap(okapiParams.getHeaders()), kafkaConfig, null, kafkaProducerRegistry));
           return;
         }
       }
@@ -100,6 +104,6 @@ public class RawMarcChunksErrorHandler implements ProcessRecordErrorHandler<Stri
         put(ERROR_KEY, throwable.getMessage());
       }});
     EventHandlingUtil.sendEventToKafka(okapiParams.getTenantId(), Json.encode(payload), DI_ERROR.value(),
-      KafkaHeaderUtils.kafkaHeadersFromMultiMap(okapiParams.getHeaders()), kafkaConfig, null);
+      KafkaHeaderUtils.kafkaHeadersFromMultiMap(okapiParams.getHeaders()), kafkaConfig, null, kafkaProducerRegistry);
   }
 }
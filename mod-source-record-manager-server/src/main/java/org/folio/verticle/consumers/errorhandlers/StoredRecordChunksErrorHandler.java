@@ -16,6 +16,8 @@ import org.folio.rest.jaxrs.model.Event;
 import org.folio.rest.jaxrs.model.Record;
 import org.folio.rest.jaxrs.model.RecordsBatchResponse;
 import org.folio.services.exceptions.RecordsPublishingException;
+import org.folio.services.util.EventCodec;
+import org.folio.services.util.KafkaProducerRegistry;
 import org.folio.services.util.RecordConversionUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -39,11 +41,13 @@ public class StoredRecordChunksErrorHandler implements ProcessRecordErrorHandler
 
   private final Vertx vertx;
   private final KafkaConfig kafkaConfig;
+  private final KafkaProducerRegistry kafkaProducerRegistry;
 
   @Autowired
-  public StoredRecordChunksErrorHandler(Vertx vertx, KafkaConfig kafkaConfig) {
+  public StoredRecordChunksErrorHandler(Vertx vertx, KafkaConfig kafkaConfig, KafkaProducerRegistry kafkaProducerRegistry) {
     this.vertx = vertx;
     this.kafkaConfig = kafkaConfig;
+    this.kafkaProducerRegistry = kafkaProducerRegistry;
   }
 
   @Override
@@ -65,8 +69,8 @@ public class StoredRecordChunksErrorHandler implements ProcessRecordErrorHandler
 
     } else {
       // process for all other cases that will include all records
-      Event event = Json.decodeValue(kafkaConsumerRecord.value(), Event.class);
-      RecordsBatchResponse recordCollection = Json.decodeValue(event.getEventPayload(), RecordsBatchResponse.class);
+      Event event = EventCodec.decodeEvent(kafkaConsumerRecord.value());
+      RecordsBatchResponse recordCollection = EventCodec.decodeRecordsBatchResponse(event.getEventPayload());
       for (Record targetRecord: recordCollection.getRecords()) {
         sendDiErrorForRecord(jobExecutionId, targetRecord, okapiParams, throwable.getMessage());
       }
@@ -89,7 +93,7 @@ public class StoredRecordChunksErrorHandler implements ProcessRecordErrorHandler
 
     String chunkNumber = okapiParams.getHeaders().get(CHUNK_NUMBER);
 
-    sendEventToKafka(okapiParams.getTenantId(), Json.encode(errorPayload), DI_ERROR.value(), KafkaHeaderUtils.kafkaHeadersFromMultiMap(okapiParams.getHeaders()), kafkaConfig, null)
+    sendEventToKafka(okapiParams.getTenantId(), Json.encode(errorPayload), DI_ERROR.value(), KafkaHeaderUtils.kafkaHeadersFromMultiMap(okapiParams.getHeaders()), kafkaConfig, null, kafkaProducerRegistry)
       .onFailure(th -> LOGGER.error("Error publishing DI_ERROR event for jobExecutionId: {} , recordId: {}, chunkNumber: {}", errorPayload.getJobExecutionId(), targetRecord.getId(), chunkNumber, th));
   }
 }
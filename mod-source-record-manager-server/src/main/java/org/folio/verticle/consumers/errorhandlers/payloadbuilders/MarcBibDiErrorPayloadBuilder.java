@@ -12,6 +12,7 @@ import org.folio.rest.jaxrs.model.Record;
 import org.folio.services.MappingRuleCache;
 import org.folio.services.entity.MappingRuleCacheKey;
 import org.folio.verticle.consumers.errorhandlers.RawMarcChunksErrorHandler;
+import org.folio.services.util.ParsedRecordUtil;
 import org.folio.services.util.RecordConversionUtil;
 import org.folio.verticle.consumers.util.MarcImportEventsHandler;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -80,7 +81,7 @@ public class MarcBibDiErrorPayloadBuilder implements DiErrorPayloadBuilder {
       String titleFieldTag = titleFieldOptional.get();
 
       ParsedRecord parsedRecord = record.getParsedRecord();
-      JsonObject parsedContent = new JsonObject(parsedRecord.getContent().toString());
+      JsonObject parsedContent = ParsedRecordUtil.getParsedContent(parsedRecord);
       var fields = parsedContent.getJsonArray(FIELDS).getList();
       for (Object elem: fields) {
         Object titleField = ((Map) elem).get(titleFieldTag);
@@ -1,6 +1,7 @@
 package org.folio.verticle.consumers.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.folio.DataImportEventPayload;
@@ -15,11 +16,12 @@ import java.util.List;
 public class InvoiceImportEventHandler implements SpecificEventHandler {
 
   @Override
-  public void handle(JournalService journalService, DataImportEventPayload eventPayload, String tenantId)
+  public Future<Void> handle(JournalService journalService, DataImportEventPayload eventPayload, String tenantId)
     throws JournalRecordMapperException, JsonProcessingException {
     List<JournalRecord> journalRecords = InvoiceUtil.buildJournalRecordByEvent(eventPayload);
     List<JsonObject> jsonObjects = new ArrayList<>();
     journalRecords.forEach(journalRecord -> jsonObjects.add(JsonObject.mapFrom(journalRecord)));
     journalService.saveBatch(new JsonArray(jsonObjects), tenantId);
+    return Future.succeededFuture();
   }
 }
@@ -0,0 +1,43 @@
+package org.folio.verticle.consumers.util;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.folio.services.journal.JournalService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link JournalService} that does not persist journal records but collects them,
+ * so that records built for several events can be saved with one batched insert.
+ * Not thread-safe, an instance is intended to be used for a single event.
+ */
+public class JournalRecordsCollector implements JournalService {
+
+  private final List<JsonObject> journalRecords = new ArrayList<>();
+
+  @Override
+  public void save(JsonObject journalRecord, String tenantId) {
+    journalRecords.add(journalRecord);
+  }
+
+  @Override
+  public void saveBatch(JsonArray journalRecords, String tenantId) {
+    for (int i = 0; i < journalRecords.size(); i++) {
+      this.journalRecords.add(journalRecords.getJsonObject(i));
+    }
+  }
+
+  @Override
+  public void saveBatchWithResponse(JsonArray journalRecords, String tenantId, Handler<AsyncResult<Void>> resultHandler) {
+    saveBatch(journalRecords, tenantId);
+    resultHandler.handle(Future.succeededFuture());
+  }
+
+  public List<JsonObject> getJournalRecords() {
+    return journalRecords;
+  }
+}
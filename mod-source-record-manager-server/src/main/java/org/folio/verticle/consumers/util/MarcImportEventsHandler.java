@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import org.apache.commons.lang3.StringUtils;
@@ -85,7 +86,7 @@ public class MarcImportEventsHandler implements SpecificEventHandler {
   }
 
   @Override
-  public void handle(JournalService journalService, DataImportEventPayload eventPayload, String tenantId)
+  public Future<Void> handle(JournalService journalService, DataImportEventPayload eventPayload, String tenantId)
     throws JournalRecordMapperException {
 
     Optional<JournalParams> journalParamsOptional =
@@ -96,9 +97,15 @@ public class MarcImportEventsHandler implements SpecificEventHandler {
       JournalRecord journalRecord = JournalUtil.buildJournalRecordByEvent(eventPayload,
         journalParams.journalActionType, journalParams.journalEntityType, journalParams.journalActionStatus);
 
+      Promise<Void> promise = Promise.promise();
       populateRecordTitleIfNeeded(journalRecord, eventPayload)
-        .onComplete(ar -> journalService.save(JsonObject.mapFrom(journalRecord), tenantId));
+        .onComplete(ar -> {
+          journalService.save(JsonObject.mapFrom(journalRecord), tenantId);
+          promise.complete();
+        });
+      return promise.future();
     }
+    return Future.succeededFuture();
   }
 
   private Future<JournalRecord> populateRecordTitleIfNeeded(JournalRecord journalRecord,
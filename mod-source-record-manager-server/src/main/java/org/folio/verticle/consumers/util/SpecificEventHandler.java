@@ -1,13 +1,22 @@
 package org.folio.verticle.consumers.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.vertx.core.Future;
 import org.folio.DataImportEventPayload;
 import org.folio.services.journal.JournalRecordMapperException;
 import org.folio.services.journal.JournalService;
 
 public interface SpecificEventHandler {
 
-  void handle(JournalService journalService, DataImportEventPayload eventPayload, String tenantId)
+  /**
+   * Builds journal records for the specified event and passes them to the journal service
+   *
+   * @param journalService journal service that accepts built journal records
+   * @param eventPayload   event payload
+   * @param tenantId       tenant id
+   * @return future completed once all journal records of the event have been passed to the journal service
+   */
+  Future<Void> handle(JournalService journalService, DataImportEventPayload eventPayload, String tenantId)
     throws JournalRecordMapperException, JsonProcessingException;
 
 }
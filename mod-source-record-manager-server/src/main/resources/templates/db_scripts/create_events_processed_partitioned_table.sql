@@ -0,0 +1,87 @@
+-- Custom script to convert events_processed table to the table partitioned by the day of event processing.
+-- Daily partitions are created ahead and expired ones are dropped by create_events_processed_partitions
+-- and drop_expired_events_processed_partitions functions, invoked periodically by the module.
+
+-- Function to create daily partitions of events_processed table from current date up to days_ahead days.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.create_events_processed_partitions(days_ahead integer)
+RETURNS void AS $$
+DECLARE
+  partition_date date;
+BEGIN
+  FOR i IN 0..days_ahead LOOP
+    partition_date := current_date + i;
+    BEGIN
+      EXECUTE format('CREATE TABLE IF NOT EXISTS %I.%I PARTITION OF %I.events_processed FOR VALUES FROM (%L) TO (%L)',
+        '${myuniversity}_${mymodule}', 'events_processed_' || to_char(partition_date, 'YYYYMMDD'),
+        '${myuniversity}_${mymodule}', partition_date, partition_date + 1);
+    EXCEPTION
+      -- rows for the date are already stored in the default partition, they remain there until expiration
+      WHEN check_violation THEN
+        RAISE NOTICE 'Partition of events_processed for % is not created: default partition contains rows for this date', partition_date;
+    END;
+  END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Function to drop daily partitions of events_processed table that are older than retention_days days.
+-- Returns the number of dropped partitions.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.drop_expired_events_processed_partitions(retention_days integer)
+RETURNS integer AS $$
+DECLARE
+  partition_name text;
+  dropped_count integer := 0;
+BEGIN
+  FOR partition_name IN
+    SELECT child.relname
+    FROM pg_inherits
+      JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+      JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+      JOIN pg_namespace ns ON ns.oid = parent.relnamespace
+    WHERE ns.nspname = '${myuniversity}_${mymodule}'
+      AND parent.relname = 'events_processed'
+      AND child.relname ~ '^events_processed_\d{8}$'
+      AND to_date(right(child.relname, 8), 'YYYYMMDD') < current_date - retention_days
+  LOOP
+    EXECUTE format('DROP TABLE IF EXISTS %I.%I', '${myuniversity}_${mymodule}', partition_name);
+    dropped_count := dropped_count + 1;
+  END LOOP;
+
+  DELETE FROM ${myuniversity}_${mymodule}.events_processed_default WHERE processed_date < current_date - retention_days;
+
+  RETURN dropped_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Replace not partitioned events_processed table by the partitioned one, already processed events are moved to it
+DO $$
+BEGIN
+  IF NOT EXISTS (
+    SELECT 1
+    FROM pg_partitioned_table
+      JOIN pg_class ON pg_class.oid = pg_partitioned_table.partrelid
+      JOIN pg_namespace ON pg_namespace.oid = pg_class.relnamespace
+    WHERE pg_namespace.nspname = '${myuniversity}_${mymodule}' AND pg_class.relname = 'events_processed'
+  ) THEN
+    ALTER TABLE IF EXISTS ${myuniversity}_${mymodule}.events_processed RENAME TO events_processed_old;
+    ALTER INDEX IF EXISTS ${myuniversity}_${mymodule}.events_processed_pkey RENAME TO events_processed_old_pkey;
+
+    CREATE TABLE ${myuniversity}_${mymodule}.events_processed (
+      handler_id uuid NOT NULL,
+      event_id uuid NOT NULL,
+      processed_date date NOT NULL DEFAULT current_date,
+      PRIMARY KEY (handler_id, event_id, processed_date)
+    ) PARTITION BY RANGE (processed_date);
+
+    CREATE TABLE ${myuniversity}_${mymodule}.events_processed_default
+      PARTITION OF ${myuniversity}_${mymodule}.events_processed DEFAULT;
+
+    PERFORM ${myuniversity}_${mymodule}.create_events_processed_partitions(2);
+
+    IF EXISTS (SELECT 1 FROM pg_tables WHERE schemaname = '${myuniversity}_${mymodule}' AND tablename = 'events_processed_old') THEN
+      INSERT INTO ${myuniversity}_${mymodule}.events_processed (handler_id, event_id)
+        SELECT handler_id, event_id FROM ${myuniversity}_${mymodule}.events_processed_old
+      ON CONFLICT DO NOTHING;
+      DROP TABLE ${myuniversity}_${mymodule}.events_processed_old;
+    END IF;
+  END IF;
+END $$;
@@ -0,0 +1,20 @@
+-- Table containing numbers of completed and failed actions per entity type and action type of a data import job.
+-- Counters are incremented while journal records are saved, so the job summary is read without aggregation of journal records.
+CREATE TABLE IF NOT EXISTS job_execution_action_counters (
+    job_execution_id uuid NOT NULL,
+    entity_type text NOT NULL,
+    action_type text NOT NULL,
+    total_completed integer NOT NULL DEFAULT 0,
+    total_failed integer NOT NULL DEFAULT 0,
+    PRIMARY KEY (job_execution_id, entity_type, action_type)
+);
+
+-- Filling of counters for journal records saved before the table was created.
+INSERT INTO job_execution_action_counters (job_execution_id, entity_type, action_type, total_completed, total_failed)
+SELECT job_execution_id, entity_type, action_type,
+       count(*) FILTER (WHERE action_status = 'COMPLETED'),
+       count(*) FILTER (WHERE action_status = 'ERROR')
+FROM journal_records
+WHERE action_type != 'ERROR'
+GROUP BY job_execution_id, entity_type, action_type
+ON CONFLICT DO NOTHING;
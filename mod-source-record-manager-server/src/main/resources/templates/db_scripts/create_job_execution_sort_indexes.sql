@@ -0,0 +1,16 @@
+-- composite indexes for sorting and keyset pagination of job executions displayed on the Data Import landing page,
+-- id is the last column since it is used to make the order unambiguous
+CREATE INDEX IF NOT EXISTS job_execution_completed_date_id_idx ON job_execution USING BTREE (completed_date, id)
+  WHERE subordination_type <> 'PARENT_MULTIPLE';
+
+CREATE INDEX IF NOT EXISTS job_execution_hrid_id_idx ON job_execution USING BTREE (hrid, id)
+  WHERE subordination_type <> 'PARENT_MULTIPLE';
+
+CREATE INDEX IF NOT EXISTS job_execution_file_name_id_idx ON job_execution USING BTREE (file_name, id)
+  WHERE subordination_type <> 'PARENT_MULTIPLE';
+
+CREATE INDEX IF NOT EXISTS job_execution_job_profile_name_id_idx ON job_execution USING BTREE (job_profile_name, id)
+  WHERE subordination_type <> 'PARENT_MULTIPLE';
+
+CREATE INDEX IF NOT EXISTS job_execution_job_user_name_id_idx ON job_execution USING BTREE (job_user_first_name, job_user_last_name, id)
+  WHERE subordination_type <> 'PARENT_MULTIPLE';
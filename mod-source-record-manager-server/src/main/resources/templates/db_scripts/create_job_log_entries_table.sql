@@ -0,0 +1,179 @@
+-- Script to create function to determine processed entity status based on performed actions and occurred errors number.
+-- Unlike get_entity_status, the function is immutable, so it can be used in generated columns.
+CREATE OR REPLACE FUNCTION get_job_log_entry_status(actions text[], errorsNumber integer) RETURNS text AS $$
+    SELECT
+        CASE WHEN errorsNumber != 0 THEN 'DISCARDED'
+             WHEN cardinality(actions) > 1 THEN 'MULTIPLE'
+             WHEN cardinality(actions) = 1 THEN
+                CASE actions[1]
+                    WHEN 'CREATE' THEN 'CREATED'
+                    WHEN 'UPDATE' THEN 'UPDATED'
+                    WHEN 'NON_MATCH' THEN 'DISCARDED'
+                END
+        END;
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Table containing one entry of data import job log per source record (or per invoice line for EDIFACT invoices).
+-- Entries are maintained incrementally while journal records are saved, so the log page is read without aggregation.
+CREATE TABLE IF NOT EXISTS job_log_entries (
+    job_execution_id uuid NOT NULL,
+    entry_id uuid NOT NULL,
+    source_id uuid,
+    source_record_order integer,
+    invoiceline_number text,
+    title text,
+    source_record_entity_type text,
+    source_record_last_action text,
+    source_record_last_action_date timestamp,
+    source_record_errors_number integer NOT NULL DEFAULT 0,
+    instance_actions text[],
+    instance_errors_number integer NOT NULL DEFAULT 0,
+    holdings_actions text[],
+    holdings_errors_number integer NOT NULL DEFAULT 0,
+    item_actions text[],
+    item_errors_number integer NOT NULL DEFAULT 0,
+    authority_actions text[],
+    authority_errors_number integer NOT NULL DEFAULT 0,
+    order_actions text[],
+    order_errors_number integer NOT NULL DEFAULT 0,
+    invoice_actions text[],
+    invoice_errors_number integer NOT NULL DEFAULT 0,
+    holdings_entity_hrid text[],
+    error text,
+    invoice_line_journal_record_id uuid,
+    source_record_order_array integer[],
+    source_record_action_status text GENERATED ALWAYS AS (
+        CASE
+            WHEN source_record_errors_number != 0 OR source_record_last_action = 'NON_MATCH' THEN 'DISCARDED'
+            WHEN source_record_last_action = 'CREATE' THEN 'CREATED'
+            WHEN source_record_last_action IN ('UPDATE', 'MODIFY') THEN 'UPDATED'
+        END) STORED,
+    instance_action_status text GENERATED ALWAYS AS (get_job_log_entry_status(instance_actions, instance_errors_number)) STORED,
+    holdings_action_status text GENERATED ALWAYS AS (get_job_log_entry_status(holdings_actions, holdings_errors_number)) STORED,
+    item_action_status text GENERATED ALWAYS AS (get_job_log_entry_status(item_actions, item_errors_number)) STORED,
+    authority_action_status text GENERATED ALWAYS AS (get_job_log_entry_status(authority_actions, authority_errors_number)) STORED,
+    order_action_status text GENERATED ALWAYS AS (get_job_log_entry_status(order_actions, order_errors_number)) STORED,
+    invoice_action_status text GENERATED ALWAYS AS (get_job_log_entry_status(invoice_actions, invoice_errors_number)) STORED,
+    PRIMARY KEY (job_execution_id, entry_id)
+);
+
+CREATE INDEX IF NOT EXISTS job_log_entries_source_record_order_idx
+    ON job_log_entries USING BTREE (job_execution_id, source_record_order_array, entry_id);
+
+-- Script to create function to add journal record to the job log entry of its source record or invoice line.
+-- Only journal records of the entity types which are shown in the job log are taken into account.
+CREATE OR REPLACE FUNCTION upsert_job_log_entry(jobExecutionId uuid, journalRecordId uuid, sourceId uuid, sourceRecordOrder integer,
+                                                entityType text, entityHrid text, actionType text, actionDate timestamp,
+                                                recordTitle text, errorMessage text) RETURNS uuid AS $$
+INSERT INTO ${myuniversity}_${mymodule}.job_log_entries AS entries (job_execution_id, entry_id, source_id, source_record_order,
+    invoiceline_number, title, source_record_entity_type, source_record_last_action, source_record_last_action_date,
+    source_record_errors_number, instance_actions, instance_errors_number, holdings_actions, holdings_errors_number,
+    item_actions, item_errors_number, authority_actions, authority_errors_number, order_actions, order_errors_number,
+    invoice_actions, invoice_errors_number, holdings_entity_hrid, error, invoice_line_journal_record_id, source_record_order_array)
+SELECT jobExecutionId, sourceId, sourceId, sourceRecordOrder, '', recordTitle,
+       CASE WHEN entityType IN ('MARC_BIBLIOGRAPHIC', 'MARC_HOLDINGS', 'MARC_AUTHORITY') THEN entityType END,
+       CASE WHEN entityType IN ('MARC_BIBLIOGRAPHIC', 'MARC_HOLDINGS', 'MARC_AUTHORITY') THEN actionType END,
+       CASE WHEN entityType IN ('MARC_BIBLIOGRAPHIC', 'MARC_HOLDINGS', 'MARC_AUTHORITY') THEN actionDate END,
+       CASE WHEN entityType IN ('MARC_BIBLIOGRAPHIC', 'MARC_HOLDINGS', 'MARC_AUTHORITY') AND errorMessage != '' THEN 1 ELSE 0 END,
+       CASE WHEN entityType = 'INSTANCE' THEN ARRAY[actionType] END,
+       CASE WHEN entityType = 'INSTANCE' AND errorMessage != '' THEN 1 ELSE 0 END,
+       CASE WHEN entityType = 'HOLDINGS' THEN ARRAY[actionType] END,
+       CASE WHEN entityType = 'HOLDINGS' AND errorMessage != '' THEN 1 ELSE 0 END,
+       CASE WHEN entityType = 'ITEM' THEN ARRAY[actionType] END,
+       CASE WHEN entityType = 'ITEM' AND errorMessage != '' THEN 1 ELSE 0 END,
+       CASE WHEN entityType = 'AUTHORITY' THEN ARRAY[actionType] END,
+       CASE WHEN entityType = 'AUTHORITY' AND errorMessage != '' THEN 1 ELSE 0 END,
+       CASE WHEN entityType = 'ORDER' THEN ARRAY[actionType] END,
+       CASE WHEN entityType = 'ORDER' AND errorMessage != '' THEN 1 ELSE 0 END,
+       NULL, 0,
+       CASE WHEN entityType = 'HOLDINGS' AND entityHrid != '' THEN ARRAY[entityHrid] END,
+       NULLIF(errorMessage, ''),
+       NULL,
+       ARRAY[sourceRecordOrder]
+WHERE entityType IN ('MARC_BIBLIOGRAPHIC', 'MARC_HOLDINGS', 'MARC_AUTHORITY', 'INSTANCE', 'HOLDINGS', 'ITEM', 'ORDER', 'AUTHORITY')
+UNION ALL
+-- every invoice line has its own entry, the line number is used for sorting by source record order
+SELECT jobExecutionId, journalRecordId, sourceId, sourceRecordOrder, entityHrid, recordTitle,
+       NULL, NULL, NULL, 0,
+       NULL, 0, NULL, 0, NULL, 0, NULL, 0, NULL, 0,
+       ARRAY[actionType],
+       CASE WHEN errorMessage != '' THEN 1 ELSE 0 END,
+       NULL,
+       errorMessage,
+       journalRecordId,
+       CASE
+           WHEN get_job_log_entry_status(ARRAY[actionType], CASE WHEN errorMessage != '' THEN 1 ELSE 0 END) IS NOT NULL
+               AND entityHrid ~ '^[0-9]+(-[0-9]+)*$' THEN string_to_array(entityHrid, '-')::integer[]
+           ELSE ARRAY[sourceRecordOrder]
+       END
+WHERE entityType = 'INVOICE' AND recordTitle != 'INVOICE'
+ON CONFLICT (job_execution_id, entry_id) DO UPDATE SET
+    title = COALESCE(entries.title, EXCLUDED.title),
+    source_record_entity_type = COALESCE(entries.source_record_entity_type, EXCLUDED.source_record_entity_type),
+    source_record_last_action = CASE
+        WHEN EXCLUDED.source_record_last_action_date >= COALESCE(entries.source_record_last_action_date, '-infinity')
+            THEN EXCLUDED.source_record_last_action
+        ELSE entries.source_record_last_action
+    END,
+    source_record_last_action_date = GREATEST(entries.source_record_last_action_date, EXCLUDED.source_record_last_action_date),
+    source_record_errors_number = entries.source_record_errors_number + EXCLUDED.source_record_errors_number,
+    instance_actions = array_cat(entries.instance_actions, EXCLUDED.instance_actions),
+    instance_errors_number = entries.instance_errors_number + EXCLUDED.instance_errors_number,
+    holdings_actions = array_cat(entries.holdings_actions, EXCLUDED.holdings_actions),
+    holdings_errors_number = entries.holdings_errors_number + EXCLUDED.holdings_errors_number,
+    item_actions = array_cat(entries.item_actions, EXCLUDED.item_actions),
+    item_errors_number = entries.item_errors_number + EXCLUDED.item_errors_number,
+    authority_actions = array_cat(entries.authority_actions, EXCLUDED.authority_actions),
+    authority_errors_number = entries.authority_errors_number + EXCLUDED.authority_errors_number,
+    order_actions = array_cat(entries.order_actions, EXCLUDED.order_actions),
+    order_errors_number = entries.order_errors_number + EXCLUDED.order_errors_number,
+    holdings_entity_hrid = array_cat(entries.holdings_entity_hrid, EXCLUDED.holdings_entity_hrid),
+    error = COALESCE(entries.error, EXCLUDED.error)
+RETURNING entry_id;
+$$ LANGUAGE sql;
+
+-- fill job log entries of the jobs which journal records were saved before the table was created
+INSERT INTO job_log_entries (job_execution_id, entry_id, source_id, source_record_order, invoiceline_number, title,
+    source_record_entity_type, source_record_last_action, source_record_last_action_date, source_record_errors_number,
+    instance_actions, instance_errors_number, holdings_actions, holdings_errors_number, item_actions, item_errors_number,
+    authority_actions, authority_errors_number, order_actions, order_errors_number,
+    holdings_entity_hrid, error, source_record_order_array)
+SELECT job_execution_id, source_id, source_id, min(source_record_order), '',
+       (array_agg(title) FILTER (WHERE title IS NOT NULL))[1],
+       (array_agg(entity_type) FILTER (WHERE entity_type IN ('MARC_BIBLIOGRAPHIC', 'MARC_HOLDINGS', 'MARC_AUTHORITY')))[1],
+       (array_agg(action_type ORDER BY action_date DESC) FILTER (WHERE entity_type IN ('MARC_BIBLIOGRAPHIC', 'MARC_HOLDINGS', 'MARC_AUTHORITY')))[1],
+       max(action_date) FILTER (WHERE entity_type IN ('MARC_BIBLIOGRAPHIC', 'MARC_HOLDINGS', 'MARC_AUTHORITY')),
+       count(*) FILTER (WHERE entity_type IN ('MARC_BIBLIOGRAPHIC', 'MARC_HOLDINGS', 'MARC_AUTHORITY') AND error != ''),
+       array_agg(action_type) FILTER (WHERE entity_type = 'INSTANCE'),
+       count(*) FILTER (WHERE entity_type = 'INSTANCE' AND error != ''),
+       array_agg(action_type) FILTER (WHERE entity_type = 'HOLDINGS'),
+       count(*) FILTER (WHERE entity_type = 'HOLDINGS' AND error != ''),
+       array_agg(action_type) FILTER (WHERE entity_type = 'ITEM'),
+       count(*) FILTER (WHERE entity_type = 'ITEM' AND error != ''),
+       array_agg(action_type) FILTER (WHERE entity_type = 'AUTHORITY'),
+       count(*) FILTER (WHERE entity_type = 'AUTHORITY' AND error != ''),
+       array_agg(action_type) FILTER (WHERE entity_type = 'ORDER'),
+       count(*) FILTER (WHERE entity_type = 'ORDER' AND error != ''),
+       array_agg(entity_hrid) FILTER (WHERE entity_type = 'HOLDINGS' AND entity_hrid != ''),
+       (array_agg(error) FILTER (WHERE error != ''))[1],
+       ARRAY[min(source_record_order)]
+FROM journal_records
+WHERE entity_type IN ('MARC_BIBLIOGRAPHIC', 'MARC_HOLDINGS', 'MARC_AUTHORITY', 'INSTANCE', 'HOLDINGS', 'ITEM', 'ORDER', 'AUTHORITY')
+GROUP BY job_execution_id, source_id
+ON CONFLICT DO NOTHING;
+
+INSERT INTO job_log_entries (job_execution_id, entry_id, source_id, source_record_order, invoiceline_number, title,
+    invoice_actions, invoice_errors_number, error, invoice_line_journal_record_id, source_record_order_array)
+SELECT job_execution_id, id, source_id, source_record_order, entity_hrid, title,
+       ARRAY[action_type],
+       CASE WHEN error != '' THEN 1 ELSE 0 END,
+       error,
+       id,
+       CASE
+           WHEN get_job_log_entry_status(ARRAY[action_type], CASE WHEN error != '' THEN 1 ELSE 0 END) IS NOT NULL
+               AND entity_hrid ~ '^[0-9]+(-[0-9]+)*$' THEN string_to_array(entity_hrid, '-')::integer[]
+           ELSE ARRAY[source_record_order]
+       END
+FROM journal_records
+WHERE entity_type = 'INVOICE' AND title != 'INVOICE'
+ON CONFLICT DO NOTHING;
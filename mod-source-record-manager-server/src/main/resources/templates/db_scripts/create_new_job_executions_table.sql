@@ -126,7 +126,8 @@ DO $$ BEGIN
     ALTER TABLE IF EXISTS job_execution_source_chunks
     ADD CONSTRAINT job_execution_source_chunks_jobexecutionid_fkey FOREIGN KEY (jobexecutionid) REFERENCES job_execution(id);
 EXCEPTION
-    WHEN duplicate_object THEN NULL;
+    -- job_execution_source_chunks table with typed columns references job_execution table by job_execution_id column
+    WHEN duplicate_object OR undefined_column THEN NULL;
 END $$;
 
 DO $$ BEGIN
@@ -0,0 +1,113 @@
+-- create jobExecutionSourceChunk state enum if not exists
+DO $$ BEGIN
+    CREATE TYPE job_execution_source_chunk_state AS ENUM ('IN_PROGRESS', 'COMPLETED', 'ERROR');
+EXCEPTION
+    WHEN duplicate_object THEN NULL;
+END $$;
+
+-- keep chunks of jsonb based job_execution_source_chunks table to migrate them to the table with typed columns
+DO $$ BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = '${myuniversity}_${mymodule}' AND table_name = 'job_execution_source_chunks' AND column_name = 'jsonb') THEN
+        CREATE TEMPORARY TABLE job_execution_source_chunks_migration AS
+        SELECT id,
+               (jsonb ->> 'jobExecutionId')::uuid                            AS job_execution_id,
+               (jsonb ->> 'last')::boolean                                   AS last,
+               (jsonb ->> 'state')::job_execution_source_chunk_state         AS state,
+               (jsonb ->> 'chunkSize')::integer                              AS chunk_size,
+               (jsonb ->> 'processedAmount')::integer                        AS processed_amount,
+               (jsonb ->> 'createdDate')::timestamptz                        AS created_date,
+               (jsonb ->> 'completedDate')::timestamptz                      AS completed_date,
+               jsonb ->> 'error'                                             AS error
+        FROM job_execution_source_chunks;
+
+        -- Request to delete the function which fills references of jsonb based job_execution_source_chunks table.
+        DROP FUNCTION IF EXISTS update_job_execution_source_chunks_references() CASCADE;
+        DROP TABLE job_execution_source_chunks CASCADE;
+    END IF;
+END $$;
+
+-- create table job_execution_source_chunks
+CREATE TABLE IF NOT EXISTS job_execution_source_chunks (
+    id uuid PRIMARY KEY,
+    job_execution_id uuid REFERENCES job_execution(id),
+    last boolean,
+    state ${myuniversity}_${mymodule}.job_execution_source_chunk_state,
+    chunk_size int,
+    processed_amount int,
+    created_date timestamptz,
+    completed_date timestamptz,
+    error text
+);
+
+-- create job_execution_source_chunks_job_execution_id_idx index
+CREATE INDEX IF NOT EXISTS job_execution_source_chunks_job_execution_id_idx ON job_execution_source_chunks USING BTREE (job_execution_id);
+
+-- create table with per job execution counters of source chunks
+CREATE TABLE IF NOT EXISTS job_execution_source_chunks_summary (
+    job_execution_id uuid PRIMARY KEY REFERENCES job_execution(id) ON DELETE CASCADE,
+    total_chunks int NOT NULL DEFAULT 0,
+    completed_chunks int NOT NULL DEFAULT 0,
+    error_chunks int NOT NULL DEFAULT 0,
+    last_chunks int NOT NULL DEFAULT 0
+);
+
+-- maintain counters of source chunks in the same transaction the source chunks are changed in
+CREATE OR REPLACE FUNCTION update_job_execution_source_chunks_summary() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.job_execution_id IS NOT NULL THEN
+        UPDATE job_execution_source_chunks_summary
+        SET total_chunks = total_chunks - 1,
+            completed_chunks = completed_chunks - CASE WHEN OLD.state = 'COMPLETED' THEN 1 ELSE 0 END,
+            error_chunks = error_chunks - CASE WHEN OLD.state = 'ERROR' THEN 1 ELSE 0 END,
+            last_chunks = last_chunks - CASE WHEN OLD.last THEN 1 ELSE 0 END
+        WHERE job_execution_id = OLD.job_execution_id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.job_execution_id IS NOT NULL THEN
+        INSERT INTO job_execution_source_chunks_summary AS summary
+            (job_execution_id, total_chunks, completed_chunks, error_chunks, last_chunks)
+        VALUES (NEW.job_execution_id, 1,
+                CASE WHEN NEW.state = 'COMPLETED' THEN 1 ELSE 0 END,
+                CASE WHEN NEW.state = 'ERROR' THEN 1 ELSE 0 END,
+                CASE WHEN NEW.last THEN 1 ELSE 0 END)
+        ON CONFLICT (job_execution_id) DO UPDATE
+        SET total_chunks = summary.total_chunks + 1,
+            completed_chunks = summary.completed_chunks + EXCLUDED.completed_chunks,
+            error_chunks = summary.error_chunks + EXCLUDED.error_chunks,
+            last_chunks = summary.last_chunks + EXCLUDED.last_chunks;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS insert_or_delete_job_execution_source_chunks_summary ON job_execution_source_chunks;
+CREATE TRIGGER insert_or_delete_job_execution_source_chunks_summary
+    AFTER INSERT OR DELETE ON job_execution_source_chunks
+    FOR EACH ROW EXECUTE PROCEDURE update_job_execution_source_chunks_summary();
+
+-- progress updates of source chunks do not change the counters, so the trigger is fired only if counted columns are changed
+DROP TRIGGER IF EXISTS update_job_execution_source_chunks_summary ON job_execution_source_chunks;
+CREATE TRIGGER update_job_execution_source_chunks_summary
+    AFTER UPDATE OF job_execution_id, state, last ON job_execution_source_chunks
+    FOR EACH ROW
+    WHEN (OLD.job_execution_id IS DISTINCT FROM NEW.job_execution_id OR OLD.state IS DISTINCT FROM NEW.state
+      OR OLD.last IS DISTINCT FROM NEW.last)
+    EXECUTE PROCEDURE update_job_execution_source_chunks_summary();
+
+-- migrate chunks of jsonb based job_execution_source_chunks table
+DO $$ BEGIN
+    IF to_regclass('pg_temp.job_execution_source_chunks_migration') IS NOT NULL THEN
+        INSERT INTO job_execution_source_chunks
+        SELECT migration.*
+        FROM job_execution_source_chunks_migration migration
+        WHERE migration.job_execution_id IS NULL
+           OR EXISTS (SELECT 1 FROM job_execution WHERE job_execution.id = migration.job_execution_id)
+        ON CONFLICT (id) DO NOTHING;
+        DROP TABLE job_execution_source_chunks_migration;
+    END IF;
+END $$;
+
+-- completion and errors of source chunks processing are checked by job execution counters,
+-- so functions which counted source chunks of jsonb based table are not used anymore
+DROP FUNCTION IF EXISTS is_processing_completed(uuid);
+DROP FUNCTION IF EXISTS processing_contains_error_chunks(uuid);
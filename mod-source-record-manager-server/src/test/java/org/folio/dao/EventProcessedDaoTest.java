@@ -1,6 +1,7 @@
 package org.folio.dao;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
@@ -8,6 +9,7 @@ import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.pgclient.PgException;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
 import org.folio.dao.util.PostgresClientFactory;
 import org.folio.rest.impl.AbstractRestTest;
 import org.junit.Before;
@@ -15,13 +17,20 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
 
+import static java.lang.String.format;
+import static org.folio.rest.persist.PostgresClient.convertToPsqlStandard;
+
 @RunWith(VertxUnitRunner.class)
 public class EventProcessedDaoTest extends AbstractRestTest {
 
+  private static final int RETENTION_DAYS = 3;
+
   @Spy
   private PostgresClientFactory postgresClientFactory = new PostgresClientFactory(Vertx.vertx());
   @InjectMocks
@@ -30,6 +39,7 @@ public class EventProcessedDaoTest extends AbstractRestTest {
   @Before
   public void setUp(TestContext context) throws IOException {
     super.setUp(context);
+    ReflectionTestUtils.setField(eventProcessedDao, "retentionDays", RETENTION_DAYS);
   }
 
   @Test
@@ -58,9 +68,92 @@ public class EventProcessedDaoTest extends AbstractRestTest {
       reSaveFuture.onComplete(re -> {
         context.assertTrue(re.failed());
         context.assertTrue(re.cause() instanceof  PgException);
-        context.assertEquals("ERROR: duplicate key value violates unique constraint \"events_processed_pkey\" (23505)", re.cause().getMessage());
+        context.assertEquals("23505", ((PgException) re.cause()).getCode());
+        context.assertTrue(re.cause().getMessage().startsWith("ERROR: duplicate key value violates unique constraint \"events_processed_"));
         async.complete();
       });
     });
   }
+
+  @Test
+  public void shouldReturnOnlyNotProcessedEventIdsOnSaveBatch(TestContext context) {
+    String handlerId = UUID.randomUUID().toString();
+    String processedEventId = UUID.randomUUID().toString();
+    String newEventId = UUID.randomUUID().toString();
+    Async async = context.async();
+
+    eventProcessedDao.save(handlerId, processedEventId, TENANT_ID)
+      .compose(ar -> eventProcessedDao.saveBatch(handlerId, List.of(processedEventId, newEventId), TENANT_ID))
+      .onComplete(ar -> {
+        context.assertTrue(ar.succeeded());
+        context.assertEquals(1, ar.result().rowCount());
+        context.assertEquals(newEventId, ar.result().iterator().next().getValue("event_id").toString());
+        async.complete();
+      });
+  }
+
+  @Test
+  public void shouldReportEventProcessedOnPreviousRetainedDayAsDuplicate(TestContext context) {
+    String handlerId = UUID.randomUUID().toString();
+    String eventId = UUID.randomUUID().toString();
+    String newEventId = UUID.randomUUID().toString();
+    Async async = context.async();
+
+    saveEventProcessedDaysAgo(handlerId, eventId, 2)
+      .compose(v -> eventProcessedDao.dropExpiredPartitions(RETENTION_DAYS, TENANT_ID))
+      .compose(droppedCount -> eventProcessedDao.save(handlerId, eventId, TENANT_ID))
+      .onSuccess(rows -> context.assertEquals(0, rows.rowCount()))
+      .compose(v -> eventProcessedDao.saveBatch(handlerId, List.of(eventId, newEventId), TENANT_ID))
+      .onComplete(ar -> {
+        context.assertTrue(ar.succeeded());
+        context.assertEquals(1, ar.result().rowCount());
+        context.assertEquals(newEventId, ar.result().iterator().next().getValue("event_id").toString());
+        async.complete();
+      });
+  }
+
+  @Test
+  public void shouldDropExpiredPartitionAndSaveEventAgain(TestContext context) {
+    String handlerId = UUID.randomUUID().toString();
+    String eventId = UUID.randomUUID().toString();
+    int expiredDaysAgo = RETENTION_DAYS + 2;
+    Async async = context.async();
+
+    createPartitionDaysAgo(expiredDaysAgo)
+      .compose(v -> saveEventProcessedDaysAgo(handlerId, eventId, expiredDaysAgo))
+      .compose(v -> eventProcessedDao.dropExpiredPartitions(RETENTION_DAYS, TENANT_ID))
+      .onSuccess(droppedCount -> context.assertTrue(droppedCount >= 1))
+      .compose(droppedCount -> countEventsProcessed(handlerId, eventId))
+      .onSuccess(count -> context.assertEquals(0L, count))
+      .compose(v -> eventProcessedDao.save(handlerId, eventId, TENANT_ID))
+      .onComplete(ar -> {
+        context.assertTrue(ar.succeeded());
+        context.assertEquals(1, ar.result().rowCount());
+        async.complete();
+      });
+  }
+
+  private Future<Void> createPartitionDaysAgo(int daysAgo) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    String schema = convertToPsqlStandard(TENANT_ID);
+    String query = format("DO $$ BEGIN EXECUTE format('CREATE TABLE IF NOT EXISTS %%I.%%I PARTITION OF %%I.events_processed FOR VALUES FROM (%%L) TO (%%L)', " +
+      "'%1$s', 'events_processed_' || to_char(current_date - %2$d, 'YYYYMMDD'), '%1$s', current_date - %2$d, current_date - %3$d); END $$", schema, daysAgo, daysAgo - 1);
+    postgresClientFactory.createInstance(TENANT_ID).execute(query, promise);
+    return promise.future().mapEmpty();
+  }
+
+  private Future<Void> saveEventProcessedDaysAgo(String handlerId, String eventId, int daysAgo) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    String query = format("INSERT INTO %s.events_processed (handler_id, event_id, processed_date) VALUES ($1, $2, current_date - $3::integer)",
+      convertToPsqlStandard(TENANT_ID));
+    postgresClientFactory.createInstance(TENANT_ID).execute(query, Tuple.of(UUID.fromString(handlerId), UUID.fromString(eventId), daysAgo), promise);
+    return promise.future().mapEmpty();
+  }
+
+  private Future<Long> countEventsProcessed(String handlerId, String eventId) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    String query = format("SELECT count(*) AS count FROM %s.events_processed WHERE handler_id = $1 AND event_id = $2", convertToPsqlStandard(TENANT_ID));
+    postgresClientFactory.createInstance(TENANT_ID).select(query, Tuple.of(UUID.fromString(handlerId), UUID.fromString(eventId)), promise);
+    return promise.future().map(rows -> rows.iterator().next().getLong("count"));
+  }
 }
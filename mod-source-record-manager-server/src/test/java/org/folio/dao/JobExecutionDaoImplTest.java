@@ -8,6 +8,7 @@ import io.vertx.ext.unit.junit.RunTestOnContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import org.folio.dao.util.JobExecutionStatusTransition;
 import org.folio.dao.util.PostgresClientFactory;
 import org.folio.dataimport.util.OkapiConnectionParams;
 import org.folio.rest.impl.AbstractRestTest;
@@ -25,6 +26,7 @@ import org.mockito.Spy;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 
 import static org.folio.dataimport.util.RestUtil.OKAPI_URL_HEADER;
@@ -94,6 +96,31 @@ public class JobExecutionDaoImplTest extends AbstractRestTest {
     });
   }
 
+  @Test
+  public void shouldUpdateStatusOnlyIfCurrentStatusIsExpected(TestContext context) {
+    Async async = context.async();
+    JobExecutionStatusTransition transition = new JobExecutionStatusTransition(JobExecution.Status.PARSING_IN_PROGRESS,
+      JobExecution.UiStatus.RUNNING, List.of(JobExecution.Status.NEW));
+
+    Future<JobExecution> future = jobExecutionService.initializeJobExecutions(initJobExecutionsRqDto, params)
+      .map(rsDto -> rsDto.getJobExecutions().stream()
+        .filter(jobExecution -> jobExecution.getSubordinationType().equals(CHILD))
+        .findFirst().get())
+      .compose(jobExecution -> jobExecutionDao.updateStatus(jobExecution.getId(), transition, params.getTenantId()))
+      .map(Optional::get);
+
+    future.compose(jobExecution -> {
+      context.assertEquals(JobExecution.Status.PARSING_IN_PROGRESS, jobExecution.getStatus());
+      context.assertEquals(JobExecution.UiStatus.RUNNING, jobExecution.getUiStatus());
+      context.assertNull(jobExecution.getErrorStatus());
+      return jobExecutionDao.updateStatus(jobExecution.getId(), transition, params.getTenantId());
+    }).onComplete(ar -> {
+      context.assertTrue(ar.succeeded());
+      context.assertTrue(ar.result().isEmpty());
+      async.complete();
+    });
+  }
+
   private Future<RowSet<Row>> createProgressForJobExecutions(List<JobExecution> jobExecutions) {
     Random random = new Random();
     Future<RowSet<Row>> future = Future.succeededFuture();
@@ -5,6 +5,7 @@ import io.vertx.core.Handler;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Tuple;
+import org.folio.dao.util.JobExecutionStatusTransition;
 import org.folio.dao.util.PostgresClientFactory;
 import org.folio.dataimport.util.test.GenericHandlerAnswer;
 import org.folio.rest.jaxrs.model.JobExecution;
@@ -15,10 +16,13 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.anyString;
@@ -131,6 +135,34 @@ public class JobExecutionDaoImplUnitTest {
       });
   }
 
+  @Test
+  public void shouldReturnEmptyOptionalWhenStatusIsNotExpectedOnStatusUpdate() {
+    // given
+    RowSet<Row> sqlUpdateResult = when(mock(RowSet.class).rowCount()).thenReturn(0).getMock();
+    AsyncResult updateResult = mock(AsyncResult.class);
+    when(updateResult.succeeded()).thenReturn(true);
+    when(updateResult.result()).thenReturn(sqlUpdateResult);
+    ArgumentCaptor<Tuple> paramsCaptor = ArgumentCaptor.forClass(Tuple.class);
+    JobExecutionStatusTransition transition = new JobExecutionStatusTransition(JobExecution.Status.PARSING_IN_PROGRESS,
+      JobExecution.UiStatus.RUNNING, List.of(JobExecution.Status.NEW, JobExecution.Status.FILE_UPLOADED));
+
+    doAnswer(new GenericHandlerAnswer<>(updateResult, 2))
+      .when(pgClient).execute(anyString(), paramsCaptor.capture(), any(Handler.class));
+    // when
+    jobExecutionDao.updateStatus(jobExecution.getId(), transition, TENANT_ID)
+    // then
+      .onComplete(ar -> {
+        Assert.assertTrue(ar.succeeded());
+        Assert.assertTrue(ar.result().isEmpty());
+        Tuple params = paramsCaptor.getValue();
+        Assert.assertEquals(JobExecution.Status.PARSING_IN_PROGRESS.toString(), params.getString(1));
+        Assert.assertEquals(JobExecution.UiStatus.RUNNING.toString(), params.getString(2));
+        Assert.assertNull(params.getValue(3));
+        Assert.assertEquals(Set.of("NEW", "FILE_UPLOADED"), Set.of((String[]) params.getValue(6)));
+        verify(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
+      });
+  }
+
   @Test
   public void shouldReturnFailedFutureWhenPgClientThrewException() {
     // given
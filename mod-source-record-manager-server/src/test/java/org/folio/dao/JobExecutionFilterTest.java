@@ -0,0 +1,44 @@
+package org.folio.dao;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.vertx.sqlclient.Tuple;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.folio.rest.jaxrs.model.JobExecution;
+
+public class JobExecutionFilterTest {
+
+  @Test
+  public void shouldBuildCriteriaWithParamsContinuingNumberingOfTupleParams() {
+    String profileId = UUID.randomUUID().toString();
+    JobExecutionFilter filter = new JobExecutionFilter()
+      .withStatusAny(List.of(JobExecution.Status.COMMITTED, JobExecution.Status.ERROR))
+      .withProfileIdAny(List.of(profileId))
+      .withFileNamePattern("*.mrc");
+    Tuple params = Tuple.of(10, 0);
+
+    String criteria = filter.buildCriteria(params);
+
+    Assert.assertEquals("TRUE AND status IN ($3, $4) AND file_name::text LIKE $5 AND job_profile_id IN ($6)", criteria);
+    Assert.assertEquals(6, params.size());
+    Assert.assertEquals("COMMITTED", params.getValue(2));
+    Assert.assertEquals("ERROR", params.getValue(3));
+    Assert.assertEquals("%.mrc", params.getValue(4));
+    Assert.assertEquals(UUID.fromString(profileId), params.getValue(5));
+  }
+
+  @Test
+  public void shouldBuildSameCriteriaForDifferentValues() {
+    Tuple firstParams = Tuple.tuple();
+    Tuple secondParams = Tuple.tuple();
+
+    String firstCriteria = new JobExecutionFilter().withHrIdPattern("12*").buildCriteria(firstParams);
+    String secondCriteria = new JobExecutionFilter().withHrIdPattern("'; DROP TABLE job_execution; --").buildCriteria(secondParams);
+
+    Assert.assertEquals(firstCriteria, secondCriteria);
+    Assert.assertEquals("'; DROP TABLE job_execution; --", secondParams.getValue(0));
+  }
+}
@@ -1,29 +1,29 @@
 package org.folio.dao;
 
-import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
 import org.folio.dao.util.PostgresClientFactory;
 import org.folio.dataimport.util.test.GenericHandlerAnswer;
 import org.folio.rest.jaxrs.model.JobExecutionSourceChunk;
-import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.helpers.LocalRowSet;
-import org.folio.rest.persist.interfaces.Results;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.util.Collections;
+import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -35,11 +35,9 @@ public class JobExecutionSourceChunkDaoImplTest {
 
   private static final String TENANT_ID = "diku";
 
-  private static final String TABLE_NAME = "job_execution_source_chunks";
-
   private JobExecutionSourceChunk jobExecutionSourceChunk = new JobExecutionSourceChunk()
     .withId("67dfac11-1caf-4470-9ad1-d533f6360bdd")
-    .withJobExecutionId("zxsrt6hm-1caf-4470-9ad1-d533f6360bdd")
+    .withJobExecutionId("5105b55a-b9a3-4f76-9402-a5243ea63c95")
     .withLast(false)
     .withState(JobExecutionSourceChunk.State.COMPLETED)
     .withChunkSize(10)
@@ -63,11 +61,22 @@ public class JobExecutionSourceChunkDaoImplTest {
   @Test
   public void shouldReturnFutureWithEntityOnGettingById() {
     // given
-    Results<Object> queryResults = new Results<>();
-    queryResults.setResults(Collections.singletonList(jobExecutionSourceChunk));
-
-    doAnswer(new GenericHandlerAnswer<>(Future.succeededFuture(queryResults), 5))
-      .when(pgClient).get(eq(TABLE_NAME), eq(JobExecutionSourceChunk.class), any(Criterion.class), eq(true), eq(false), any(Handler.class));
+    Row row = mock(Row.class);
+    when(row.getValue("id")).thenReturn(UUID.fromString(jobExecutionSourceChunk.getId()));
+    when(row.getValue("job_execution_id")).thenReturn(UUID.fromString(jobExecutionSourceChunk.getJobExecutionId()));
+    when(row.getBoolean("last")).thenReturn(jobExecutionSourceChunk.getLast());
+    when(row.getString("state")).thenReturn(jobExecutionSourceChunk.getState().value());
+    when(row.get(JobExecutionSourceChunk.State.class, "state")).thenReturn(jobExecutionSourceChunk.getState());
+    when(row.getInteger("chunk_size")).thenReturn(jobExecutionSourceChunk.getChunkSize());
+    when(row.getInteger("processed_amount")).thenReturn(jobExecutionSourceChunk.getProcessedAmount());
+    RowIterator<Row> rowIterator = mock(RowIterator.class);
+    when(rowIterator.hasNext()).thenReturn(true);
+    when(rowIterator.next()).thenReturn(row);
+    RowSet<Row> rowSet = mock(RowSet.class);
+    when(rowSet.iterator()).thenReturn(rowIterator);
+
+    doAnswer(new GenericHandlerAnswer<>(Future.succeededFuture(rowSet), 2))
+      .when(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
     // when
     jobExecutionSourceChunkDao.getById(jobExecutionSourceChunk.getId(), TENANT_ID)
       // then
@@ -82,7 +91,7 @@ public class JobExecutionSourceChunkDaoImplTest {
         Assert.assertEquals(jobExecutionSourceChunk.getChunkSize(), receivedEntity.getChunkSize());
         Assert.assertEquals(jobExecutionSourceChunk.getProcessedAmount(), receivedEntity.getProcessedAmount());
 
-        verify(pgClient).get(eq(TABLE_NAME), eq(JobExecutionSourceChunk.class), any(Criterion.class), eq(true), eq(false), any(Handler.class));
+        verify(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
       });
   }
 
@@ -90,14 +99,14 @@ public class JobExecutionSourceChunkDaoImplTest {
   public void shouldReturnFailedFutureWhenPgClientThrewExceptionOnGettingById() {
     // given
     doThrow(RuntimeException.class)
-      .when(pgClient).get(eq(TABLE_NAME), eq(JobExecutionSourceChunk.class), any(Criterion.class), eq(true), eq(false), any(Handler.class));
+      .when(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
     // when
     jobExecutionSourceChunkDao.getById(jobExecutionSourceChunk.getId(), TENANT_ID)
       // then
       .onComplete(ar -> {
         Assert.assertTrue(ar.failed());
 
-        verify(pgClient).get(eq(TABLE_NAME), eq(JobExecutionSourceChunk.class), any(Criterion.class), eq(true), eq(false), any(Handler.class));
+        verify(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
       });
   }
 
@@ -108,7 +117,7 @@ public class JobExecutionSourceChunkDaoImplTest {
     RowSet<Row> updateResult = new LocalRowSet(updatedRowsNumber);
 
     doAnswer(new GenericHandlerAnswer<>(Future.succeededFuture(updateResult), 2))
-      .when(pgClient).delete(eq(TABLE_NAME), eq(jobExecutionSourceChunk.getId()), any(Handler.class));
+      .when(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
 
     // when
     jobExecutionSourceChunkDao.delete(jobExecutionSourceChunk.getId(), TENANT_ID)
@@ -116,28 +125,23 @@ public class JobExecutionSourceChunkDaoImplTest {
       .onComplete(ar -> {
         Assert.assertTrue(ar.succeeded());
         Assert.assertEquals(true, ar.result());
-        verify(pgClient).delete(eq(TABLE_NAME), eq(jobExecutionSourceChunk.getId()), any(Handler.class));
+        verify(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
       });
   }
 
   @Test
   public void shouldReturnFailedFutureWhenEntityWithSpecifiedIdNotFound() {
     // given
-    int numberUpdatedRows = 0;
-    RowSet<Row> sqlUpdateResult = when(mock(RowSet.class).rowCount()).thenReturn(numberUpdatedRows).getMock();
-    AsyncResult updateResult = mock(AsyncResult.class);
-    when(updateResult.failed()).thenReturn(false);
-    when(updateResult.result()).thenReturn(sqlUpdateResult);
-
-    doAnswer(new GenericHandlerAnswer<>(updateResult, 4))
-      .when(pgClient).update(eq(TABLE_NAME), eq(jobExecutionSourceChunk), any(Criterion.class), eq(true), any(Handler.class));
+    RowSet<Row> updateResult = new LocalRowSet(0);
+
+    doAnswer(new GenericHandlerAnswer<>(Future.succeededFuture(updateResult), 2))
+      .when(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
     // when
     jobExecutionSourceChunkDao.update(jobExecutionSourceChunk, TENANT_ID)
       // then
       .onComplete(ar -> {
         Assert.assertTrue(ar.failed());
-        verify(pgClient).update(eq(TABLE_NAME), eq(jobExecutionSourceChunk), any(Criterion.class), eq(true), any(Handler.class));
-        ;
+        verify(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
       });
   }
 
@@ -145,13 +149,85 @@ public class JobExecutionSourceChunkDaoImplTest {
   public void shouldReturnFailedFutureWhenPgClientThrewException() {
     // given
     doThrow(RuntimeException.class)
-      .when(pgClient).update(eq(TABLE_NAME), eq(jobExecutionSourceChunk), any(Criterion.class), eq(true), any(Handler.class));
+      .when(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
     // when
     jobExecutionSourceChunkDao.update(jobExecutionSourceChunk, TENANT_ID)
       // then
       .onComplete(ar -> {
         Assert.assertTrue(ar.failed());
-        verify(pgClient).update(eq(TABLE_NAME), eq(jobExecutionSourceChunk), any(Criterion.class), eq(true), any(Handler.class));
+        verify(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
+      });
+  }
+
+  @Test
+  public void shouldIncrementProcessedAmountAndSetStateBySingleStatement() {
+    // given
+    RowSet<Row> updateResult = new LocalRowSet(1);
+    ArgumentCaptor<Tuple> paramsCaptor = ArgumentCaptor.forClass(Tuple.class);
+
+    doAnswer(new GenericHandlerAnswer<>(Future.succeededFuture(updateResult), 2))
+      .when(pgClient).execute(anyString(), paramsCaptor.capture(), any(Handler.class));
+    // when
+    jobExecutionSourceChunkDao.updateProgress(jobExecutionSourceChunk.getId(), 5, JobExecutionSourceChunk.State.ERROR, TENANT_ID)
+      // then
+      .onComplete(ar -> {
+        Assert.assertTrue(ar.succeeded());
+        Assert.assertEquals(jobExecutionSourceChunk.getId(), paramsCaptor.getValue().getUUID(0).toString());
+        Assert.assertEquals(Integer.valueOf(5), paramsCaptor.getValue().getInteger(1));
+        Assert.assertEquals(JobExecutionSourceChunk.State.ERROR.value(), paramsCaptor.getValue().getString(2));
+        verify(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
+      });
+  }
+
+  @Test
+  public void shouldReturnFailedFutureWhenEntityNotFoundOnProgressUpdate() {
+    // given
+    RowSet<Row> updateResult = new LocalRowSet(0);
+
+    doAnswer(new GenericHandlerAnswer<>(Future.succeededFuture(updateResult), 2))
+      .when(pgClient).execute(anyString(), any(Tuple.class), any(Handler.class));
+    // when
+    jobExecutionSourceChunkDao.updateProgress(jobExecutionSourceChunk.getId(), 5, null, TENANT_ID)
+      // then
+      .onComplete(ar -> Assert.assertTrue(ar.failed()));
+  }
+
+  @Test
+  public void shouldReturnProcessingCompletedWhenNoChunksSaved() {
+    // given
+    RowIterator<Row> rowIterator = mock(RowIterator.class);
+    when(rowIterator.hasNext()).thenReturn(false);
+    RowSet<Row> selectResult = mock(RowSet.class);
+    when(selectResult.iterator()).thenReturn(rowIterator);
+
+    doAnswer(new GenericHandlerAnswer<>(Future.succeededFuture(selectResult), 2))
+      .when(pgClient).select(anyString(), any(Tuple.class), any(Handler.class));
+    // when
+    jobExecutionSourceChunkDao.isAllChunksProcessed(jobExecutionSourceChunk.getJobExecutionId(), TENANT_ID)
+      // then
+      .onComplete(ar -> {
+        Assert.assertTrue(ar.succeeded());
+        Assert.assertTrue(ar.result());
+        verify(pgClient).select(anyString(), any(Tuple.class), any(Handler.class));
+      });
+  }
+
+  @Test
+  public void shouldReturnFalseWhenLastChunkNotReceived() {
+    // given
+    RowIterator<Row> rowIterator = mock(RowIterator.class);
+    when(rowIterator.hasNext()).thenReturn(false);
+    RowSet<Row> selectResult = mock(RowSet.class);
+    when(selectResult.iterator()).thenReturn(rowIterator);
+
+    doAnswer(new GenericHandlerAnswer<>(Future.succeededFuture(selectResult), 2))
+      .when(pgClient).select(anyString(), any(Tuple.class), any(Handler.class));
+    // when
+    jobExecutionSourceChunkDao.isLastChunkReceivedAndAllChunksProcessed(jobExecutionSourceChunk.getJobExecutionId(), TENANT_ID)
+      // then
+      .onComplete(ar -> {
+        Assert.assertTrue(ar.succeeded());
+        Assert.assertFalse(ar.result());
       });
   }
 }
@@ -7,8 +7,10 @@ import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import org.folio.dao.util.PostgresClientFactory;
 import org.folio.rest.impl.AbstractRestTest;
+import org.folio.rest.jaxrs.model.ActionLog;
 import org.folio.rest.jaxrs.model.InitJobExecutionsRsDto;
 import org.folio.rest.jaxrs.model.JobExecution;
+import org.folio.rest.jaxrs.model.JobExecutionLogDto;
 import org.folio.rest.jaxrs.model.JournalRecord;
 import org.junit.Assert;
 import org.junit.Before;
@@ -159,4 +161,59 @@ public class JournalRecordDaoTest extends AbstractRestTest {
       async.complete();
     });
   }
+
+  @Test
+  public void shouldReturnJobExecutionLogWithCountersOfSavedJournalRecords(TestContext testContext) {
+    InitJobExecutionsRsDto response = constructAndPostInitJobExecutionRqDto(1);
+    List<JobExecution> createdJobExecutions = response.getJobExecutions();
+    Assert.assertThat(createdJobExecutions.size(), is(1));
+    JobExecution jobExec = createdJobExecutions.get(0);
+
+    List<JournalRecord> journalRecords = List.of(
+      constructJournalRecord(jobExec.getId(), JournalRecord.EntityType.MARC_BIBLIOGRAPHIC, CREATE, COMPLETED),
+      constructJournalRecord(jobExec.getId(), JournalRecord.EntityType.INSTANCE, CREATE, COMPLETED),
+      constructJournalRecord(jobExec.getId(), JournalRecord.EntityType.MARC_BIBLIOGRAPHIC, CREATE, COMPLETED),
+      constructJournalRecord(jobExec.getId(), JournalRecord.EntityType.INSTANCE, CREATE, ERROR));
+    JournalRecord journalRecord = constructJournalRecord(jobExec.getId(), JournalRecord.EntityType.INSTANCE, CREATE, COMPLETED);
+
+    Async async = testContext.async();
+    Future<JobExecutionLogDto> future = journalRecordDao.saveBatch(journalRecords, TENANT_ID)
+      .compose(ar -> journalRecordDao.save(journalRecord, TENANT_ID))
+      .compose(ar -> journalRecordDao.getJobExecutionLogDto(jobExec.getId(), TENANT_ID));
+
+    future.onComplete(ar -> {
+      testContext.verify(v -> {
+        Assert.assertTrue(ar.succeeded());
+        List<ActionLog> actionLogs = ar.result().getJobExecutionResultLogs();
+        Assert.assertEquals(2, actionLogs.size());
+        ActionLog marcBibActionLog = actionLogs.stream()
+          .filter(actionLog -> actionLog.getEntityType().equals(JournalRecord.EntityType.MARC_BIBLIOGRAPHIC.value()))
+          .findAny().orElseThrow();
+        Assert.assertEquals(CREATE.value(), marcBibActionLog.getActionType());
+        Assert.assertEquals(Integer.valueOf(2), marcBibActionLog.getTotalCompleted());
+        Assert.assertEquals(Integer.valueOf(0), marcBibActionLog.getTotalFailed());
+        ActionLog instanceActionLog = actionLogs.stream()
+          .filter(actionLog -> actionLog.getEntityType().equals(JournalRecord.EntityType.INSTANCE.value()))
+          .findAny().orElseThrow();
+        Assert.assertEquals(CREATE.value(), instanceActionLog.getActionType());
+        Assert.assertEquals(Integer.valueOf(2), instanceActionLog.getTotalCompleted());
+        Assert.assertEquals(Integer.valueOf(1), instanceActionLog.getTotalFailed());
+      });
+      async.complete();
+    });
+  }
+
+  private JournalRecord constructJournalRecord(String jobExecutionId, JournalRecord.EntityType entityType,
+                                               JournalRecord.ActionType actionType, JournalRecord.ActionStatus actionStatus) {
+    return new JournalRecord()
+      .withId(UUID.randomUUID().toString())
+      .withJobExecutionId(jobExecutionId)
+      .withSourceRecordOrder(0)
+      .withSourceId(UUID.randomUUID().toString())
+      .withEntityType(entityType)
+      .withEntityId(UUID.randomUUID().toString())
+      .withActionType(actionType)
+      .withActionDate(new Date())
+      .withActionStatus(actionStatus);
+  }
 }
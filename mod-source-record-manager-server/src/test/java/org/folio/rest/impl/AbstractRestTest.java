@@ -84,6 +84,8 @@ public abstract class AbstractRestTest {
   private static final String JOB_EXECUTIONS_TABLE_NAME = "job_execution";
   private static final String CHUNKS_TABLE_NAME = "job_execution_source_chunks";
   private static final String JOURNAL_RECORDS_TABLE = "journal_records";
+  private static final String JOB_LOG_ENTRIES_TABLE = "job_log_entries";
+  private static final String JOB_EXECUTION_ACTION_COUNTERS_TABLE = "job_execution_action_counters";
   private static final String JOB_EXECUTION_PROGRESS_TABLE = "job_execution_progress";
   protected static final String TOKEN = "token";
   private static final String HTTP_PORT = "http.port";
@@ -354,13 +356,15 @@ public abstract class AbstractRestTest {
     PostgresClient pgClient = PostgresClient.getInstance(vertx, TENANT_ID);
     pgClient.delete(CHUNKS_TABLE_NAME, new Criterion(), event1 ->
       pgClient.delete(JOURNAL_RECORDS_TABLE, new Criterion(), event2 ->
-        pgClient.delete(JOB_EXECUTION_PROGRESS_TABLE, new Criterion(), event3 ->
-          pgClient.delete(JOB_EXECUTIONS_TABLE_NAME, new Criterion(), event4 -> {
-            if (event3.failed()) {
-              context.fail(event3.cause());
-            }
-            async.complete();
-          }))));
+        pgClient.delete(JOB_LOG_ENTRIES_TABLE, new Criterion(), event3 ->
+          pgClient.delete(JOB_EXECUTION_ACTION_COUNTERS_TABLE, new Criterion(), event4 ->
+            pgClient.delete(JOB_EXECUTION_PROGRESS_TABLE, new Criterion(), event5 ->
+              pgClient.delete(JOB_EXECUTIONS_TABLE_NAME, new Criterion(), event6 -> {
+                if (event5.failed()) {
+                  context.fail(event5.cause());
+                }
+                async.complete();
+              }))))));
   }
 
   protected InitJobExecutionsRsDto constructAndPostInitJobExecutionRqDto(int filesNumber) {
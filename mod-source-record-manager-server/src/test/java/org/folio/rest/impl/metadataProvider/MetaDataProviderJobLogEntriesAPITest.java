@@ -733,6 +733,60 @@ public class MetaDataProviderJobLogEntriesAPITest extends AbstractRestTest {
     }));
   }
 
+  @Test
+  public void shouldReturnEntriesOfJournalRecordsSavedInBatchSortedByInstanceActionStatus(TestContext context) {
+    Async async = context.async();
+    JobExecution createdJobExecution = constructAndPostInitJobExecutionRqDto(1).getJobExecutions().get(0);
+    String firstSourceRecordId = UUID.randomUUID().toString();
+    String secondSourceRecordId = UUID.randomUUID().toString();
+
+    List<JournalRecord> journalRecords = List.of(
+      constructJournalRecord(createdJobExecution.getId(), firstSourceRecordId, "title0", 0, CREATE, MARC_BIBLIOGRAPHIC, COMPLETED, null),
+      constructJournalRecord(createdJobExecution.getId(), firstSourceRecordId, null, 0, CREATE, INSTANCE, ERROR, "error msg"),
+      constructJournalRecord(createdJobExecution.getId(), secondSourceRecordId, "title1", 1, CREATE, MARC_BIBLIOGRAPHIC, COMPLETED, null),
+      constructJournalRecord(createdJobExecution.getId(), secondSourceRecordId, null, 1, CREATE, INSTANCE, COMPLETED, null));
+
+    journalRecordDao.saveBatch(journalRecords, TENANT_ID)
+      .onFailure(context::fail)
+      .onSuccess(ar -> context.verify(v -> {
+        RestAssured.given()
+          .spec(spec)
+          .queryParam("sortBy", "instance_action_status")
+          .queryParam("order", "asc")
+          .when()
+          .get(GET_JOB_EXECUTION_JOURNAL_RECORDS_PATH + "/" + createdJobExecution.getId())
+          .then()
+          .statusCode(HttpStatus.SC_OK)
+          .body("entries.size()", is(2))
+          .body("totalRecords", is(2))
+          .body("entries[0].sourceRecordId", is(secondSourceRecordId))
+          .body("entries[0].sourceRecordTitle", is("title1"))
+          .body("entries[0].sourceRecordActionStatus", is(ActionStatus.CREATED.value()))
+          .body("entries[0].instanceActionStatus", is(ActionStatus.CREATED.value()))
+          .body("entries[1].sourceRecordId", is(firstSourceRecordId))
+          .body("entries[1].sourceRecordTitle", is("title0"))
+          .body("entries[1].instanceActionStatus", is(ActionStatus.DISCARDED.value()))
+          .body("entries[1].error", is("error msg"));
+
+        async.complete();
+      }));
+  }
+
+  private JournalRecord constructJournalRecord(String jobExecutionId, String sourceId, String title, int recordOrder, JournalRecord.ActionType actionType,
+                                               JournalRecord.EntityType entityType, JournalRecord.ActionStatus actionStatus, String errorMessage) {
+    return new JournalRecord()
+      .withId(UUID.randomUUID().toString())
+      .withJobExecutionId(jobExecutionId)
+      .withSourceId(sourceId)
+      .withTitle(title)
+      .withSourceRecordOrder(recordOrder)
+      .withEntityType(entityType)
+      .withActionType(actionType)
+      .withActionStatus(actionStatus)
+      .withError(errorMessage)
+      .withActionDate(new Date());
+  }
+
   private Future<JournalRecord> createJournalRecord(String jobExecutionId, String sourceId, String entityId, String entityHrid, String title, int recordOrder, JournalRecord.ActionType actionType,
                                                     JournalRecord.EntityType entityType, JournalRecord.ActionStatus actionStatus, String errorMessage) {
     JournalRecord journalRecord = new JournalRecord()
@@ -1,6 +1,7 @@
 package org.folio.rest.impl.metadataProvider;
 
 import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.Async;
@@ -37,6 +38,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -284,6 +286,113 @@ public class MetadataProviderJobExecutionAPITest extends AbstractRestTest {
     assertThat(jobExecutions.get(2).getRunBy().getLastName(), greaterThan(jobExecutions.get(3).getRunBy().getLastName()));
   }
 
+  @Test
+  public void shouldReturnAllJobExecutionsPageByPageWhenAfterIdIsSpecified() {
+    getBeanFromSpringContext(vertx, JobExecutionsCache.class).evictCache();
+    List<JobExecution> childJobs = constructAndPostInitJobExecutionRqDto(5).getJobExecutions().stream()
+      .filter(jobExecution -> jobExecution.getSubordinationType().equals(CHILD))
+      .collect(Collectors.toList());
+
+    for (int i = 0; i < childJobs.size(); i++) {
+      // pairs of job executions have the same completed date to check that pages do not skip or repeat them
+      putJobExecution(childJobs.get(i).withCompletedDate(new Date(1234567892000L + i / 2)));
+    }
+
+    List<JobExecutionDto> receivedJobExecutions = new ArrayList<>();
+    String afterId = null;
+    List<JobExecutionDto> page;
+    do {
+      RequestSpecification request = RestAssured.given()
+        .spec(spec)
+        .queryParam("sortBy", "completed_date,desc")
+        .queryParam("limit", 2)
+        .queryParam("totalRecords", "estimated");
+      if (afterId != null) {
+        request.queryParam("afterId", afterId);
+      }
+      JobExecutionDtoCollection jobExecutionCollection = request.when()
+        .get(GET_JOB_EXECUTIONS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .extract().response().body().as(JobExecutionDtoCollection.class);
+
+      Assert.assertEquals(childJobs.size(), jobExecutionCollection.getTotalRecords().intValue());
+      page = jobExecutionCollection.getJobExecutions();
+      receivedJobExecutions.addAll(page);
+      afterId = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+    } while (!page.isEmpty());
+
+    Assert.assertEquals(childJobs.size(), receivedJobExecutions.size());
+    Assert.assertEquals(childJobs.size(), receivedJobExecutions.stream().map(JobExecutionDto::getId).distinct().count());
+    for (int i = 1; i < receivedJobExecutions.size(); i++) {
+      assertThat(receivedJobExecutions.get(i - 1).getCompletedDate(), greaterThanOrEqualTo(receivedJobExecutions.get(i).getCompletedDate()));
+    }
+  }
+
+  @Test
+  public void shouldReturnJobExecutionsWithoutCompletedDateOnLastPagesWhenAfterIdIsSpecified() {
+    getBeanFromSpringContext(vertx, JobExecutionsCache.class).evictCache();
+    List<JobExecution> childJobs = constructAndPostInitJobExecutionRqDto(5).getJobExecutions().stream()
+      .filter(jobExecution -> jobExecution.getSubordinationType().equals(CHILD))
+      .collect(Collectors.toList());
+
+    // the rest of job executions have no completed date, so they are sorted last
+    putJobExecution(childJobs.get(0).withCompletedDate(new Date(1234567892000L)));
+    putJobExecution(childJobs.get(1).withCompletedDate(new Date(1234567893000L)));
+
+    List<JobExecutionDto> receivedJobExecutions = new ArrayList<>();
+    String afterId = null;
+    List<JobExecutionDto> page;
+    do {
+      RequestSpecification request = RestAssured.given()
+        .spec(spec)
+        .queryParam("sortBy", "completed_date,asc")
+        .queryParam("limit", 2)
+        .queryParam("totalRecords", "estimated");
+      if (afterId != null) {
+        request.queryParam("afterId", afterId);
+      }
+      page = request.when()
+        .get(GET_JOB_EXECUTIONS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .extract().response().body().as(JobExecutionDtoCollection.class)
+        .getJobExecutions();
+      receivedJobExecutions.addAll(page);
+      afterId = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+    } while (!page.isEmpty());
+
+    Assert.assertEquals(childJobs.size(), receivedJobExecutions.size());
+    Assert.assertEquals(childJobs.size(), receivedJobExecutions.stream().map(JobExecutionDto::getId).distinct().count());
+    Assert.assertEquals(childJobs.get(0).getId(), receivedJobExecutions.get(0).getId());
+    Assert.assertEquals(childJobs.get(1).getId(), receivedJobExecutions.get(1).getId());
+    for (int i = 2; i < receivedJobExecutions.size(); i++) {
+      Assert.assertNull(receivedJobExecutions.get(i).getCompletedDate());
+    }
+  }
+
+  @Test
+  public void shouldReturnNotFoundWhenJobExecutionSpecifiedAsAfterIdDoesNotExist() {
+    RestAssured.given()
+      .spec(spec)
+      .when()
+      .queryParam("afterId", UUID.randomUUID().toString())
+      .get(GET_JOB_EXECUTIONS_PATH)
+      .then()
+      .statusCode(HttpStatus.SC_NOT_FOUND);
+  }
+
+  @Test
+  public void shouldReturnBadRequestWhenAfterIdIsInvalid() {
+    RestAssured.given()
+      .spec(spec)
+      .when()
+      .queryParam("afterId", "invalid-id")
+      .get(GET_JOB_EXECUTIONS_PATH)
+      .then()
+      .statusCode(HttpStatus.SC_BAD_REQUEST);
+  }
+
   @Test
   public void shouldReturnBadRequestWhenInvalidSortableFieldIsSpecified() {
     RestAssured.given()
@@ -7,8 +7,11 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import static org.folio.services.ChangeEngineServiceImpl.RECORD_ID;
@@ -16,8 +19,8 @@ import static org.folio.services.ChangeEngineServiceImpl.RECORD_ID;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -39,18 +42,16 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import org.folio.dao.JobExecutionSourceChunkDao;
 import org.folio.dataimport.util.OkapiConnectionParams;
-import org.folio.dataimport.util.marc.MarcRecordAnalyzer;
-import org.folio.dataimport.util.marc.MarcRecordType;
 import org.folio.kafka.KafkaConfig;
 import org.folio.rest.jaxrs.model.ActionProfile;
 import org.folio.rest.jaxrs.model.InitialRecord;
 import org.folio.rest.jaxrs.model.JobExecution;
-import org.folio.rest.jaxrs.model.JobExecutionSourceChunk;
 import org.folio.rest.jaxrs.model.JobProfileInfo;
 import org.folio.rest.jaxrs.model.ProfileSnapshotWrapper;
 import org.folio.rest.jaxrs.model.RawRecordsDto;
 import org.folio.rest.jaxrs.model.Record;
 import org.folio.rest.jaxrs.model.RecordsMetadata;
+import org.folio.services.afterprocessing.AdditionalFieldsUtil;
 import org.folio.services.afterprocessing.HrIdFieldService;
 import org.folio.services.util.EventHandlingUtil;
 
@@ -68,8 +69,6 @@ public class ChangeEngineServiceImplTest {
   @Mock
   private JobExecutionService jobExecutionService;
   @Mock
-  private MarcRecordAnalyzer marcRecordAnalyzer;
-  @Mock
   private HrIdFieldService hrIdFieldService;
   @Mock
   private RecordsPublishingService recordsPublishingService;
@@ -90,6 +89,8 @@ public class ChangeEngineServiceImplTest {
   public void setUp() {
     ReflectionTestUtils.setField(service, "maxDistributionNum", 10);
     ReflectionTestUtils.setField(service, "batchSize", 100);
+    ReflectionTestUtils.setField(service, "jobProfileSnapshotCache", new JobProfileSnapshotCache(100, 60));
+    ReflectionTestUtils.setField(service, "verifiedMarcBibIdsCache", new VerifiedMarcBibIdsCache(100, 30, 60));
 
     when(mappingMetadataService.getMappingMetadataDto(anyString(), any(OkapiConnectionParams.class)))
       .thenReturn(Future.succeededFuture(new MappingMetadataDto()));
@@ -100,10 +101,7 @@ public class ChangeEngineServiceImplTest {
     RawRecordsDto rawRecordsDto = getTestRawRecordsDto(MARC_HOLDINGS_REC_VALID);
     JobExecution jobExecution = getTestJobExecution();
 
-    when(marcRecordAnalyzer.process(any())).thenReturn(MarcRecordType.HOLDING);
-    when(jobExecutionSourceChunkDao.getById(any(), any()))
-      .thenReturn(Future.succeededFuture(Optional.of(new JobExecutionSourceChunk())));
-    when(jobExecutionSourceChunkDao.update(any(), any())).thenReturn(Future.succeededFuture(new JobExecutionSourceChunk()));
+    when(jobExecutionSourceChunkDao.updateProgress(any(), anyInt(), any(), any())).thenReturn(Future.succeededFuture());
 
     Future<List<Record>> serviceFuture = executeWithKafkaMock(rawRecordsDto, jobExecution, Future.succeededFuture(true));
 
@@ -113,15 +111,29 @@ public class ChangeEngineServiceImplTest {
     assertThat(actual.get(0).getErrorRecord(), nullValue());
   }
 
+  @Test
+  public void shouldReadParsedContentOfMarcHoldingsRecordOnce() {
+    RawRecordsDto rawRecordsDto = getTestRawRecordsDto(MARC_HOLDINGS_REC_VALID);
+    JobExecution jobExecution = getTestJobExecution();
+
+    when(jobExecutionSourceChunkDao.updateProgress(any(), anyInt(), any(), any())).thenReturn(Future.succeededFuture());
+
+    try (var additionalFieldsUtil = Mockito.mockStatic(AdditionalFieldsUtil.class, Mockito.CALLS_REAL_METHODS)) {
+      var actual = executeWithKafkaMock(rawRecordsDto, jobExecution, Future.succeededFuture(true)).result();
+
+      assertThat(actual, hasSize(1));
+      assertThat(actual.get(0).getErrorRecord(), nullValue());
+      additionalFieldsUtil.verify(() -> AdditionalFieldsUtil.readMarcRecord(any(Record.class)), times(1));
+      additionalFieldsUtil.verify(() -> AdditionalFieldsUtil.getControlFieldValue(any(Record.class), anyString()), never());
+    }
+  }
+
   @Test
   public void shouldReturnMarcAuthorityRecordWithAuthorityId() {
     RawRecordsDto rawRecordsDto = getTestRawRecordsDto(MARC_AUTHORITY_REC_VALID);
     JobExecution jobExecution = getTestJobExecution();
 
-    when(marcRecordAnalyzer.process(any())).thenReturn(MarcRecordType.AUTHORITY);
-    when(jobExecutionSourceChunkDao.getById(any(), any()))
-      .thenReturn(Future.succeededFuture(Optional.of(new JobExecutionSourceChunk())));
-    when(jobExecutionSourceChunkDao.update(any(), any())).thenReturn(Future.succeededFuture(new JobExecutionSourceChunk()));
+    when(jobExecutionSourceChunkDao.updateProgress(any(), anyInt(), any(), any())).thenReturn(Future.succeededFuture());
 
     Future<List<Record>> serviceFuture = executeWithKafkaMock(rawRecordsDto, jobExecution, Future.succeededFuture(true));
 
@@ -146,10 +158,7 @@ public class ChangeEngineServiceImplTest {
       ))
     );
 
-    when(marcRecordAnalyzer.process(any())).thenReturn(MarcRecordType.HOLDING);
-    when(jobExecutionSourceChunkDao.getById(any(), any()))
-      .thenReturn(Future.succeededFuture(Optional.of(new JobExecutionSourceChunk())));
-    when(jobExecutionSourceChunkDao.update(any(), any())).thenReturn(Future.succeededFuture(new JobExecutionSourceChunk()));
+    when(jobExecutionSourceChunkDao.updateProgress(any(), anyInt(), any(), any())).thenReturn(Future.succeededFuture());
     when(recordsPublishingService.sendEventsWithRecords(any(), any(), any(), any()))
       .thenReturn(Future.succeededFuture(true));
 
@@ -166,10 +175,7 @@ public class ChangeEngineServiceImplTest {
     RawRecordsDto rawRecordsDto = getTestRawRecordsDto(MARC_HOLDINGS_REC_WITHOUT_004);
     JobExecution jobExecution = getTestJobExecution();
 
-    when(marcRecordAnalyzer.process(any())).thenReturn(MarcRecordType.HOLDING);
-    when(jobExecutionSourceChunkDao.getById(any(), any()))
-      .thenReturn(Future.succeededFuture(Optional.of(new JobExecutionSourceChunk())));
-    when(jobExecutionSourceChunkDao.update(any(), any())).thenReturn(Future.succeededFuture(new JobExecutionSourceChunk()));
+    when(jobExecutionSourceChunkDao.updateProgress(any(), anyInt(), any(), any())).thenReturn(Future.succeededFuture());
 
     Future<List<Record>> serviceFuture = executeWithKafkaMock(rawRecordsDto, jobExecution, Future.succeededFuture(true));
 
@@ -182,13 +188,10 @@ public class ChangeEngineServiceImplTest {
     var rawRecordsDto = getTestRawRecordsDto(MARC_HOLDINGS_REC_WITHOUT_004);
     var jobExecution = getTestJobExecution();
 
-    when(marcRecordAnalyzer.process(any())).thenReturn(MarcRecordType.HOLDING);
-    when(jobExecutionSourceChunkDao.getById(any(), any()))
-      .thenReturn(Future.succeededFuture(Optional.of(new JobExecutionSourceChunk())));
-    when(jobExecutionSourceChunkDao.update(any(), any())).thenReturn(Future.succeededFuture(new JobExecutionSourceChunk()));
+    when(jobExecutionSourceChunkDao.updateProgress(any(), anyInt(), any(), any())).thenReturn(Future.succeededFuture());
 
     try (var mockedStatic = Mockito.mockStatic(EventHandlingUtil.class)) {
-      mockedStatic.when(() -> EventHandlingUtil.sendEventToKafka(any(), any(), any(), kafkaHeadersCaptor.capture(), any(), any()))
+      mockedStatic.when(() -> EventHandlingUtil.sendEventToKafka(any(), any(), any(), kafkaHeadersCaptor.capture(), any(), any(), any()))
         .thenReturn(Future.succeededFuture(true));
       service.parseRawRecordsChunkForJobExecution(rawRecordsDto, jobExecution, "1", okapiConnectionParams).result();
     }
@@ -205,10 +208,7 @@ public class ChangeEngineServiceImplTest {
     RawRecordsDto rawRecordsDto = getTestRawRecordsDto(MARC_HOLDINGS_REC_VALID);
     JobExecution jobExecution = getTestJobExecution();
 
-    when(marcRecordAnalyzer.process(any())).thenReturn(MarcRecordType.HOLDING);
-    when(jobExecutionSourceChunkDao.getById(any(), any()))
-      .thenReturn(Future.succeededFuture(Optional.of(new JobExecutionSourceChunk())));
-    when(jobExecutionSourceChunkDao.update(any(), any())).thenReturn(Future.succeededFuture(new JobExecutionSourceChunk()));
+    when(jobExecutionSourceChunkDao.updateProgress(any(), anyInt(), any(), any())).thenReturn(Future.succeededFuture());
     when(jobExecutionService.updateJobExecutionStatus(any(), any(), any())).thenReturn(Future.succeededFuture(jobExecution));
 
     Future<List<Record>> serviceFuture = executeWithKafkaMock(rawRecordsDto, jobExecution, Future.failedFuture("Failed"));
@@ -221,10 +221,7 @@ public class ChangeEngineServiceImplTest {
     RawRecordsDto rawRecordsDto = getTestRawRecordsDto(MARC_HOLDINGS_REC_VALID);
     JobExecution jobExecution = getTestJobExecution();
 
-    when(marcRecordAnalyzer.process(any())).thenReturn(MarcRecordType.HOLDING);
-    when(jobExecutionSourceChunkDao.getById(any(), any()))
-      .thenReturn(Future.succeededFuture(Optional.of(new JobExecutionSourceChunk())));
-    when(jobExecutionSourceChunkDao.update(any(), any())).thenReturn(Future.succeededFuture(new JobExecutionSourceChunk()));
+    when(jobExecutionSourceChunkDao.updateProgress(any(), anyInt(), any(), any())).thenReturn(Future.succeededFuture());
     when(jobExecutionService.updateJobExecutionStatus(any(), any(), any())).thenReturn(Future.failedFuture("Failed"));
 
     Future<List<Record>> serviceFuture = executeWithKafkaMock(rawRecordsDto, jobExecution, Future.failedFuture("Failed"));
@@ -232,6 +229,40 @@ public class ChangeEngineServiceImplTest {
     assertTrue(serviceFuture.failed());
   }
 
+  @Test
+  public void shouldParseRecordsOnWorkerPoolAndKeepRecordsOrder() throws Exception {
+    ReflectionTestUtils.setField(service, "parallelParsingEnabled", true);
+    ReflectionTestUtils.setField(service, "parsingPartitionsNumber", 2);
+    List<InitialRecord> initialRecords = List.of(
+      new InitialRecord().withRecord(MARC_AUTHORITY_REC_VALID).withOrder(0),
+      new InitialRecord().withRecord(MARC_AUTHORITY_REC_VALID).withOrder(1),
+      new InitialRecord().withRecord(MARC_AUTHORITY_REC_VALID).withOrder(2));
+    RawRecordsDto rawRecordsDto = getTestRawRecordsDto(MARC_AUTHORITY_REC_VALID).withInitialRecords(initialRecords);
+    JobExecution jobExecution = getTestJobExecution();
+    jobExecution.setJobProfileSnapshotWrapper(new ProfileSnapshotWrapper()
+      .withChildSnapshotWrappers(List.of(new ProfileSnapshotWrapper()
+        .withContentType(ProfileSnapshotWrapper.ContentType.ACTION_PROFILE)
+        .withContent(new JsonObject(Json.encode(new ActionProfile()
+          .withAction(ActionProfile.Action.UPDATE)
+          .withFolioRecord(ActionProfile.FolioRecord.MARC_AUTHORITY))).getMap())
+      ))
+    );
+
+    when(jobExecutionSourceChunkDao.updateProgress(any(), anyInt(), any(), any())).thenReturn(Future.succeededFuture());
+    when(recordsPublishingService.sendEventsWithRecords(any(), any(), any(), any()))
+      .thenReturn(Future.succeededFuture(true));
+
+    var actual = service.parseRawRecordsChunkForJobExecution(rawRecordsDto, jobExecution, "1", okapiConnectionParams)
+      .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+    assertThat(actual, hasSize(3));
+    for (int i = 0; i < actual.size(); i++) {
+      assertThat(actual.get(i).getOrder(), equalTo(i));
+      assertThat(actual.get(i).getRecordType(), equalTo(Record.RecordType.MARC_AUTHORITY));
+      assertThat(actual.get(i).getErrorRecord(), nullValue());
+    }
+  }
+
   private RawRecordsDto getTestRawRecordsDto(String marcHoldingsRecValid) {
     return new RawRecordsDto().withId(UUID.randomUUID().toString())
       .withRecordsMetadata(new RecordsMetadata().withContentType(RecordsMetadata.ContentType.MARC_RAW))
@@ -248,7 +279,7 @@ public class ChangeEngineServiceImplTest {
   private Future<List<Record>> executeWithKafkaMock(RawRecordsDto rawRecordsDto, JobExecution jobExecution,
                                                     Future<Boolean> eventSentResult) {
     try (var mockedStatic = Mockito.mockStatic(EventHandlingUtil.class)) {
-      mockedStatic.when(() -> EventHandlingUtil.sendEventToKafka(any(), any(), any(), anyList(), any(), any()))
+      mockedStatic.when(() -> EventHandlingUtil.sendEventToKafka(any(), any(), any(), anyList(), any(), any(), any()))
         .thenReturn(eventSentResult);
       return service.parseRawRecordsChunkForJobExecution(rawRecordsDto, jobExecution, "1", okapiConnectionParams);
     }
@@ -1,9 +1,6 @@
 package org.folio.services;
 
 import io.vertx.core.json.Json;
-import io.vertx.core.json.JsonObject;
-import org.folio.dataimport.util.marc.MarcRecordAnalyzer;
-import org.folio.dataimport.util.marc.MarcRecordType;
 import org.folio.rest.jaxrs.model.ActionProfile;
 import org.folio.rest.jaxrs.model.JobProfile;
 import org.folio.rest.jaxrs.model.ParsedRecord;
@@ -12,10 +9,6 @@ import org.folio.rest.jaxrs.model.Record;
 import org.folio.rest.jaxrs.model.Record.RecordType;
 import org.junit.Before;
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -30,15 +23,10 @@ import static org.folio.rest.jaxrs.model.ProfileSnapshotWrapper.ContentType.ACTI
 import static org.folio.rest.jaxrs.model.ProfileSnapshotWrapper.ContentType.JOB_PROFILE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
-import static org.mockito.Mockito.when;
 
-@RunWith(MockitoJUnitRunner.class)
 public class DataImportPayloadContextBuilderImplTest {
 
-  @Mock
-  private MarcRecordAnalyzer marcRecordAnalyzer;
-  @InjectMocks
-  private DataImportPayloadContextBuilderImpl builder;
+  private final DataImportPayloadContextBuilderImpl builder = new DataImportPayloadContextBuilderImpl();
 
   private Record record;
   private ProfileSnapshotWrapper profileSnapshotWrapper;
@@ -76,8 +64,6 @@ public class DataImportPayloadContextBuilderImplTest {
     record.setRecordType(RecordType.MARC_AUTHORITY);
     record.setParsedRecord(parsedRecord);
 
-    when(marcRecordAnalyzer.process(toJson(parsedRecord))).thenReturn(MarcRecordType.AUTHORITY);
-
     HashMap<String, String> context = builder.buildFrom(record, profileSnapshotWrapper.getId());
 
     assertEquals(Map.of(
@@ -92,8 +78,6 @@ public class DataImportPayloadContextBuilderImplTest {
     record.setRecordType(Record.RecordType.MARC_BIB);
     record.setParsedRecord(parsedRecord);
 
-    when(marcRecordAnalyzer.process(toJson(parsedRecord))).thenReturn(MarcRecordType.BIB);
-
     HashMap<String, String> context = builder.buildFrom(record, profileSnapshotWrapper.getId());
 
     assertEquals(Map.of(
@@ -108,8 +92,6 @@ public class DataImportPayloadContextBuilderImplTest {
     record.setRecordType(RecordType.MARC_HOLDING);
     record.setParsedRecord(parsedRecord);
 
-    when(marcRecordAnalyzer.process(toJson(parsedRecord))).thenReturn(MarcRecordType.HOLDING);
-
     HashMap<String, String> context = builder.buildFrom(record, profileSnapshotWrapper.getId());
 
     assertEquals(Map.of(
@@ -131,30 +113,21 @@ public class DataImportPayloadContextBuilderImplTest {
   }
 
   @Test
-  public void shouldThrowNPEIfParsedRecordIsNullAndRecordIsMarc() {
-    record.setRecordType(Record.RecordType.MARC_BIB);
-
-    assertThrows("Parsed record is null", NullPointerException.class,
-        () -> builder.buildFrom(record, profileSnapshotWrapper.getId()));
-  }
+  public void shouldBuildContextByRecordTypeWithoutAnalyzingParsedContent() {
+    ParsedRecord parsedRecord = parsedRecord("{\"leader\":\"NA\"}");
+    record.setRecordType(RecordType.MARC_BIB);
+    record.setParsedRecord(parsedRecord);
 
-  @Test
-  public void shouldThrowNPEIfParsedRecordContentIsNullAndRecordIsMarc() {
-    record.setRecordType(Record.RecordType.MARC_BIB);
-    record.setParsedRecord(new ParsedRecord());
+    HashMap<String, String> context = builder.buildFrom(record, profileSnapshotWrapper.getId());
 
-    assertThrows("Parsed record content is null", NullPointerException.class,
-        () -> builder.buildFrom(record, profileSnapshotWrapper.getId()));
+    assertEquals(Json.encode(record), context.get(MARC_BIBLIOGRAPHIC.value()));
   }
 
   @Test
-  public void shouldThrowExceptionIfMarcTypeUnsupported() {
+  public void shouldThrowExceptionIfRecordTypeIsNotDefined() {
     ParsedRecord parsedRecord = parsedRecord("{\"leader\":\"NA\"}");
-    record.setRecordType(RecordType.MARC_BIB);
     record.setParsedRecord(parsedRecord);
 
-    when(marcRecordAnalyzer.process(toJson(parsedRecord))).thenReturn(MarcRecordType.NA);
-
     assertThrows("Unsupported Marc record type", IllegalStateException.class,
         () -> builder.buildFrom(record, profileSnapshotWrapper.getId()));
   }
@@ -163,8 +136,4 @@ public class DataImportPayloadContextBuilderImplTest {
     return new ParsedRecord().withContent(content);
   }
 
-  private static JsonObject toJson(ParsedRecord parsedRecord) {
-    return new JsonObject(parsedRecord.getContent().toString());
-  }
-
 }
@@ -22,7 +22,6 @@ import org.folio.dao.MappingRuleDaoImpl;
 import org.folio.dao.MappingRulesSnapshotDaoImpl;
 import org.folio.dao.util.PostgresClientFactory;
 import org.folio.dataimport.util.OkapiConnectionParams;
-import org.folio.dataimport.util.marc.MarcRecordAnalyzer;
 import org.folio.kafka.KafkaConfig;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
 import org.folio.rest.impl.AbstractRestTest;
@@ -38,6 +37,7 @@ import org.folio.rest.jaxrs.model.StatusDto;
 import org.folio.services.afterprocessing.HrIdFieldServiceImpl;
 import org.folio.services.mappers.processor.MappingParametersProvider;
 import org.folio.services.progress.JobExecutionProgressServiceImpl;
+import org.folio.services.util.KafkaProducerRegistry;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -45,6 +45,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
@@ -107,6 +108,12 @@ public class EventDrivenChunkProcessingServiceImplTest extends AbstractRestTest
   @Spy
   @InjectMocks
   private JobExecutionSourceChunkDaoImpl jobExecutionSourceChunkDao;
+  @Spy
+  private JobProfileSnapshotCache jobProfileSnapshotCache = new JobProfileSnapshotCache(100, 60);
+  @Spy
+  private JobExecutionByIdCache jobExecutionByIdCache = new JobExecutionByIdCache(100, 5);
+  @Mock
+  private JobExecutionsCache jobExecutionsCache;
   @InjectMocks
   @Spy
   private JobExecutionServiceImpl jobExecutionService;
@@ -115,9 +122,6 @@ public class EventDrivenChunkProcessingServiceImplTest extends AbstractRestTest
   private JournalRecordServiceImpl journalRecordService;
   @InjectMocks
   @Spy
-  private MarcRecordAnalyzer marcRecordAnalyzer;
-  @InjectMocks
-  @Spy
   private JobExecutionProgressDaoImpl jobExecutionProgressDao;
   @Spy
   @InjectMocks
@@ -180,15 +184,17 @@ public class EventDrivenChunkProcessingServiceImplTest extends AbstractRestTest
       .build();
 
     mappingRuleDao = when(mock(MappingRuleDaoImpl.class).get(any(Record.RecordType.class), anyString())).thenReturn(Future.succeededFuture(Optional.of(new JsonObject(rules)))).getMock();
-    marcRecordAnalyzer = new MarcRecordAnalyzer();
     mappingRuleCache = new MappingRuleCache(mappingRuleDao, vertx);
     mappingRuleService = new MappingRuleServiceImpl(mappingRuleDao, mappingRuleCache);
     mappingParametersProvider = when(mock(MappingParametersProvider.class).get(anyString(), any(OkapiConnectionParams.class))).thenReturn(Future.succeededFuture(new MappingParameters())).getMock();
 
     mappingMetadataService = new MappingMetadataServiceImpl(mappingParametersProvider, mappingRuleService, mappingRulesSnapshotDao, mappingParamsSnapshotDao);
-    changeEngineService = new ChangeEngineServiceImpl(jobExecutionSourceChunkDao, jobExecutionService, marcRecordAnalyzer, hrIdFieldService, recordsPublishingService, mappingMetadataService, kafkaConfig);
+    changeEngineService = new ChangeEngineServiceImpl(jobExecutionSourceChunkDao, jobExecutionService, hrIdFieldService, recordsPublishingService, mappingMetadataService, kafkaConfig);
     ReflectionTestUtils.setField(changeEngineService, "maxDistributionNum", 10);
     ReflectionTestUtils.setField(changeEngineService, "batchSize", 100);
+    ReflectionTestUtils.setField(changeEngineService, "jobProfileSnapshotCache", jobProfileSnapshotCache);
+    ReflectionTestUtils.setField(changeEngineService, "verifiedMarcBibIdsCache", new VerifiedMarcBibIdsCache(100, 30, 60));
+    ReflectionTestUtils.setField(changeEngineService, "kafkaProducerRegistry", new KafkaProducerRegistry("5", "65536", "none"));
     chunkProcessingService = new EventDrivenChunkProcessingServiceImpl(jobExecutionSourceChunkDao, jobExecutionService, changeEngineService, jobExecutionProgressService);
 
     HashMap<String, String> headers = new HashMap<>();
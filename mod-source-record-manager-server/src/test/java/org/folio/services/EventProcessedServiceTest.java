@@ -1,6 +1,7 @@
 package org.folio.services;
 
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.pgclient.PgException;
 import io.vertx.sqlclient.Row;
@@ -14,9 +15,16 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Set;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.folio.services.AbstractChunkProcessingService.UNIQUE_CONSTRAINT_VIOLATION_CODE;
@@ -73,4 +81,61 @@ public class EventProcessedServiceTest {
     assertTrue(future.cause() instanceof PgException);
 
   }
+
+  @Test
+  public void shouldSaveEventsByOneBatchAndFailNotReturnedEventsWithDuplicateException() {
+    ReflectionTestUtils.setField(eventProcessedService, "batchSize", 2);
+    ReflectionTestUtils.setField(eventProcessedService, "loadLimit", 5);
+    ReflectionTestUtils.setField(eventProcessedService, "vertx", Vertx.vertx());
+    String secondEventId = UUID.randomUUID().toString();
+    RowSet<Row> emptyRowSet = mock(RowSet.class);
+    when(eventProcessedDao.saveBatch(eq(HANDLER_ID), anyCollection(), eq(TENANT_ID)))
+      .thenReturn(Future.succeededFuture(emptyRowSet));
+
+    Future<RowSet<Row>> future1 = eventProcessedService.collectData(HANDLER_ID, EVENT_ID, TENANT_ID);
+    Future<RowSet<Row>> future2 = eventProcessedService.collectData(HANDLER_ID, secondEventId, TENANT_ID);
+
+    verify(eventProcessedDao).saveBatch(eq(HANDLER_ID), eq(Set.of(EVENT_ID, secondEventId)), eq(TENANT_ID));
+    verify(eventProcessedDao, never()).save(anyString(), anyString(), anyString());
+    assertTrue(future1.failed());
+    assertTrue(future1.cause() instanceof DuplicateEventException);
+    assertTrue(future2.failed());
+    assertTrue(future2.cause() instanceof DuplicateEventException);
+  }
+
+  @Test
+  public void shouldFailAllBatchedEventsWhenBatchSaveFails() {
+    ReflectionTestUtils.setField(eventProcessedService, "batchSize", 2);
+    ReflectionTestUtils.setField(eventProcessedService, "loadLimit", 5);
+    ReflectionTestUtils.setField(eventProcessedService, "vertx", Vertx.vertx());
+    when(eventProcessedDao.saveBatch(eq(HANDLER_ID), anyCollection(), eq(TENANT_ID)))
+      .thenReturn(Future.failedFuture(new PgException("DB error", "ERROR", "ERROR_CODE", "DB is unavailable")));
+
+    Future<RowSet<Row>> future1 = eventProcessedService.collectData(HANDLER_ID, EVENT_ID, TENANT_ID);
+    Future<RowSet<Row>> future2 = eventProcessedService.collectData(HANDLER_ID, UUID.randomUUID().toString(), TENANT_ID);
+
+    assertTrue(future1.failed());
+    assertTrue(future1.cause() instanceof PgException);
+    assertTrue(future2.failed());
+    assertTrue(future2.cause() instanceof PgException);
+  }
+
+  @Test
+  public void shouldSaveBatchWithoutWaitingForWindowWhenLoadLimitReached() {
+    ReflectionTestUtils.setField(eventProcessedService, "batchSize", 50);
+    ReflectionTestUtils.setField(eventProcessedService, "loadLimit", 2);
+    ReflectionTestUtils.setField(eventProcessedService, "batchWindowMs", 60000L);
+    ReflectionTestUtils.setField(eventProcessedService, "vertx", Vertx.vertx());
+    String secondEventId = UUID.randomUUID().toString();
+    RowSet<Row> emptyRowSet = mock(RowSet.class);
+    when(eventProcessedDao.saveBatch(eq(HANDLER_ID), anyCollection(), eq(TENANT_ID)))
+      .thenReturn(Future.succeededFuture(emptyRowSet));
+
+    Future<RowSet<Row>> future1 = eventProcessedService.collectData(HANDLER_ID, EVENT_ID, TENANT_ID);
+    Future<RowSet<Row>> future2 = eventProcessedService.collectData(HANDLER_ID, secondEventId, TENANT_ID);
+
+    verify(eventProcessedDao).saveBatch(eq(HANDLER_ID), eq(Set.of(EVENT_ID, secondEventId)), eq(TENANT_ID));
+    assertTrue(future1.isComplete());
+    assertTrue(future2.isComplete());
+  }
 }
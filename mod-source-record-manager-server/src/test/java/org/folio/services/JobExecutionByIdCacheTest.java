@@ -0,0 +1,35 @@
+package org.folio.services;
+
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.folio.rest.jaxrs.model.JobExecution;
+
+public class JobExecutionByIdCacheTest {
+
+  private static final String TENANT_ID = "diku";
+
+  private final JobExecutionByIdCache jobExecutionByIdCache = new JobExecutionByIdCache(100, 5);
+
+  @Test
+  public void shouldReturnCachedJobExecutionPerTenant() {
+    JobExecution jobExecution = new JobExecution().withId(UUID.randomUUID().toString());
+
+    jobExecutionByIdCache.put(jobExecution, TENANT_ID);
+
+    Assert.assertSame(jobExecution, jobExecutionByIdCache.get(jobExecution.getId(), TENANT_ID));
+    Assert.assertNull(jobExecutionByIdCache.get(jobExecution.getId(), "other_tenant"));
+  }
+
+  @Test
+  public void shouldNotReturnInvalidatedJobExecution() {
+    JobExecution jobExecution = new JobExecution().withId(UUID.randomUUID().toString());
+    jobExecutionByIdCache.put(jobExecution, TENANT_ID);
+
+    jobExecutionByIdCache.invalidate(jobExecution.getId(), TENANT_ID);
+
+    Assert.assertNull(jobExecutionByIdCache.get(jobExecution.getId(), TENANT_ID));
+  }
+}
@@ -0,0 +1,102 @@
+package org.folio.services;
+
+import java.util.List;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.folio.dao.JobExecutionDao;
+import org.folio.dao.JobExecutionFilter;
+import org.folio.dao.util.SortField;
+import org.folio.rest.jaxrs.model.JobExecutionDtoCollection;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JobExecutionsCacheTest {
+
+  private static final String TENANT_ID = "diku";
+  private static final String OTHER_TENANT_ID = "other_tenant";
+  private static final List<SortField> SORT_FIELDS = List.of(new SortField("completed_date", "desc"));
+
+  @Mock
+  private JobExecutionDao jobExecutionDao;
+
+  private Vertx vertx;
+  private JobExecutionsCache jobExecutionsCache;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    jobExecutionsCache = new JobExecutionsCache(jobExecutionDao, vertx, 30, 60);
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  public void shouldLoadPageOnceForConcurrentRequests() {
+    Promise<JobExecutionDtoCollection> loadingPromise = Promise.promise();
+    when(jobExecutionDao.getJobExecutionsWithoutParentMultiple(any(JobExecutionFilter.class), eq(SORT_FIELDS), eq(0), eq(10), eq(TENANT_ID)))
+      .thenReturn(loadingPromise.future());
+
+    Future<JobExecutionDtoCollection> firstFuture = jobExecutionsCache.get(TENANT_ID, new JobExecutionFilter(), SORT_FIELDS, null, 0, 10, false);
+    Future<JobExecutionDtoCollection> secondFuture = jobExecutionsCache.get(TENANT_ID, new JobExecutionFilter(), SORT_FIELDS, null, 0, 10, false);
+    JobExecutionDtoCollection jobExecutionCollection = new JobExecutionDtoCollection().withTotalRecords(0);
+    loadingPromise.complete(jobExecutionCollection);
+
+    Assert.assertSame(jobExecutionCollection, firstFuture.result());
+    Assert.assertSame(jobExecutionCollection, secondFuture.result());
+    verify(jobExecutionDao, times(1))
+      .getJobExecutionsWithoutParentMultiple(any(JobExecutionFilter.class), eq(SORT_FIELDS), eq(0), eq(10), eq(TENANT_ID));
+  }
+
+  @Test
+  public void shouldLoadPageAgainOnlyForInvalidatedTenant() {
+    when(jobExecutionDao.getJobExecutionsWithoutParentMultiple(any(JobExecutionFilter.class), eq(SORT_FIELDS), eq(0), eq(10), any(String.class)))
+      .thenReturn(Future.succeededFuture(new JobExecutionDtoCollection().withTotalRecords(0)));
+
+    jobExecutionsCache.get(TENANT_ID, new JobExecutionFilter(), SORT_FIELDS, null, 0, 10, false);
+    jobExecutionsCache.get(OTHER_TENANT_ID, new JobExecutionFilter(), SORT_FIELDS, null, 0, 10, false);
+    jobExecutionsCache.invalidate(TENANT_ID);
+    jobExecutionsCache.get(TENANT_ID, new JobExecutionFilter(), SORT_FIELDS, null, 0, 10, false);
+    jobExecutionsCache.get(OTHER_TENANT_ID, new JobExecutionFilter(), SORT_FIELDS, null, 0, 10, false);
+
+    verify(jobExecutionDao, times(2))
+      .getJobExecutionsWithoutParentMultiple(any(JobExecutionFilter.class), eq(SORT_FIELDS), eq(0), eq(10), eq(TENANT_ID));
+    verify(jobExecutionDao, times(1))
+      .getJobExecutionsWithoutParentMultiple(any(JobExecutionFilter.class), eq(SORT_FIELDS), eq(0), eq(10), eq(OTHER_TENANT_ID));
+  }
+
+  @Test
+  public void shouldLoadPageAgainWhenTenantIsInvalidatedWhileLoadingPage() {
+    Promise<JobExecutionDtoCollection> loadingPromise = Promise.promise();
+    JobExecutionDtoCollection reloadedCollection = new JobExecutionDtoCollection().withTotalRecords(1);
+    when(jobExecutionDao.getJobExecutionsWithoutParentMultiple(any(JobExecutionFilter.class), eq(SORT_FIELDS), eq(0), eq(10), eq(TENANT_ID)))
+      .thenReturn(loadingPromise.future(), Future.succeededFuture(reloadedCollection));
+
+    Future<JobExecutionDtoCollection> inFlightFuture = jobExecutionsCache.get(TENANT_ID, new JobExecutionFilter(), SORT_FIELDS, null, 0, 10, false);
+    jobExecutionsCache.invalidate(TENANT_ID);
+    loadingPromise.complete(new JobExecutionDtoCollection().withTotalRecords(0));
+    Future<JobExecutionDtoCollection> reloadedFuture = jobExecutionsCache.get(TENANT_ID, new JobExecutionFilter(), SORT_FIELDS, null, 0, 10, false);
+
+    Assert.assertTrue(inFlightFuture.succeeded());
+    Assert.assertSame(reloadedCollection, reloadedFuture.result());
+    verify(jobExecutionDao, times(2))
+      .getJobExecutionsWithoutParentMultiple(any(JobExecutionFilter.class), eq(SORT_FIELDS), eq(0), eq(10), eq(TENANT_ID));
+  }
+}
@@ -27,6 +27,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 
@@ -54,6 +55,12 @@ public class JobMonitoringServiceImplTest extends AbstractRestTest {
   @InjectMocks
   JobExecutionDaoImpl jobExecutionDao;
   @Spy
+  JobProfileSnapshotCache jobProfileSnapshotCache = new JobProfileSnapshotCache(100, 60);
+  @Spy
+  JobExecutionByIdCache jobExecutionByIdCache = new JobExecutionByIdCache(100, 5);
+  @Mock
+  JobExecutionsCache jobExecutionsCache;
+  @Spy
   @InjectMocks
   JobExecutionServiceImpl jobExecutionService;
   @Spy
@@ -0,0 +1,58 @@
+package org.folio.services;
+
+import static org.folio.rest.jaxrs.model.ProfileSnapshotWrapper.ContentType.ACTION_PROFILE;
+import static org.folio.rest.jaxrs.model.ProfileSnapshotWrapper.ContentType.JOB_PROFILE;
+import static org.folio.rest.jaxrs.model.ProfileSnapshotWrapper.ContentType.MATCH_PROFILE;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.folio.rest.jaxrs.model.ActionProfile;
+import org.folio.rest.jaxrs.model.JobExecution;
+import org.folio.rest.jaxrs.model.ProfileSnapshotWrapper;
+import org.folio.services.entity.JobProfileSnapshotEntry;
+
+public class JobProfileSnapshotCacheTest {
+
+  private final JobProfileSnapshotCache jobProfileSnapshotCache = new JobProfileSnapshotCache(100, 60);
+
+  @Test
+  public void shouldReturnCachedSnapshotUntilInvalidated() {
+    JobExecution jobExecution = new JobExecution()
+      .withId(UUID.randomUUID().toString())
+      .withJobProfileSnapshotWrapper(buildProfileSnapshot(ActionProfile.Action.UPDATE));
+
+    JobProfileSnapshotEntry snapshot = jobProfileSnapshotCache.get(jobExecution);
+    Assert.assertTrue(snapshot.isUpdateMarcActionExists());
+    Assert.assertEquals(MATCH_PROFILE, snapshot.getFirstChildSnapshotWrapper().getContentType());
+    Assert.assertSame(snapshot, jobProfileSnapshotCache.get(jobExecution));
+
+    jobProfileSnapshotCache.invalidate(jobExecution.getId());
+    jobExecution.setJobProfileSnapshotWrapper(buildProfileSnapshot(ActionProfile.Action.CREATE));
+
+    JobProfileSnapshotEntry reloadedSnapshot = jobProfileSnapshotCache.get(jobExecution);
+    Assert.assertNotSame(snapshot, reloadedSnapshot);
+    Assert.assertFalse(reloadedSnapshot.isUpdateMarcActionExists());
+  }
+
+  private ProfileSnapshotWrapper buildProfileSnapshot(ActionProfile.Action action) {
+    ActionProfile actionProfile = new ActionProfile()
+      .withAction(action)
+      .withFolioRecord(ActionProfile.FolioRecord.MARC_BIBLIOGRAPHIC);
+
+    return new ProfileSnapshotWrapper()
+      .withId(UUID.randomUUID().toString())
+      .withContentType(JOB_PROFILE)
+      .withChildSnapshotWrappers(Collections.singletonList(
+        new ProfileSnapshotWrapper()
+          .withContentType(MATCH_PROFILE)
+          .withChildSnapshotWrappers(Collections.singletonList(
+            new ProfileSnapshotWrapper()
+              .withContentType(ACTION_PROFILE)
+              .withContent(JsonObject.mapFrom(actionProfile).getMap())))));
+  }
+}
@@ -1,17 +1,32 @@
 package org.folio.services;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
+import org.folio.rest.jaxrs.model.Component;
+import org.folio.rest.jaxrs.model.EdifactParsedContent;
 import org.folio.rest.jaxrs.model.RecordsMetadata;
+import org.folio.rest.jaxrs.model.Segment;
 import org.folio.services.parsers.ParsedResult;
 import org.folio.services.parsers.RecordParser;
 import org.folio.services.parsers.RecordParserBuilder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-
+import org.marc4j.MarcJsonWriter;
+import org.marc4j.MarcStreamReader;
+import org.marc4j.MarcStreamWriter;
+import org.marc4j.MarcXmlReader;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.MarcFactory;
+import org.marc4j.marc.Record;
+
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 
@@ -160,6 +175,27 @@ public class ParserTest {
     testContext.assertNotEquals(result.getParsedRecord().encode(), "");
   }
 
+  @Test
+  public void shouldWriteEdifactSegmentsWithDataElementsAndComponents(TestContext testContext) {
+    RecordParser parser = RecordParserBuilder.buildParser(RecordsMetadata.ContentType.EDIFACT_RAW);
+
+    ParsedResult result = parser.parseRecord(RAW_EDIFACT_RECORD);
+
+    testContext.assertFalse(result.isHasError());
+    EdifactParsedContent parsedContent = result.getParsedRecord().mapTo(EdifactParsedContent.class);
+    Segment dtmSegment = parsedContent.getSegments().stream()
+      .filter(segment -> "DTM".equals(segment.getTag()))
+      .findFirst().orElseThrow();
+    testContext.assertEquals(1, dtmSegment.getDataElements().size());
+    testContext.assertEquals(List.of("3", "19990802", "102"), dtmSegment.getDataElements().get(0).getComponents().stream()
+      .map(Component::getData)
+      .collect(Collectors.toList()));
+    Segment lastSegment = parsedContent.getSegments().get(parsedContent.getSegments().size() - 1);
+    testContext.assertEquals("UNZ", lastSegment.getTag());
+    testContext.assertEquals(2, lastSegment.getDataElements().size());
+    testContext.assertEquals("9908021557", lastSegment.getDataElements().get(1).getComponents().get(0).getData());
+  }
+
   @Test
   public void parseEdifactRawErrorSource(TestContext testContext) {
     RecordParser parser = RecordParserBuilder.buildParser(RecordsMetadata.ContentType.EDIFACT_RAW);
@@ -200,6 +236,41 @@ public class ParserTest {
     testContext.assertNotEquals(result.getParsedRecord().encode(), "");
   }
 
+  @Test
+  public void shouldParseWellFormedRawMarcRecordSameWayAsMarc4j(TestContext testContext) {
+    MarcFactory factory = MarcFactory.newInstance();
+    Record marcRecord = factory.newRecord("00000cam a2200000 a 4500");
+    marcRecord.addVariableField(factory.newControlField("001", "393893"));
+    marcRecord.addVariableField(factory.newControlField("008", "830419m19559999gw mua   hiz   n    lat  "));
+    DataField titleField = factory.newDataField("245", '1', '0');
+    titleField.addSubfield(factory.newSubfield('a', "Neue Ausgabe sämtlicher \"Werke\" \\"));
+    titleField.addSubfield(factory.newSubfield('b', ""));
+    titleField.addSubfield(factory.newSubfield('c', "Hrsg. von der Internationalen Stiftung Mozarteum, Salzburg."));
+    marcRecord.addVariableField(titleField);
+    DataField subjectField = factory.newDataField("650", ' ', '7');
+    subjectField.addSubfield(factory.newSubfield('0', "(OCoLC)fst00974414"));
+    marcRecord.addVariableField(subjectField);
+
+    ByteArrayOutputStream rawRecordStream = new ByteArrayOutputStream();
+    MarcStreamWriter streamWriter = new MarcStreamWriter(rawRecordStream, StandardCharsets.UTF_8.name());
+    streamWriter.write(marcRecord);
+    streamWriter.close();
+    byte[] rawRecord = rawRecordStream.toByteArray();
+
+    ByteArrayOutputStream expectedJsonStream = new ByteArrayOutputStream();
+    MarcJsonWriter jsonWriter = new MarcJsonWriter(expectedJsonStream);
+    jsonWriter.write(new MarcStreamReader(new ByteArrayInputStream(rawRecord), StandardCharsets.UTF_8.name()).next());
+    jsonWriter.close();
+    JsonObject expectedJson = new JsonObject(new String(expectedJsonStream.toByteArray(), StandardCharsets.UTF_8));
+
+    RecordParser parser = RecordParserBuilder.buildParser(RecordsMetadata.ContentType.MARC_RAW);
+    ParsedResult result = parser.parseRecord(new String(rawRecord, StandardCharsets.UTF_8));
+
+    testContext.assertFalse(result.isHasError());
+    testContext.assertEquals(expectedJson.encode(), result.getEncodedParsedRecord());
+    testContext.assertEquals(expectedJson, result.getParsedRecord());
+  }
+
   @Test
   public void parseMarcRawErrorSource(TestContext testContext) {
     RecordParser parser = RecordParserBuilder.buildParser(RecordsMetadata.ContentType.MARC_RAW);
@@ -281,6 +352,22 @@ public class ParserTest {
     testContext.assertNotEquals(result.getParsedRecord().encode(), "");
   }
 
+  @Test
+  public void shouldParseXmlRecordSameWayAsMarc4j(TestContext testContext) throws IOException {
+    String xmlMarcRecord = FileUtils.readFileToString(new File(XML_MARC_RECORD_PATH), StandardCharsets.UTF_8);
+    ByteArrayOutputStream expectedJsonStream = new ByteArrayOutputStream();
+    MarcJsonWriter jsonWriter = new MarcJsonWriter(expectedJsonStream);
+    jsonWriter.write(new MarcXmlReader(new ByteArrayInputStream(xmlMarcRecord.getBytes(StandardCharsets.UTF_8))).next());
+    jsonWriter.close();
+    JsonObject expectedJson = new JsonObject(new String(expectedJsonStream.toByteArray(), StandardCharsets.UTF_8));
+
+    RecordParser parser = RecordParserBuilder.buildParser(RecordsMetadata.ContentType.MARC_XML);
+    ParsedResult result = parser.parseRecord(xmlMarcRecord);
+
+    testContext.assertFalse(result.isHasError());
+    testContext.assertEquals(expectedJson.encode(), result.getEncodedParsedRecord());
+  }
+
   @Test
   public void parseXmlErrorSource(TestContext testContext) {
     RecordParser parser = RecordParserBuilder.buildParser(RecordsMetadata.ContentType.MARC_XML);
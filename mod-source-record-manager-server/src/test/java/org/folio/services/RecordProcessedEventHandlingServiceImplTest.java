@@ -27,6 +27,7 @@ import java.util.UUID;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.matching.RegexPattern;
 import com.github.tomakehurst.wiremock.matching.UrlPathPattern;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.Json;
@@ -60,13 +61,14 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 
 import org.folio.TestUtil;
 import org.folio.dao.util.PostgresClientFactory;
 import org.folio.dataimport.util.OkapiConnectionParams;
-import org.folio.dataimport.util.marc.MarcRecordAnalyzer;
 import org.folio.kafka.KafkaConfig;
 import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingParameters;
 import org.folio.rest.impl.AbstractRestTest;
@@ -75,6 +77,7 @@ import org.folio.services.afterprocessing.HrIdFieldServiceImpl;
 import org.folio.services.journal.JournalServiceImpl;
 import org.folio.services.mappers.processor.MappingParametersProvider;
 import org.folio.services.progress.JobExecutionProgressServiceImpl;
+import org.folio.services.util.KafkaProducerRegistry;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @RunWith(VertxUnitRunner.class)
@@ -104,12 +107,15 @@ public class RecordProcessedEventHandlingServiceImplTest extends AbstractRestTes
   @Spy
   @InjectMocks
   private MappingParametersProvider mappingParametersProvider;
-  @InjectMocks
   @Spy
-  private JobExecutionServiceImpl jobExecutionService;
+  private JobProfileSnapshotCache jobProfileSnapshotCache = new JobProfileSnapshotCache(100, 60);
+  @Spy
+  private JobExecutionByIdCache jobExecutionByIdCache = new JobExecutionByIdCache(100, 5);
+  @Mock
+  private JobExecutionsCache jobExecutionsCache;
   @InjectMocks
   @Spy
-  private MarcRecordAnalyzer marcRecordAnalyzer;
+  private JobExecutionServiceImpl jobExecutionService;
   @InjectMocks
   @Spy
   private JobExecutionProgressDaoImpl jobExecutionProgressDao;
@@ -189,14 +195,16 @@ public class RecordProcessedEventHandlingServiceImplTest extends AbstractRestTes
     MockitoAnnotations.openMocks(this);
 
     mappingRuleCache = new MappingRuleCache(mappingRuleDao, vertx);
-    marcRecordAnalyzer = new MarcRecordAnalyzer();
     mappingRuleService = new MappingRuleServiceImpl(mappingRuleDao, mappingRuleCache);
     mappingRuleDao = when(mock(MappingRuleDaoImpl.class).get(any(), anyString())).thenReturn(Future.succeededFuture(Optional.of(new JsonObject(rules)))).getMock();
     mappingParametersProvider = when(mock(MappingParametersProvider.class).get(anyString(), any(OkapiConnectionParams.class))).thenReturn(Future.succeededFuture(new MappingParameters())).getMock();
     mappingMetadataService = new MappingMetadataServiceImpl(mappingParametersProvider, mappingRuleService, mappingRulesSnapshotDao, mappingParamsSnapshotDao);
-    changeEngineService = new ChangeEngineServiceImpl(jobExecutionSourceChunkDao, jobExecutionService, marcRecordAnalyzer, hrIdFieldService , recordsPublishingService, mappingMetadataService, kafkaConfig);
+    changeEngineService = new ChangeEngineServiceImpl(jobExecutionSourceChunkDao, jobExecutionService, hrIdFieldService , recordsPublishingService, mappingMetadataService, kafkaConfig);
     ReflectionTestUtils.setField(changeEngineService, "maxDistributionNum", 10);
     ReflectionTestUtils.setField(changeEngineService, "batchSize", 100);
+    ReflectionTestUtils.setField(changeEngineService, "jobProfileSnapshotCache", jobProfileSnapshotCache);
+    ReflectionTestUtils.setField(changeEngineService, "verifiedMarcBibIdsCache", new VerifiedMarcBibIdsCache(100, 30, 60));
+    ReflectionTestUtils.setField(changeEngineService, "kafkaProducerRegistry", new KafkaProducerRegistry("5", "65536", "none"));
     chunkProcessingService = new EventDrivenChunkProcessingServiceImpl(jobExecutionSourceChunkDao, jobExecutionService, changeEngineService, jobExecutionProgressService);
     recordProcessedEventHandlingService = new RecordProcessedEventHandlingServiceImpl(jobExecutionProgressService, jobExecutionService, journalService, jobMonitoringService);
     HashMap<String, String> headers = new HashMap<>();
@@ -381,4 +389,110 @@ public class RecordProcessedEventHandlingServiceImplTest extends AbstractRestTes
       async.complete();
     });
   }
+
+  @Test
+  public void shouldFlushAccumulatedProgressByOneUpdateAndMarkJobExecutionAsErrorWhenAllRecordsProcessed(TestContext context) {
+    // given
+    Async async = context.async();
+    ReflectionTestUtils.setField(recordProcessedEventHandlingService, "progressFlushThreshold", 2);
+    ReflectionTestUtils.setField(recordProcessedEventHandlingService, "progressFlushIntervalMs", 60000L);
+    ReflectionTestUtils.setField(recordProcessedEventHandlingService, "loadLimit", 5);
+    RawRecordsDto rawRecordsDto = new RawRecordsDto()
+      .withInitialRecords(Collections.singletonList(new InitialRecord().withRecord(CORRECT_RAW_RECORD)))
+      .withRecordsMetadata(new RecordsMetadata()
+        .withLast(true)
+        .withCounter(2)
+        .withTotal(2)
+        .withContentType(RecordsMetadata.ContentType.MARC_RAW));
+
+    DataImportEventPayload datImpErrorEventPayload = new DataImportEventPayload()
+      .withEventType(DataImportEventTypes.DI_ERROR.value())
+      .withContext(new HashMap<>());
+
+    DataImportEventPayload datImpCompletedEventPayload = new DataImportEventPayload()
+      .withEventType(DataImportEventTypes.DI_COMPLETED.value())
+      .withContext(new HashMap<>());
+
+    Future<Boolean> future = jobExecutionService.initializeJobExecutions(initJobExecutionsRqDto, params)
+      .compose(initJobExecutionsRsDto -> jobExecutionService.setJobProfileToJobExecution(initJobExecutionsRsDto.getParentJobExecutionId(), jobProfileInfo, params))
+      .map(jobExecution -> {
+        datImpErrorEventPayload.withJobExecutionId(jobExecution.getId());
+        return datImpCompletedEventPayload.withJobExecutionId(jobExecution.getId());
+      })
+      .compose(ar -> chunkProcessingService.processChunk(rawRecordsDto, datImpErrorEventPayload.getJobExecutionId(), params));
+
+    // when
+    Future<JobExecutionProgress> progressFuture = future
+      .compose(ar -> CompositeFuture.all(
+        recordProcessedEventHandlingService.handle(Json.encode(datImpErrorEventPayload), params),
+        recordProcessedEventHandlingService.handle(Json.encode(datImpCompletedEventPayload), params)))
+      .compose(ar -> jobExecutionProgressService.getByJobExecutionId(datImpCompletedEventPayload.getJobExecutionId(), TENANT_ID));
+
+    // then
+    progressFuture.onComplete(ar -> {
+      context.assertTrue(ar.succeeded());
+      context.assertEquals(1, ar.result().getCurrentlySucceeded());
+      context.assertEquals(1, ar.result().getCurrentlyFailed());
+      Mockito.verify(jobExecutionProgressDao).updateCountersByJobExecutionId(datImpCompletedEventPayload.getJobExecutionId(), 1, 1, TENANT_ID);
+      jobExecutionService.getJobExecutionById(datImpCompletedEventPayload.getJobExecutionId(), TENANT_ID)
+        .onComplete(jobAr -> {
+          context.assertTrue(jobAr.succeeded());
+          context.assertEquals(ERROR, jobAr.result().get().getStatus());
+          async.complete();
+        });
+    });
+  }
+
+  @Test
+  public void shouldFlushAccumulatedProgressWithoutWaitingForIntervalWhenLoadLimitReached(TestContext context) {
+    // given
+    Async async = context.async();
+    ReflectionTestUtils.setField(recordProcessedEventHandlingService, "progressFlushThreshold", 100);
+    ReflectionTestUtils.setField(recordProcessedEventHandlingService, "progressFlushIntervalMs", 60000L);
+    ReflectionTestUtils.setField(recordProcessedEventHandlingService, "loadLimit", 2);
+    RawRecordsDto rawRecordsDto = new RawRecordsDto()
+      .withInitialRecords(Collections.singletonList(new InitialRecord().withRecord(CORRECT_RAW_RECORD)))
+      .withRecordsMetadata(new RecordsMetadata()
+        .withLast(true)
+        .withCounter(2)
+        .withTotal(2)
+        .withContentType(RecordsMetadata.ContentType.MARC_RAW));
+
+    DataImportEventPayload datImpErrorEventPayload = new DataImportEventPayload()
+      .withEventType(DataImportEventTypes.DI_ERROR.value())
+      .withContext(new HashMap<>());
+
+    DataImportEventPayload datImpCompletedEventPayload = new DataImportEventPayload()
+      .withEventType(DataImportEventTypes.DI_COMPLETED.value())
+      .withContext(new HashMap<>());
+
+    Future<Boolean> future = jobExecutionService.initializeJobExecutions(initJobExecutionsRqDto, params)
+      .compose(initJobExecutionsRsDto -> jobExecutionService.setJobProfileToJobExecution(initJobExecutionsRsDto.getParentJobExecutionId(), jobProfileInfo, params))
+      .map(jobExecution -> {
+        datImpErrorEventPayload.withJobExecutionId(jobExecution.getId());
+        return datImpCompletedEventPayload.withJobExecutionId(jobExecution.getId());
+      })
+      .compose(ar -> chunkProcessingService.processChunk(rawRecordsDto, datImpErrorEventPayload.getJobExecutionId(), params));
+
+    // when
+    Future<JobExecutionProgress> progressFuture = future
+      .compose(ar -> CompositeFuture.all(
+        recordProcessedEventHandlingService.handle(Json.encode(datImpErrorEventPayload), params),
+        recordProcessedEventHandlingService.handle(Json.encode(datImpCompletedEventPayload), params)))
+      .compose(ar -> jobExecutionProgressService.getByJobExecutionId(datImpCompletedEventPayload.getJobExecutionId(), TENANT_ID));
+
+    // then
+    progressFuture.onComplete(ar -> {
+      context.assertTrue(ar.succeeded());
+      context.assertEquals(1, ar.result().getCurrentlySucceeded());
+      context.assertEquals(1, ar.result().getCurrentlyFailed());
+      Mockito.verify(jobExecutionProgressDao).updateCountersByJobExecutionId(datImpCompletedEventPayload.getJobExecutionId(), 1, 1, TENANT_ID);
+      jobExecutionService.getJobExecutionById(datImpCompletedEventPayload.getJobExecutionId(), TENANT_ID)
+        .onComplete(jobAr -> {
+          context.assertTrue(jobAr.succeeded());
+          context.assertEquals(ERROR, jobAr.result().get().getStatus());
+          async.complete();
+        });
+    });
+  }
 }
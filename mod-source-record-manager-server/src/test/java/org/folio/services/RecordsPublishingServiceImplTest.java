@@ -0,0 +1,203 @@
+package org.folio.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.kafka.client.producer.KafkaHeader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import org.folio.dataimport.util.OkapiConnectionParams;
+import org.folio.kafka.KafkaConfig;
+import org.folio.rest.jaxrs.model.JobExecution;
+import org.folio.rest.jaxrs.model.ParsedRecord;
+import org.folio.rest.jaxrs.model.ProfileSnapshotWrapper;
+import org.folio.rest.jaxrs.model.RawRecord;
+import org.folio.rest.jaxrs.model.Record;
+import org.folio.services.exceptions.RecordsPublishingException;
+import org.folio.services.util.EventHandlingUtil;
+import org.folio.services.util.KafkaProducerRegistry;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RecordsPublishingServiceImplTest {
+
+  private static final String TENANT_ID = "diku";
+  private static final String EVENT_TYPE = "DI_INCOMING_MARC_BIB_RECORD_PARSED";
+
+  @Mock
+  private JobExecutionService jobExecutionService;
+  @Mock
+  private DataImportPayloadContextBuilder payloadContextBuilder;
+  @Mock
+  private KafkaProducerRegistry kafkaProducerRegistry;
+
+  private Vertx vertx;
+  private OkapiConnectionParams params;
+  private JobExecution jobExecution;
+  private RecordsPublishingServiceImpl recordsPublishingService;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    Map<String, String> headers = new HashMap<>();
+    headers.put("x-okapi-tenant", TENANT_ID);
+    params = new OkapiConnectionParams(headers, vertx);
+    jobExecution = new JobExecution()
+      .withId(UUID.randomUUID().toString())
+      .withJobProfileSnapshotWrapper(new ProfileSnapshotWrapper()
+        .withId(UUID.randomUUID().toString())
+        .withContentType(ProfileSnapshotWrapper.ContentType.JOB_PROFILE)
+        .withChildSnapshotWrappers(Collections.singletonList(new ProfileSnapshotWrapper()
+          .withId(UUID.randomUUID().toString())
+          .withContentType(ProfileSnapshotWrapper.ContentType.ACTION_PROFILE))));
+
+    when(jobExecutionService.getCachedJobExecutionById(jobExecution.getId(), TENANT_ID))
+      .thenReturn(Future.succeededFuture(Optional.of(jobExecution)));
+    when(payloadContextBuilder.buildFrom(any(Record.class), anyString())).thenReturn(new HashMap<>());
+
+    recordsPublishingService = new RecordsPublishingServiceImpl(jobExecutionService, payloadContextBuilder,
+      KafkaConfig.builder().envId("env").build(), new JobProfileSnapshotCache(100, 60), kafkaProducerRegistry);
+    ReflectionTestUtils.setField(recordsPublishingService, "maxDistributionNum", 100);
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  public void shouldNotExceedMaxInFlightEvents() {
+    ReflectionTestUtils.setField(recordsPublishingService, "maxInFlightEvents", 3);
+    List<Record> records = buildRecords(10);
+    Deque<Promise<Boolean>> pendingWrites = new ArrayDeque<>();
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+
+    try (MockedStatic<EventHandlingUtil> mocked = mockSendEventToKafka(recordId -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      Promise<Boolean> promise = Promise.promise();
+      pendingWrites.add(promise);
+      return promise.future();
+    }, new ArrayList<>())) {
+      Future<Boolean> future = recordsPublishingService.sendEventsWithRecords(records, jobExecution.getId(), params, EVENT_TYPE);
+
+      while (!pendingWrites.isEmpty()) {
+        assertThat(future.isComplete(), equalTo(false));
+        inFlight.decrementAndGet();
+        pendingWrites.pollLast().complete(true);
+      }
+
+      assertThat(future.succeeded(), equalTo(true));
+      assertThat(maxInFlight.get(), equalTo(3));
+      mocked.verify(() -> EventHandlingUtil.sendEventToKafka(any(), any(), any(), any(), any(), any(), any()), Mockito.times(10));
+    }
+  }
+
+  @Test
+  public void shouldSendAllRecordsInOrderWhenRecordsNumberIsNotMultipleOfWindow() {
+    ReflectionTestUtils.setField(recordsPublishingService, "maxInFlightEvents", 4);
+    List<Record> records = buildRecords(10);
+    Deque<Promise<Boolean>> pendingWrites = new ArrayDeque<>();
+    List<String> sentRecordIds = new ArrayList<>();
+
+    try (MockedStatic<EventHandlingUtil> mocked = mockSendEventToKafka(recordId -> {
+      Promise<Boolean> promise = Promise.promise();
+      pendingWrites.add(promise);
+      return promise.future();
+    }, sentRecordIds)) {
+      Future<Boolean> future = recordsPublishingService.sendEventsWithRecords(records, jobExecution.getId(), params, EVENT_TYPE);
+
+      while (!pendingWrites.isEmpty()) {
+        pendingWrites.poll().complete(true);
+      }
+
+      assertThat(future.succeeded(), equalTo(true));
+      assertThat(sentRecordIds, contains(records.stream().map(Record::getId).toArray()));
+    }
+  }
+
+  @Test
+  public void shouldFailWithOnlyFailedRecordsAndPublishOthers() {
+    ReflectionTestUtils.setField(recordsPublishingService, "maxInFlightEvents", 2);
+    List<Record> records = buildRecords(5);
+    Set<String> failingRecordIds = Set.of(records.get(1).getId(), records.get(3).getId());
+    List<String> sentRecordIds = new ArrayList<>();
+
+    try (MockedStatic<EventHandlingUtil> mocked = mockSendEventToKafka(recordId -> failingRecordIds.contains(recordId)
+      ? Future.failedFuture(new RuntimeException("Kafka is unavailable"))
+      : Future.succeededFuture(true), sentRecordIds)) {
+      Future<Boolean> future = recordsPublishingService.sendEventsWithRecords(records, jobExecution.getId(), params, EVENT_TYPE);
+
+      assertThat(future.failed(), equalTo(true));
+      assertThat(future.cause(), instanceOf(RecordsPublishingException.class));
+      List<Record> failedRecords = ((RecordsPublishingException) future.cause()).getFailedRecords();
+      assertThat(failedRecords.stream().map(Record::getId).collect(Collectors.toList()),
+        containsInAnyOrder(failingRecordIds.toArray()));
+      failedRecords.forEach(record -> {
+        assertThat(record.getErrorRecord(), notNullValue());
+        assertThat(record.getErrorRecord().getDescription(), equalTo("Kafka is unavailable"));
+      });
+      assertThat(sentRecordIds, contains(records.stream().map(Record::getId).toArray()));
+    }
+  }
+
+  private MockedStatic<EventHandlingUtil> mockSendEventToKafka(Function<String, Future<Boolean>> sendingResult,
+                                                             List<String> sentRecordIds) {
+    MockedStatic<EventHandlingUtil> mocked = Mockito.mockStatic(EventHandlingUtil.class);
+    mocked.when(() -> EventHandlingUtil.sendEventToKafka(any(), any(), any(), any(), any(), any(), any()))
+      .thenAnswer((Answer<Future<Boolean>>) invocation -> {
+        List<KafkaHeader> kafkaHeaders = invocation.getArgument(3);
+        String recordId = kafkaHeaders.stream()
+          .filter(header -> RecordsPublishingServiceImpl.RECORD_ID_HEADER.equals(header.key()))
+          .map(header -> header.value().toString())
+          .findFirst()
+          .orElse(null);
+        sentRecordIds.add(recordId);
+        return sendingResult.apply(recordId);
+      });
+    return mocked;
+  }
+
+  private List<Record> buildRecords(int number) {
+    return IntStream.range(0, number)
+      .mapToObj(i -> new Record()
+        .withId(UUID.randomUUID().toString())
+        .withSnapshotId(jobExecution.getId())
+        .withRawRecord(new RawRecord().withContent("raw record " + i))
+        .withParsedRecord(new ParsedRecord().withContent("{\"leader\":\"01240cas a2200397   4500\"}")))
+      .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,32 @@
+package org.folio.services;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class VerifiedMarcBibIdsCacheTest {
+
+  private static final String TENANT_ID = "diku";
+
+  private final VerifiedMarcBibIdsCache verifiedMarcBibIdsCache = new VerifiedMarcBibIdsCache(100, 30, 60);
+
+  @Test
+  public void shouldReturnVerificationResultPerTenant() {
+    verifiedMarcBibIdsCache.putVerificationResult(TENANT_ID, List.of("in00000001", "in00000002"), Set.of("in00000002"));
+
+    Assert.assertEquals(Boolean.TRUE, verifiedMarcBibIdsCache.isValid(TENANT_ID, "in00000001"));
+    Assert.assertEquals(Boolean.FALSE, verifiedMarcBibIdsCache.isValid(TENANT_ID, "in00000002"));
+    Assert.assertNull(verifiedMarcBibIdsCache.isValid(TENANT_ID, "in00000003"));
+    Assert.assertNull(verifiedMarcBibIdsCache.isValid("other_tenant", "in00000001"));
+  }
+
+  @Test
+  public void shouldReplacePreviousVerificationResult() {
+    verifiedMarcBibIdsCache.putVerificationResult(TENANT_ID, List.of("in00000001"), Set.of("in00000001"));
+    verifiedMarcBibIdsCache.putVerificationResult(TENANT_ID, List.of("in00000001"), Set.of());
+
+    Assert.assertEquals(Boolean.TRUE, verifiedMarcBibIdsCache.isValid(TENANT_ID, "in00000001"));
+  }
+}
@@ -275,4 +275,29 @@ public class AdditionalFieldsUtilTest {
     Assert.assertTrue(added);
     Assert.assertEquals(expectedParsedContent, parsedRecord.getContent());
   }
+
+  @Test
+  public void shouldApplySeveralChangesAndWriteRecordOnce() {
+    // given
+    String parsedContent = "{\"leader\":\"00115nam  22000731a 4500\",\"fields\":[{\"001\":\"ybp7406411\"},{\"507\":{\"subfields\":[{\"a\":\"data\"}],\"ind1\":\" \",\"ind2\":\" \"}},{\"500\":{\"subfields\":[{\"a\":\"data\"}],\"ind1\":\" \",\"ind2\":\" \"}}]}";
+    String expectedParsedContent = "{\"leader\":\"00147nam  22000851a 4500\",\"fields\":[{\"001\":\"ybp7406411\"},{\"035\":{\"subfields\":[{\"a\":\"ybp7406411\"}],\"ind1\":\" \",\"ind2\":\" \"}},{\"507\":{\"subfields\":[{\"a\":\"data\"}],\"ind1\":\" \",\"ind2\":\" \"}},{\"500\":{\"subfields\":[{\"a\":\"data\"}],\"ind1\":\" \",\"ind2\":\" \"}},{\"999\":{\"subfields\":[{\"s\":\"12345\"},{\"i\":\"67890\"}],\"ind1\":\"f\",\"ind2\":\"f\"}}]}";
+    ParsedRecord parsedRecord = new ParsedRecord().withContent(parsedContent);
+    Record record = new Record().withId(UUID.randomUUID().toString()).withParsedRecord(parsedRecord);
+    // when
+    org.marc4j.marc.Record marcRecord = AdditionalFieldsUtil.readMarcRecord(record);
+    Assert.assertNotNull(marcRecord);
+    AdditionalFieldsUtil.addDataFieldToMarcRecord(marcRecord, "035", ' ', ' ', 'a', AdditionalFieldsUtil.getControlFieldValue(marcRecord, "001"));
+    AdditionalFieldsUtil.addFieldToMarcRecord(marcRecord, AdditionalFieldsUtil.TAG_999, 's', "12345");
+    AdditionalFieldsUtil.addFieldToMarcRecord(marcRecord, AdditionalFieldsUtil.TAG_999, 'i', "67890");
+    // then
+    Assert.assertEquals(parsedContent, record.getParsedRecord().getContent());
+    Assert.assertTrue(AdditionalFieldsUtil.writeMarcRecord(record, marcRecord));
+    Assert.assertEquals(expectedParsedContent, record.getParsedRecord().getContent());
+  }
+
+  @Test
+  public void shouldReturnNullMarcRecordIfCanNotReadParsedContent() {
+    Record record = new Record().withParsedRecord(new ParsedRecord().withContent("{fake-record}"));
+    Assert.assertNull(AdditionalFieldsUtil.readMarcRecord(record));
+  }
 }
@@ -0,0 +1,46 @@
+package org.folio.services.parsers;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.xlate.edi.stream.EDIStreamEvent;
+import io.xlate.edi.stream.EDIStreamReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EdifactRecordParserTest {
+
+  @Test
+  public void shouldFailWhenDataElementComesBeforeSegment() throws Exception {
+    EDIStreamReader reader = mock(EDIStreamReader.class);
+    when(reader.hasNext()).thenReturn(true, false);
+    when(reader.next()).thenReturn(EDIStreamEvent.ELEMENT_DATA);
+    when(reader.getText()).thenReturn("380");
+
+    try (JsonGenerator generator = new JsonFactory().createGenerator(new StringWriter())) {
+      EdifactRecordParser.SegmentsWriter segmentsWriter = new EdifactRecordParser.SegmentsWriter(generator);
+
+      IllegalStateException e = Assert.assertThrows(IllegalStateException.class,
+        () -> segmentsWriter.write(reader, new ArrayList<>()));
+      Assert.assertEquals("Data element '380' is found outside of a segment", e.getMessage());
+    }
+  }
+
+  @Test
+  public void shouldFailWhenCompositeComesBeforeSegment() throws Exception {
+    EDIStreamReader reader = mock(EDIStreamReader.class);
+    when(reader.hasNext()).thenReturn(true, false);
+    when(reader.next()).thenReturn(EDIStreamEvent.START_COMPOSITE);
+
+    try (JsonGenerator generator = new JsonFactory().createGenerator(new StringWriter())) {
+      EdifactRecordParser.SegmentsWriter segmentsWriter = new EdifactRecordParser.SegmentsWriter(generator);
+
+      Assert.assertThrows(IllegalStateException.class, () -> segmentsWriter.write(reader, new ArrayList<>()));
+    }
+  }
+}
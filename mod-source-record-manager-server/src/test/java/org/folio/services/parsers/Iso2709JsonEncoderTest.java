@@ -0,0 +1,159 @@
+package org.folio.services.parsers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+import org.marc4j.MarcJsonWriter;
+import org.marc4j.MarcStreamReader;
+
+public class Iso2709JsonEncoderTest {
+
+  private static final String SUBFIELD_DELIMITER = "\u001F";
+  private static final byte FIELD_TERMINATOR = 0x1E;
+  private static final byte RECORD_TERMINATOR = 0x1D;
+
+  @Test
+  public void shouldEncodeFieldsOutOfOrderSameWayAsMarc4j() throws IOException {
+    byte[] rawRecord = buildRawRecord(Arrays.asList(
+      dataField("245", "10", "aMozart"),
+      controlField("008", "830419m19559999gw mua   hiz   n    lat  "),
+      dataField("650", " 7", "aMusic", "0(OCoLC)fst00974414"),
+      controlField("001", "393893"),
+      dataField("035", "  ", "a(OCoLC)1234"),
+      controlField("005", "20141107001016.0")));
+
+    JsonObject encodedRecord = assertEncodedSameWayAsMarc4j(rawRecord);
+
+    JsonArray fields = encodedRecord.getJsonArray("fields");
+    Assert.assertEquals(Arrays.asList("001", "008", "005", "245", "650", "035"), getTags(fields));
+  }
+
+  @Test
+  public void shouldEncodeRepeatedTagsSameWayAsMarc4j() throws IOException {
+    byte[] rawRecord = buildRawRecord(Arrays.asList(
+      controlField("001", "393893"),
+      controlField("007", "sd fsngnnmmned"),
+      controlField("007", "cr |||||||||||"),
+      dataField("035", "  ", "a(OCoLC)1234"),
+      dataField("035", "  ", "a(DLC)5678"),
+      dataField("245", "10", "aMozart"),
+      dataField("650", " 0", "aMusic"),
+      dataField("650", " 0", "aOperas", "vScores"),
+      dataField("650", " 7", "aMusic", "2fast")));
+
+    JsonObject encodedRecord = assertEncodedSameWayAsMarc4j(rawRecord);
+
+    Assert.assertEquals(Arrays.asList("001", "007", "007", "035", "035", "245", "650", "650", "650"),
+      getTags(encodedRecord.getJsonArray("fields")));
+  }
+
+  @Test
+  public void shouldEncodeEmptySubfieldsSameWayAsMarc4j() throws IOException {
+    byte[] rawRecord = buildRawRecord(Arrays.asList(
+      controlField("001", "393893"),
+      dataField("100", "1 ", "a"),
+      dataField("245", "10", "a", "bTitle", "c")));
+
+    JsonObject encodedRecord = assertEncodedSameWayAsMarc4j(rawRecord);
+
+    JsonArray subfields = encodedRecord.getJsonArray("fields").getJsonObject(2)
+      .getJsonObject("245").getJsonArray("subfields");
+    Assert.assertEquals("", subfields.getJsonObject(0).getString("a"));
+    Assert.assertEquals("Title", subfields.getJsonObject(1).getString("b"));
+    Assert.assertEquals("", subfields.getJsonObject(2).getString("c"));
+  }
+
+  @Test
+  public void shouldUseByteLengthsAndOffsetsForMultibyteContent() throws IOException {
+    String title = "Ελληνικά 日本語 🎵";
+    String name = "Dvořák, Antonín";
+    Assert.assertNotEquals(title.length(), title.getBytes(StandardCharsets.UTF_8).length);
+
+    byte[] rawRecord = buildRawRecord(Arrays.asList(
+      controlField("001", "393893"),
+      dataField("100", "1 ", "a" + name),
+      dataField("245", "10", "a" + title, "cÅström"),
+      dataField("650", " 0", "aMusic")));
+
+    JsonObject encodedRecord = assertEncodedSameWayAsMarc4j(rawRecord);
+
+    JsonArray fields = encodedRecord.getJsonArray("fields");
+    Assert.assertEquals(name, fields.getJsonObject(1).getJsonObject("100").getJsonArray("subfields").getJsonObject(0).getString("a"));
+    Assert.assertEquals(title, fields.getJsonObject(2).getJsonObject("245").getJsonArray("subfields").getJsonObject(0).getString("a"));
+    Assert.assertEquals("Åström", fields.getJsonObject(2).getJsonObject("245").getJsonArray("subfields").getJsonObject(1).getString("c"));
+    Assert.assertEquals("Music", fields.getJsonObject(3).getJsonObject("650").getJsonArray("subfields").getJsonObject(0).getString("a"));
+  }
+
+  private JsonObject assertEncodedSameWayAsMarc4j(byte[] rawRecord) throws IOException {
+    JsonObject expectedRecord = parseWithMarc4j(rawRecord);
+
+    String encodedRecord = Iso2709JsonEncoder.encode(rawRecord);
+
+    Assert.assertNotNull(encodedRecord);
+    Assert.assertEquals(expectedRecord.encode(), encodedRecord);
+    return new JsonObject(encodedRecord);
+  }
+
+  private JsonObject parseWithMarc4j(byte[] rawRecord) {
+    ByteArrayOutputStream jsonStream = new ByteArrayOutputStream();
+    MarcJsonWriter jsonWriter = new MarcJsonWriter(jsonStream);
+    jsonWriter.write(new MarcStreamReader(new ByteArrayInputStream(rawRecord), StandardCharsets.UTF_8.name()).next());
+    jsonWriter.close();
+    return new JsonObject(new String(jsonStream.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  private List<String> getTags(JsonArray fields) {
+    List<String> tags = new ArrayList<>();
+    for (int i = 0; i < fields.size(); i++) {
+      tags.add(fields.getJsonObject(i).fieldNames().iterator().next());
+    }
+    return tags;
+  }
+
+  private String[] controlField(String tag, String data) {
+    return new String[]{tag, data};
+  }
+
+  private String[] dataField(String tag, String indicators, String... subfields) {
+    StringBuilder data = new StringBuilder(indicators);
+    for (String subfield : subfields) {
+      data.append(SUBFIELD_DELIMITER).append(subfield);
+    }
+    return new String[]{tag, data.toString()};
+  }
+
+  /**
+   * Builds ISO 2709 record with directory lengths and offsets counted in bytes of UTF-8 encoded field data
+   */
+  private byte[] buildRawRecord(List<String[]> fields) throws IOException {
+    StringBuilder directory = new StringBuilder();
+    ByteArrayOutputStream dataArea = new ByteArrayOutputStream();
+    for (String[] field : fields) {
+      byte[] fieldData = field[1].getBytes(StandardCharsets.UTF_8);
+      directory.append(field[0])
+        .append(String.format("%04d", fieldData.length + 1))
+        .append(String.format("%05d", dataArea.size()));
+      dataArea.write(fieldData);
+      dataArea.write(FIELD_TERMINATOR);
+    }
+
+    int baseAddress = 24 + directory.length() + 1;
+    int recordLength = baseAddress + dataArea.size() + 1;
+    ByteArrayOutputStream rawRecord = new ByteArrayOutputStream();
+    rawRecord.write(String.format("%05dnam a22%05d a 4500", recordLength, baseAddress).getBytes(StandardCharsets.US_ASCII));
+    rawRecord.write(directory.toString().getBytes(StandardCharsets.US_ASCII));
+    rawRecord.write(FIELD_TERMINATOR);
+    rawRecord.write(dataArea.toByteArray());
+    rawRecord.write(RECORD_TERMINATOR);
+    return rawRecord.toByteArray();
+  }
+}
@@ -0,0 +1,119 @@
+package org.folio.services.parsers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.Assert;
+import org.junit.Test;
+import org.marc4j.MarcJsonWriter;
+import org.marc4j.MarcXmlReader;
+
+public class MarcXmlJsonEncoderTest {
+
+  private static final String LEADER = "<marc:leader>01142cam a2200301 a 4500</marc:leader>";
+  private static final String CONTROL_NUMBER = "<marc:controlfield tag=\"001\">393893</marc:controlfield>";
+  private static final String TITLE = "<marc:datafield tag=\"245\" ind1=\"1\" ind2=\"0\">"
+    + "<marc:subfield code=\"a\">Neue Ausgabe sämtlicher Werke</marc:subfield>"
+    + "</marc:datafield>";
+
+  @Test
+  public void shouldEncodeRepeatedControlFieldsSameWayAsMarc4j() {
+    String xmlRecord = buildXmlRecord(LEADER, CONTROL_NUMBER,
+      "<marc:controlfield tag=\"007\">sd fsngnnmmned</marc:controlfield>",
+      "<marc:controlfield tag=\"007\">cr |||||||||||</marc:controlfield>",
+      TITLE);
+
+    String encodedRecord = MarcXmlJsonEncoder.encode(xmlRecord);
+
+    Assert.assertNotNull(encodedRecord);
+    Assert.assertEquals(parseWithMarc4j(xmlRecord).encode(), encodedRecord);
+  }
+
+  @Test
+  public void shouldFallBackToMarc4jWhenControlNumberIsRepeated() {
+    String xmlRecord = buildXmlRecord(LEADER, CONTROL_NUMBER,
+      "<marc:controlfield tag=\"001\">393894</marc:controlfield>",
+      TITLE);
+
+    assertParsedByMarc4j(xmlRecord);
+  }
+
+  @Test
+  public void shouldFallBackToMarc4jWhenRecordContainsUnexpectedElement() {
+    String xmlRecord = buildXmlRecord(LEADER, CONTROL_NUMBER,
+      "<marc:note>cataloger note</marc:note>",
+      TITLE);
+
+    assertParsedByMarc4j(xmlRecord);
+  }
+
+  @Test
+  public void shouldFallBackToMarc4jWhenRecordContainsElementOfUnexpectedNamespace() {
+    String xmlRecord = buildXmlRecord(LEADER, CONTROL_NUMBER,
+      "<dc:title xmlns:dc=\"http://purl.org/dc/elements/1.1/\">Neue Ausgabe</dc:title>",
+      TITLE);
+
+    assertParsedByMarc4j(xmlRecord);
+  }
+
+  @Test
+  public void shouldFallBackToMarc4jWhenLeaderIsIrregular() {
+    String xmlRecord = buildXmlRecord("<marc:leader>0114Xcam a2200301 a 4500</marc:leader>", CONTROL_NUMBER, TITLE);
+
+    assertParsedByMarc4j(xmlRecord);
+  }
+
+  @Test
+  public void shouldRejectRecordWithExternalEntity() throws IOException {
+    File secretFile = File.createTempFile("secret", ".txt");
+    secretFile.deleteOnExit();
+    Files.write(secretFile.toPath(), "top secret".getBytes(StandardCharsets.UTF_8));
+    String xmlRecord = "<?xml version=\"1.0\"?>"
+      + "<!DOCTYPE marc:record [<!ENTITY secret SYSTEM \"" + secretFile.toURI() + "\">]>"
+      + buildXmlRecord(LEADER, CONTROL_NUMBER,
+      "<marc:datafield tag=\"500\" ind1=\" \" ind2=\" \"><marc:subfield code=\"a\">&secret;</marc:subfield></marc:datafield>");
+
+    Assert.assertThrows(MarcXmlJsonEncoder.DoctypeNotAllowedException.class, () -> MarcXmlJsonEncoder.encode(xmlRecord));
+
+    ParsedResult result = new XmlRecordParser().parseRecord(xmlRecord);
+    Assert.assertTrue(result.isHasError());
+    Assert.assertNull(result.getParsedRecord());
+    Assert.assertFalse(result.getErrors().encode().contains("top secret"));
+  }
+
+  @Test
+  public void shouldRejectRecordWithDoctype() {
+    String xmlRecord = "<!DOCTYPE marc:record>" + buildXmlRecord(LEADER, CONTROL_NUMBER, TITLE);
+
+    ParsedResult result = new XmlRecordParser().parseRecord(xmlRecord);
+
+    Assert.assertTrue(result.isHasError());
+    Assert.assertEquals(MarcXmlJsonEncoder.DoctypeNotAllowedException.class.getName(), result.getErrors().getString("name"));
+  }
+
+  private void assertParsedByMarc4j(String xmlRecord) {
+    Assert.assertNull(MarcXmlJsonEncoder.encode(xmlRecord));
+
+    ParsedResult result = new XmlRecordParser().parseRecord(xmlRecord);
+
+    Assert.assertFalse(result.isHasError());
+    Assert.assertEquals(parseWithMarc4j(xmlRecord), result.getParsedRecord());
+  }
+
+  private JsonObject parseWithMarc4j(String xmlRecord) {
+    ByteArrayOutputStream jsonStream = new ByteArrayOutputStream();
+    MarcJsonWriter jsonWriter = new MarcJsonWriter(jsonStream);
+    jsonWriter.write(new MarcXmlReader(new ByteArrayInputStream(xmlRecord.getBytes(StandardCharsets.UTF_8))).next());
+    jsonWriter.close();
+    return new JsonObject(new String(jsonStream.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  private String buildXmlRecord(String... elements) {
+    return "<marc:record xmlns:marc=\"http://www.loc.gov/MARC21/slim\">" + String.join("", elements) + "</marc:record>";
+  }
+}
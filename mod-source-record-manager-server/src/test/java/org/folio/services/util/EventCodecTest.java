@@ -0,0 +1,39 @@
+package org.folio.services.util;
+
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import org.folio.DataImportEventPayload;
+import org.folio.rest.jaxrs.model.Event;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.UUID;
+
+public class EventCodecTest {
+
+  @Test
+  public void shouldDecodeEventAndDataImportEventPayload() {
+    String jobExecutionId = UUID.randomUUID().toString();
+    DataImportEventPayload payload = new DataImportEventPayload()
+      .withEventType("DI_COMPLETED")
+      .withJobExecutionId(jobExecutionId)
+      .withContext(new HashMap<>());
+    Event event = new Event()
+      .withId(UUID.randomUUID().toString())
+      .withEventType("DI_COMPLETED")
+      .withEventPayload(Json.encode(payload));
+
+    Event decodedEvent = EventCodec.decodeEvent(Json.encode(event));
+    DataImportEventPayload decodedPayload = EventCodec.decodeDataImportEventPayload(decodedEvent.getEventPayload());
+
+    assertEquals(event.getId(), decodedEvent.getId());
+    assertEquals(jobExecutionId, decodedPayload.getJobExecutionId());
+    assertEquals("DI_COMPLETED", decodedPayload.getEventType());
+  }
+
+  @Test(expected = DecodeException.class)
+  public void shouldThrowDecodeExceptionOnInvalidJson() {
+    EventCodec.decodeEvent("{invalid");
+  }
+}
@@ -0,0 +1,143 @@
+package org.folio.services.util;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.kafka.client.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.folio.kafka.KafkaConfig;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+@RunWith(VertxUnitRunner.class)
+public class KafkaProducerRegistryTest {
+
+  private static final String EVENT_TYPE = "DI_RAW_RECORDS_CHUNK_PARSED";
+  private static final String OTHER_EVENT_TYPE = "DI_ERROR";
+
+  private Vertx vertx;
+  private KafkaConfig kafkaConfig;
+  private KafkaProducerRegistry producerRegistry;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+    kafkaConfig = KafkaConfig.builder()
+      .kafkaHost("localhost")
+      .kafkaPort("9092")
+      .envId("test-env")
+      .build();
+    producerRegistry = new KafkaProducerRegistry("10", "1024", "gzip");
+  }
+
+  @After
+  public void tearDown(TestContext testContext) {
+    producerRegistry.closeAll()
+      .onComplete(ar -> vertx.close(testContext.asyncAssertSuccess()));
+  }
+
+  @Test
+  public void shouldCombineKafkaConfigPropsWithBatchingProps() {
+    Map<String, String> producerProps = producerRegistry.getProducerProps(kafkaConfig);
+
+    Assert.assertEquals("10", producerProps.get(ProducerConfig.LINGER_MS_CONFIG));
+    Assert.assertEquals("1024", producerProps.get(ProducerConfig.BATCH_SIZE_CONFIG));
+    Assert.assertEquals("gzip", producerProps.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+    Assert.assertTrue(producerProps.containsKey(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG));
+  }
+
+  @Test
+  public void shouldReuseProducerForSameContextAndEventType(TestContext testContext) {
+    Async async = testContext.async();
+    vertx.getOrCreateContext().runOnContext(v -> {
+      KafkaProducer<String, String> producer = producerRegistry.getProducer(EVENT_TYPE, kafkaConfig);
+
+      testContext.assertNotNull(producer);
+      testContext.assertTrue(producer == producerRegistry.getProducer(EVENT_TYPE, kafkaConfig));
+      testContext.assertFalse(producer == producerRegistry.getProducer(OTHER_EVENT_TYPE, kafkaConfig));
+      async.complete();
+    });
+  }
+
+  @Test
+  public void shouldCreateSeparateProducersForDifferentContexts(TestContext testContext) {
+    Async async = testContext.async();
+    Context firstContext = vertx.getOrCreateContext();
+    Context secondContext = vertx.getOrCreateContext();
+    AtomicReference<KafkaProducer<String, String>> firstProducer = new AtomicReference<>();
+
+    firstContext.runOnContext(v -> {
+      firstProducer.set(producerRegistry.getProducer(EVENT_TYPE, kafkaConfig));
+
+      secondContext.runOnContext(v2 -> {
+        KafkaProducer<String, String> secondProducer = producerRegistry.getProducer(EVENT_TYPE, kafkaConfig);
+        testContext.assertNotNull(secondProducer);
+        testContext.assertFalse(firstProducer.get() == secondProducer);
+        async.complete();
+      });
+    });
+  }
+
+  @Test
+  public void shouldCreateNewProducerAfterContextProducersClosed(TestContext testContext) {
+    Async async = testContext.async();
+    Context context = vertx.getOrCreateContext();
+
+    context.runOnContext(v -> {
+      KafkaProducer<String, String> producer = producerRegistry.getProducer(EVENT_TYPE, kafkaConfig);
+
+      producerRegistry.closeProducers(context).onComplete(testContext.asyncAssertSuccess(ar ->
+        context.runOnContext(v2 -> {
+          testContext.assertFalse(producer == producerRegistry.getProducer(EVENT_TYPE, kafkaConfig));
+          async.complete();
+        })));
+    });
+  }
+
+  @Test
+  public void shouldCloseProducersOfAllContexts(TestContext testContext) {
+    Async async = testContext.async();
+    Context firstContext = vertx.getOrCreateContext();
+    Context secondContext = vertx.getOrCreateContext();
+    AtomicReference<KafkaProducer<String, String>> firstProducer = new AtomicReference<>();
+
+    firstContext.runOnContext(v -> {
+      firstProducer.set(producerRegistry.getProducer(EVENT_TYPE, kafkaConfig));
+
+      secondContext.runOnContext(v2 -> {
+        KafkaProducer<String, String> secondProducer = producerRegistry.getProducer(EVENT_TYPE, kafkaConfig);
+
+        producerRegistry.closeAll().onComplete(testContext.asyncAssertSuccess(ar ->
+          firstContext.runOnContext(v3 -> {
+            testContext.assertFalse(firstProducer.get() == producerRegistry.getProducer(EVENT_TYPE, kafkaConfig));
+            secondContext.runOnContext(v4 -> {
+              testContext.assertFalse(secondProducer == producerRegistry.getProducer(EVENT_TYPE, kafkaConfig));
+              async.complete();
+            });
+          })));
+      });
+    });
+  }
+
+  @Test
+  public void shouldSucceedClosingContextWithoutProducers(TestContext testContext) {
+    producerRegistry.closeProducers(vertx.getOrCreateContext())
+      .onComplete(testContext.asyncAssertSuccess());
+  }
+
+  @Test
+  public void shouldFailToGetProducerOutsideOfVertxContext() {
+    IllegalStateException e = Assert.assertThrows(IllegalStateException.class,
+      () -> producerRegistry.getProducer(EVENT_TYPE, kafkaConfig));
+
+    Assert.assertTrue(e.getMessage().contains(EVENT_TYPE));
+  }
+}
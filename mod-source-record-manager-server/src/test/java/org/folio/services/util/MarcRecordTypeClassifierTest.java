@@ -0,0 +1,34 @@
+package org.folio.services.util;
+
+import org.folio.dataimport.util.marc.MarcRecordType;
+import org.folio.services.parsers.ParsedResult;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MarcRecordTypeClassifierTest {
+
+  @Test
+  public void shouldClassifyRecordByTypeOfRecordCode() {
+    assertEquals(MarcRecordType.BIB, MarcRecordTypeClassifier.classify("01240cas a2200397   4500"));
+    assertEquals(MarcRecordType.BIB, MarcRecordTypeClassifier.classify("01542ccm a2200361   4500"));
+    assertEquals(MarcRecordType.HOLDING, MarcRecordTypeClassifier.classify("00182cx  a22000851  4500"));
+    assertEquals(MarcRecordType.AUTHORITY, MarcRecordTypeClassifier.classify("01016cz  a2200241n  4500"));
+    assertEquals(MarcRecordType.NA, MarcRecordTypeClassifier.classify("01016cb  a2200241n  4500"));
+    assertEquals(MarcRecordType.NA, MarcRecordTypeClassifier.classify("0101"));
+    assertEquals(MarcRecordType.NA, MarcRecordTypeClassifier.classify(null));
+  }
+
+  @Test
+  public void shouldClassifyParsedRecordByLeader() {
+    ParsedResult encodedResult = new ParsedResult();
+    encodedResult.setEncodedParsedRecord("{\"leader\":\"00182cx  a22000851  4500\",\"fields\":[]}");
+    ParsedResult escapedLeaderResult = new ParsedResult();
+    escapedLeaderResult.setEncodedParsedRecord("{\"leader\":\"01016cz  a2200241n  450\\\"\",\"fields\":[]}");
+
+    assertEquals("00182cx  a22000851  4500", encodedResult.getLeader());
+    assertEquals(MarcRecordType.HOLDING, MarcRecordTypeClassifier.classify(encodedResult.getLeader()));
+    assertEquals("01016cz  a2200241n  450\"", escapedLeaderResult.getLeader());
+    assertEquals(MarcRecordType.AUTHORITY, MarcRecordTypeClassifier.classify(escapedLeaderResult.getLeader()));
+  }
+}
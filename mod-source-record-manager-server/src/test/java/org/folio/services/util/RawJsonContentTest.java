@@ -0,0 +1,85 @@
+package org.folio.services.util;
+
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import org.folio.rest.jaxrs.model.ParsedRecord;
+import org.folio.rest.jaxrs.model.Record;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RawJsonContentTest {
+
+  private static final String CONTENT = "{\"leader\":\"00115nam  22000731a 4500\",\"fields\":[{\"001\":\"ybp7406411\"}," +
+    "{\"245\":{\"subfields\":[{\"a\":\"The \\\"title\\\"\"}],\"ind1\":\"1\",\"ind2\":\"0\"}}]}";
+
+  @Test
+  public void shouldWriteContentAsJsonString() {
+    Record record = new Record()
+      .withParsedRecord(new ParsedRecord().withContent(new RawJsonContent(CONTENT)));
+
+    String encodedRecord = Json.encode(record);
+
+    assertEquals(Json.encode(new Record().withParsedRecord(new ParsedRecord().withContent(CONTENT))), encodedRecord);
+    Record decodedRecord = Json.decodeValue(encodedRecord, Record.class);
+    assertEquals(CONTENT, decodedRecord.getParsedRecord().getContent());
+    assertEquals(new JsonObject(CONTENT), ParsedRecordUtil.getParsedContent(decodedRecord.getParsedRecord()));
+  }
+
+  @Test
+  public void shouldConvertContentToJsonStringOnMapping() {
+    Record record = new Record()
+      .withParsedRecord(new ParsedRecord().withContent(new RawJsonContent(CONTENT)));
+
+    JsonObject recordJson = JsonObject.mapFrom(record);
+
+    assertEquals(CONTENT, recordJson.getJsonObject("parsedRecord").getString("content"));
+  }
+
+  @Test
+  public void shouldDecodeContentOnce() {
+    ParsedRecord parsedRecord = new ParsedRecord().withContent(new RawJsonContent(CONTENT));
+
+    JsonObject parsedContent = ParsedRecordUtil.getParsedContent(parsedRecord);
+
+    assertEquals(new JsonObject(CONTENT), parsedContent);
+    assertSame(parsedContent, ParsedRecordUtil.getParsedContent(parsedRecord));
+    assertEquals(CONTENT, ParsedRecordUtil.getParsedContentAsString(parsedRecord));
+    assertEquals("The \"title\"", ParsedRecordUtil.retrieveDataByField(parsedRecord, "245"));
+  }
+
+  @Test
+  public void shouldWriteContentAsJsonObjectWhenEnabled() {
+    Record record = new Record()
+      .withParsedRecord(new ParsedRecord().withContent(new RawJsonContent(CONTENT, true)));
+
+    String encodedRecord = Json.encode(record);
+
+    assertTrue(encodedRecord.contains("\"content\":" + CONTENT));
+    assertEquals(new JsonObject(CONTENT), new JsonObject(encodedRecord).getJsonObject("parsedRecord").getJsonObject("content"));
+    Record decodedRecord = Json.decodeValue(encodedRecord, Record.class);
+    assertEquals(new JsonObject(CONTENT), ParsedRecordUtil.getParsedContent(decodedRecord.getParsedRecord()));
+  }
+
+  @Test
+  public void shouldConvertContentToJsonObjectOnMappingWhenEnabled() {
+    Record record = new Record()
+      .withParsedRecord(new ParsedRecord().withContent(new RawJsonContent(CONTENT, true)));
+
+    JsonObject recordJson = JsonObject.mapFrom(record);
+
+    assertEquals(new JsonObject(CONTENT), recordJson.getJsonObject("parsedRecord").getJsonObject("content"));
+  }
+
+  @Test
+  public void shouldKeepWayOfWritingWhenContentIsReplaced() {
+    String replacedContent = new JsonObject(CONTENT).put("leader", "00116nam  22000731a 4500").encode();
+
+    RawJsonContent content = new RawJsonContent(CONTENT, true).withJson(replacedContent);
+
+    assertEquals(replacedContent, content.toString());
+    assertTrue(Json.encode(new ParsedRecord().withContent(content)).contains("\"content\":" + replacedContent));
+  }
+}
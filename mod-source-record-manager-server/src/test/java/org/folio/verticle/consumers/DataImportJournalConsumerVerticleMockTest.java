@@ -1,8 +1,11 @@
 package org.folio.verticle.consumers;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
@@ -44,6 +47,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -359,6 +363,112 @@ public class DataImportJournalConsumerVerticleMockTest extends AbstractRestTest
     assertTrue(future.cause() instanceof PgException);
   }
 
+  @Test
+  public void shouldSaveJournalRecordsOfSeveralEventsByOneBatch() {
+    // given
+    ReflectionTestUtils.setField(dataImportJournalKafkaHandler, "batchSize", 2);
+    ReflectionTestUtils.setField(dataImportJournalKafkaHandler, "batchWindowMs", 60000L);
+    ReflectionTestUtils.setField(dataImportJournalKafkaHandler, "loadLimit", 5);
+    Mockito.doAnswer(invocation -> {
+      Handler<AsyncResult<Void>> resultHandler = invocation.getArgument(2);
+      resultHandler.handle(Future.succeededFuture());
+      return null;
+    }).when(journalService).saveBatchWithResponse(any(JsonArray.class), eq(TENANT_ID), any());
+
+    DataImportEventPayload dataImportEventPayload = new DataImportEventPayload()
+      .withEventType(DI_INVENTORY_INSTANCE_CREATED.value())
+      .withJobExecutionId(jobExecution.getId())
+      .withContext(new HashMap<>() {{
+        put(INSTANCE.value(), recordJson.encode());
+        put(MARC_BIBLIOGRAPHIC.value(), recordJson.encode());
+      }})
+      .withOkapiUrl(OKAPI_URL)
+      .withTenant(TENANT_ID);
+
+    // when
+    Future<String> firstFuture = dataImportJournalKafkaHandler.handle(buildKafkaConsumerRecord(dataImportEventPayload));
+
+    // then
+    Assert.assertFalse(firstFuture.isComplete());
+    verify(journalService, never()).saveBatchWithResponse(any(JsonArray.class), anyString(), any());
+
+    // when
+    Future<String> secondFuture = dataImportJournalKafkaHandler.handle(buildKafkaConsumerRecord(dataImportEventPayload));
+
+    // then
+    ArgumentCaptor<JsonArray> journalRecordsCaptor = ArgumentCaptor.forClass(JsonArray.class);
+    verify(journalService).saveBatchWithResponse(journalRecordsCaptor.capture(), eq(TENANT_ID), any());
+    verify(journalService, never()).save(any(JsonObject.class), anyString());
+    Assert.assertEquals(2, journalRecordsCaptor.getValue().size());
+    Assert.assertEquals(EntityType.INSTANCE.value(), journalRecordsCaptor.getValue().getJsonObject(0).getString(ENTITY_TYPE_KEY));
+    assertTrue(firstFuture.succeeded());
+    assertTrue(secondFuture.succeeded());
+  }
+
+  @Test
+  public void shouldFailEventsWhenJournalRecordsBatchSavingFails() {
+    // given
+    ReflectionTestUtils.setField(dataImportJournalKafkaHandler, "batchSize", 2);
+    ReflectionTestUtils.setField(dataImportJournalKafkaHandler, "batchWindowMs", 60000L);
+    ReflectionTestUtils.setField(dataImportJournalKafkaHandler, "loadLimit", 5);
+    Mockito.doAnswer(invocation -> {
+      Handler<AsyncResult<Void>> resultHandler = invocation.getArgument(2);
+      resultHandler.handle(Future.failedFuture(new PgException("Connection timeout!", "ERROR", "ERROR", "ERROR")));
+      return null;
+    }).when(journalService).saveBatchWithResponse(any(JsonArray.class), eq(TENANT_ID), any());
+
+    DataImportEventPayload dataImportEventPayload = new DataImportEventPayload()
+      .withEventType(DI_INVENTORY_INSTANCE_CREATED.value())
+      .withJobExecutionId(jobExecution.getId())
+      .withContext(new HashMap<>() {{
+        put(INSTANCE.value(), recordJson.encode());
+        put(MARC_BIBLIOGRAPHIC.value(), recordJson.encode());
+      }})
+      .withOkapiUrl(OKAPI_URL)
+      .withTenant(TENANT_ID);
+
+    // when
+    Future<String> firstFuture = dataImportJournalKafkaHandler.handle(buildKafkaConsumerRecord(dataImportEventPayload));
+    Future<String> secondFuture = dataImportJournalKafkaHandler.handle(buildKafkaConsumerRecord(dataImportEventPayload));
+
+    // then
+    assertTrue(firstFuture.failed());
+    assertTrue(secondFuture.failed());
+    assertTrue(firstFuture.cause() instanceof PgException);
+  }
+
+  @Test
+  public void shouldSaveBatchWithoutWaitingForWindowWhenLoadLimitReached() {
+    // given
+    ReflectionTestUtils.setField(dataImportJournalKafkaHandler, "batchSize", 100);
+    ReflectionTestUtils.setField(dataImportJournalKafkaHandler, "batchWindowMs", 60000L);
+    ReflectionTestUtils.setField(dataImportJournalKafkaHandler, "loadLimit", 2);
+    Mockito.doAnswer(invocation -> {
+      Handler<AsyncResult<Void>> resultHandler = invocation.getArgument(2);
+      resultHandler.handle(Future.succeededFuture());
+      return null;
+    }).when(journalService).saveBatchWithResponse(any(JsonArray.class), eq(TENANT_ID), any());
+
+    DataImportEventPayload dataImportEventPayload = new DataImportEventPayload()
+      .withEventType(DI_INVENTORY_INSTANCE_CREATED.value())
+      .withJobExecutionId(jobExecution.getId())
+      .withContext(new HashMap<>() {{
+        put(INSTANCE.value(), recordJson.encode());
+        put(MARC_BIBLIOGRAPHIC.value(), recordJson.encode());
+      }})
+      .withOkapiUrl(OKAPI_URL)
+      .withTenant(TENANT_ID);
+
+    // when
+    Future<String> firstFuture = dataImportJournalKafkaHandler.handle(buildKafkaConsumerRecord(dataImportEventPayload));
+    Future<String> secondFuture = dataImportJournalKafkaHandler.handle(buildKafkaConsumerRecord(dataImportEventPayload));
+
+    // then
+    verify(journalService).saveBatchWithResponse(any(JsonArray.class), eq(TENANT_ID), any());
+    assertTrue(firstFuture.succeeded());
+    assertTrue(secondFuture.succeeded());
+  }
+
   private KafkaConsumerRecord<String, String> buildKafkaConsumerRecord(DataImportEventPayload record) {
     String topic = KafkaTopicNameHelper.formatTopicName(ENV_KEY, getDefaultNameSpace(), TENANT_ID, record.getEventType());
     Event event = new Event().withId(UUID.randomUUID().toString()).withEventPayload(Json.encode(record));